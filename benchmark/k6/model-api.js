@@ -0,0 +1,61 @@
+// Shared scenario for model-service (blocking, virtual threads) and model-service-reactive (WebFlux + R2DBC).
+// Usage: k6 run -e BASE_URL=http://localhost:8080 benchmark/k6/model-api.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const API_KEY = __ENV.API_KEY || '';
+const VUS = parseInt(__ENV.VUS || '200', 10);
+const DURATION = __ENV.DURATION || '1m';
+
+const headers = { 'Content-Type': 'application/json' };
+if (API_KEY) {
+    headers['X-API-Key'] = API_KEY;
+}
+
+export const options = {
+    scenarios: {
+        crud: {
+            executor: 'constant-vus',
+            exec: 'crud',
+            vus: VUS,
+            duration: DURATION,
+        },
+        listing: {
+            executor: 'constant-vus',
+            exec: 'listing',
+            vus: Math.max(1, Math.floor(VUS / 10)),
+            duration: DURATION,
+        },
+    },
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'http_req_duration{scenario:crud}': ['p(99)<500'],
+    },
+};
+
+export function setup() {
+    http.del(`${BASE_URL}/erase`, null, { headers });
+}
+
+export function crud() {
+    const id = __VU * 1000000 + __ITER;
+    const created = http.post(`${BASE_URL}/model`, JSON.stringify({ id, name: `model-${id}` }), { headers, tags: { name: 'POST /model' } });
+    check(created, { 'created 201': (r) => r.status === 201 });
+
+    const found = http.get(`${BASE_URL}/model/${id}`, { headers, tags: { name: 'GET /model/{id}' } });
+    check(found, { 'found 200': (r) => r.status === 200 });
+
+    const page = http.get(`${BASE_URL}/model/page?page=0&size=20&sort=id,desc`, { headers, tags: { name: 'GET /model/page' } });
+    check(page, { 'page 200': (r) => r.status === 200 });
+
+    if (__ITER % 2 === 0) {
+        const deleted = http.del(`${BASE_URL}/model/${id}`, null, { headers, tags: { name: 'DELETE /model/{id}' } });
+        check(deleted, { 'deleted 200': (r) => r.status === 200 });
+    }
+}
+
+export function listing() {
+    const all = http.get(`${BASE_URL}/model`, { headers, tags: { name: 'GET /model' } });
+    check(all, { 'list 200': (r) => r.status === 200 });
+}
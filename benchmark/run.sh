@@ -0,0 +1,14 @@
+#!/usr/bin/env sh
+# Runs the shared k6 scenario against both stacks, one after the other.
+# Start them first, e.g.:
+#   java -jar model-service/target/model-service-1.0.0.jar
+#   java -jar model-service-reactive/target/model-service-reactive-1.0.0.jar
+set -e
+
+BLOCKING_URL=${BLOCKING_URL:-http://localhost:8080}
+REACTIVE_URL=${REACTIVE_URL:-http://localhost:8081}
+OUT=${OUT:-benchmark/results}
+
+mkdir -p "$OUT"
+k6 run -e BASE_URL="$BLOCKING_URL" --summary-export "$OUT/blocking.json" benchmark/k6/model-api.js
+k6 run -e BASE_URL="$REACTIVE_URL" --summary-export "$OUT/reactive.json" benchmark/k6/model-api.js
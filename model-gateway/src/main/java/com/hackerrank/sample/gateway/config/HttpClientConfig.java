@@ -0,0 +1,22 @@
+package com.hackerrank.sample.gateway.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// One shared client: it keeps a pool of persistent HTTP/1.1 connections per upstream.
+@Configuration
+public class HttpClientConfig {
+    @Bean
+    public HttpClient upstreamHttpClient(@Value("${app.gateway.connect-timeout:1s}") Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.hackerrank.sample.gateway.proxy;
+
+// Same shape as the error body of model-service, so clients see one format whoever answers.
+public record ErrorResponse(
+        int status,
+        String error,
+        String code,
+        String message,
+        String path,
+        String traceId
+) {
+}
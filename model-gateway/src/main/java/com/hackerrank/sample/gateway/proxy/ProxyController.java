@@ -0,0 +1,189 @@
+package com.hackerrank.sample.gateway.proxy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackerrank.sample.gateway.upstream.HealthChecker;
+import com.hackerrank.sample.gateway.upstream.Upstream;
+import com.hackerrank.sample.gateway.upstream.UpstreamPool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class ProxyController {
+    private static final Set<String> HOP_BY_HOP = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization",
+            "te", "trailer", "transfer-encoding", "upgrade", "host", "content-length", "expect"
+    );
+    // Requests that never reached the upstream can be retried on another one, whatever the method.
+    private static final int MAX_ATTEMPTS = 2;
+    private static final String TRACE_ID_HEADER = "X-Request-Id";
+
+    private final UpstreamPool pool;
+    private final HealthChecker healthChecker;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final MeterRegistry registry;
+    private final ObjectMapper objectMapper;
+
+    public ProxyController(
+            UpstreamPool pool,
+            HealthChecker healthChecker,
+            HttpClient httpClient,
+            MeterRegistry registry,
+            ObjectMapper objectMapper,
+            @Value("${app.gateway.request-timeout:30s}") Duration requestTimeout
+    ) {
+        this.pool = pool;
+        this.healthChecker = healthChecker;
+        this.httpClient = httpClient;
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+    }
+
+    @RequestMapping({"/model", "/model/**", "/erase"})
+    public void proxy(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        String path = request.getRequestURI();
+        String traceId = request.getHeader(TRACE_ID_HEADER);
+        if (traceId == null || traceId.isBlank()) {
+            traceId = UUID.randomUUID().toString();
+        }
+        OptionalLong key = RouteKeys.of(request.getMethod(), path, body);
+        String strategy = key.isPresent() ? "hash" : "least_outstanding";
+
+        Set<Upstream> failed = new HashSet<>();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Upstream upstream = key.isPresent()
+                    ? pool.forKey(key.getAsLong(), failed)
+                    : pool.leastOutstanding(failed);
+            if (upstream == null) {
+                break;
+            }
+
+            upstream.acquire();
+            try {
+                HttpResponse<InputStream> upstreamResponse = httpClient.send(
+                        upstreamRequest(request, upstream, body, traceId),
+                        HttpResponse.BodyHandlers.ofInputStream()
+                );
+                count(upstream, strategy);
+                copy(upstreamResponse, response);
+                return;
+            } catch (ConnectException | HttpConnectTimeoutException ex) {
+                failed.add(upstream);
+                healthChecker.reportFailure(upstream);
+            } catch (HttpTimeoutException ex) {
+                // The upstream got the request and may still apply it, so it is not retried elsewhere.
+                writeError(response, HttpStatus.GATEWAY_TIMEOUT, "UPSTREAM_TIMEOUT", "Upstream did not respond in time.", path, traceId);
+                return;
+            } catch (IOException ex) {
+                // Once the upstream status is out, all that is left is to abort the client connection.
+                if (response.isCommitted()) {
+                    throw ex;
+                }
+                writeError(response, HttpStatus.BAD_GATEWAY, "UPSTREAM_ERROR", "Upstream request failed.", path, traceId);
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                upstream.release();
+            }
+        }
+        if (failed.isEmpty()) {
+            writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "NO_UPSTREAM", "No healthy upstream available.", path, traceId);
+        } else {
+            writeError(response, HttpStatus.BAD_GATEWAY, "UPSTREAM_UNREACHABLE", "Upstream unreachable.", path, traceId);
+        }
+    }
+
+    private HttpRequest upstreamRequest(HttpServletRequest request, Upstream upstream, byte[] body, String traceId) {
+        String query = request.getQueryString();
+        URI uri = URI.create(upstream.baseUri() + request.getRequestURI() + (query == null ? "" : "?" + query));
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .method(request.getMethod(), body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (!HOP_BY_HOP.contains(name.toLowerCase(Locale.ROOT)) && !TRACE_ID_HEADER.equalsIgnoreCase(name)) {
+                for (String value : Collections.list(request.getHeaders(name))) {
+                    builder.header(name, value);
+                }
+            }
+        }
+        builder.header(TRACE_ID_HEADER, traceId);
+        builder.header("X-Forwarded-For", request.getRemoteAddr());
+        return builder.build();
+    }
+
+    // Streams the body through and flushes whenever the upstream pauses, so SSE changes pass unbuffered.
+    private static void copy(HttpResponse<InputStream> upstreamResponse, HttpServletResponse response) throws IOException {
+        response.setStatus(upstreamResponse.statusCode());
+        for (Map.Entry<String, List<String>> header : upstreamResponse.headers().map().entrySet()) {
+            if (!HOP_BY_HOP.contains(header.getKey().toLowerCase(Locale.ROOT)) && !header.getKey().startsWith(":")) {
+                header.getValue().forEach(value -> response.addHeader(header.getKey(), value));
+            }
+        }
+        try (InputStream in = upstreamResponse.body()) {
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        }
+    }
+
+    private void count(Upstream upstream, String strategy) {
+        Counter.builder("gateway.requests")
+                .tag("upstream", upstream.name())
+                .tag("strategy", strategy)
+                .register(registry)
+                .increment();
+    }
+
+    private void writeError(
+            HttpServletResponse response,
+            HttpStatus status,
+            String code,
+            String message,
+            String path,
+            String traceId
+    ) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(TRACE_ID_HEADER, traceId);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(status.value(), status.getReasonPhrase(), code, message, path, traceId));
+    }
+}
@@ -0,0 +1,48 @@
+package com.hackerrank.sample.gateway.proxy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Extracts the model id a request is about: /model/{id}[/...] or the top-level "id" of a POST /model body.
+final class RouteKeys {
+    private static final Pattern ID_PATH = Pattern.compile("^/model/(\\d{1,18})(/.*)?$");
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private RouteKeys() {
+    }
+
+    static OptionalLong of(String method, String path, byte[] body) {
+        Matcher matcher = ID_PATH.matcher(path);
+        if (matcher.matches()) {
+            return OptionalLong.of(Long.parseLong(matcher.group(1)));
+        }
+        if ("POST".equals(method) && "/model".equals(path) && body.length > 0) {
+            return idFromBody(body);
+        }
+        return OptionalLong.empty();
+    }
+
+    private static OptionalLong idFromBody(byte[] body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return OptionalLong.empty();
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("id".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    return OptionalLong.of(parser.getLongValue());
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException ex) {
+            // not JSON we understand; the upstream will reject it
+        }
+        return OptionalLong.empty();
+    }
+}
@@ -0,0 +1,88 @@
+package com.hackerrank.sample.gateway.upstream;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+// Immutable ring of virtual nodes. Each upstream owns virtualNodes points, so removing one moves
+// only its share of the key space and spreads that share over all remaining upstreams.
+final class ConsistentHashRing {
+    static final ConsistentHashRing EMPTY = new ConsistentHashRing(new long[0], new Upstream[0]);
+
+    private final long[] points;
+    private final Upstream[] owners;
+
+    private ConsistentHashRing(long[] points, Upstream[] owners) {
+        this.points = points;
+        this.owners = owners;
+    }
+
+    static ConsistentHashRing build(List<Upstream> upstreams, int virtualNodes) {
+        record Point(long hash, Upstream owner) {
+        }
+        List<Point> all = new ArrayList<>(upstreams.size() * virtualNodes);
+        for (Upstream upstream : upstreams) {
+            for (int i = 0; i < virtualNodes; i++) {
+                all.add(new Point(hash(upstream.name() + "#" + i), upstream));
+            }
+        }
+        all.sort(Comparator.comparingLong(Point::hash));
+        long[] points = new long[all.size()];
+        Upstream[] owners = new Upstream[all.size()];
+        for (int i = 0; i < all.size(); i++) {
+            points[i] = all.get(i).hash();
+            owners[i] = all.get(i).owner();
+        }
+        return new ConsistentHashRing(points, owners);
+    }
+
+    boolean isEmpty() {
+        return points.length == 0;
+    }
+
+    // Walks clockwise from the key and returns the first distinct owner the predicate accepts.
+    Upstream select(long key, Predicate<Upstream> accept) {
+        if (points.length == 0) {
+            return null;
+        }
+        int start = Arrays.binarySearch(points, mix(key));
+        if (start < 0) {
+            start = -start - 1;
+        }
+        List<Upstream> tried = new ArrayList<>(4);
+        for (int i = 0; i < points.length; i++) {
+            Upstream owner = owners[(start + i) % points.length];
+            if (tried.contains(owner)) {
+                continue;
+            }
+            if (accept.test(owner)) {
+                return owner;
+            }
+            tried.add(owner);
+        }
+        return null;
+    }
+
+    Upstream owner(long key) {
+        return select(key, upstream -> true);
+    }
+
+    static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xD6E8FEB86659FD93L;
+        return h ^ (h >>> 32);
+    }
+
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+}
@@ -0,0 +1,99 @@
+package com.hackerrank.sample.gateway.upstream;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// Active checks against each upstream's health endpoint; failureThreshold consecutive failures eject it
+// from the ring and one success brings it back. Proxy connection failures count as failed checks too.
+@Component
+public class HealthChecker implements SmartLifecycle {
+    private final UpstreamPool pool;
+    private final HttpClient httpClient;
+    private final String path;
+    private final Duration interval;
+    private final Duration timeout;
+    private final int failureThreshold;
+    private volatile boolean running;
+    private Thread checker;
+
+    public HealthChecker(
+            UpstreamPool pool,
+            HttpClient httpClient,
+            @Value("${app.gateway.health.path:/actuator/health}") String path,
+            @Value("${app.gateway.health.interval:2s}") Duration interval,
+            @Value("${app.gateway.health.timeout:1s}") Duration timeout,
+            @Value("${app.gateway.health.failure-threshold:2}") int failureThreshold
+    ) {
+        this.pool = pool;
+        this.httpClient = httpClient;
+        this.path = path;
+        this.interval = interval;
+        this.timeout = timeout;
+        this.failureThreshold = failureThreshold;
+    }
+
+    public void reportFailure(Upstream upstream) {
+        pool.recordCheck(upstream, false, failureThreshold);
+    }
+
+    void checkAll() {
+        for (Upstream upstream : pool.upstreams()) {
+            pool.recordCheck(upstream, check(upstream), failureThreshold);
+        }
+    }
+
+    private boolean check(Upstream upstream) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(upstream.baseUri() + path))
+                .timeout(timeout)
+                .GET()
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        checker = Thread.ofVirtual().name("gateway-health-checker").start(this::checkLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        checker.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void checkLoop() {
+        while (running) {
+            checkAll();
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException ex) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.hackerrank.sample.gateway.upstream;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class Upstream {
+    private final String name;
+    private final URI baseUri;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private volatile boolean healthy = true;
+    private int consecutiveFailures;
+
+    public Upstream(String name, URI baseUri) {
+        this.name = name;
+        this.baseUri = baseUri;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public URI baseUri() {
+        return baseUri;
+    }
+
+    public int outstanding() {
+        return outstanding.get();
+    }
+
+    public void acquire() {
+        outstanding.incrementAndGet();
+    }
+
+    public void release() {
+        outstanding.decrementAndGet();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    // Returns true when the health state changed.
+    synchronized boolean recordCheck(boolean success, int failureThreshold) {
+        if (success) {
+            consecutiveFailures = 0;
+            if (!healthy) {
+                healthy = true;
+                return true;
+            }
+            return false;
+        }
+        consecutiveFailures++;
+        if (healthy && consecutiveFailures >= failureThreshold) {
+            healthy = false;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
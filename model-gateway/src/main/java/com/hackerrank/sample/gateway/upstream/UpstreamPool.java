@@ -0,0 +1,105 @@
+package com.hackerrank.sample.gateway.upstream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Id-keyed requests follow the consistent-hash ring of healthy upstreams, with bounded loads: an upstream
+// already carrying more than loadFactor times the average outstanding requests is skipped for the next one
+// on the ring, so one hot id cannot overload its owner. Listings go to the least outstanding upstream.
+@Component
+public class UpstreamPool {
+    private final List<Upstream> upstreams;
+    private final int virtualNodes;
+    private final double loadFactor;
+    private final Counter rebuilds;
+    private final Counter spillovers;
+    private volatile ConsistentHashRing ring;
+
+    public UpstreamPool(
+            MeterRegistry registry,
+            @Value("${app.gateway.upstreams}") List<String> upstreams,
+            @Value("${app.gateway.virtual-nodes:160}") int virtualNodes,
+            @Value("${app.gateway.load-factor:1.25}") double loadFactor
+    ) {
+        List<Upstream> parsed = new ArrayList<>(upstreams.size());
+        for (String upstream : upstreams) {
+            URI uri = URI.create(upstream.trim().replaceAll("/+$", ""));
+            parsed.add(new Upstream(uri.getAuthority(), uri));
+        }
+        this.upstreams = List.copyOf(parsed);
+        this.virtualNodes = virtualNodes;
+        this.loadFactor = Math.max(1.0, loadFactor);
+        this.rebuilds = Counter.builder("gateway.ring.rebuilds").register(registry);
+        this.spillovers = Counter.builder("gateway.hash.spillovers").register(registry);
+        for (Upstream upstream : this.upstreams) {
+            Gauge.builder("gateway.upstream.outstanding", upstream, Upstream::outstanding)
+                    .tag("upstream", upstream.name())
+                    .register(registry);
+            Gauge.builder("gateway.upstream.healthy", upstream, u -> u.isHealthy() ? 1 : 0)
+                    .tag("upstream", upstream.name())
+                    .register(registry);
+        }
+        rebuild();
+    }
+
+    public List<Upstream> upstreams() {
+        return upstreams;
+    }
+
+    // Null when no upstream outside excluded is healthy.
+    public Upstream forKey(long key, Set<Upstream> excluded) {
+        ConsistentHashRing current = ring;
+        if (current.isEmpty()) {
+            return null;
+        }
+        long healthy = upstreams.stream().filter(Upstream::isHealthy).count();
+        int totalOutstanding = upstreams.stream().mapToInt(Upstream::outstanding).sum();
+        double capacity = Math.ceil(loadFactor * (totalOutstanding + 1) / Math.max(1, healthy));
+
+        Upstream owner = current.select(key, upstream -> !excluded.contains(upstream));
+        Upstream chosen = current.select(key, upstream -> !excluded.contains(upstream) && upstream.outstanding() < capacity);
+        if (chosen == null) {
+            return owner;
+        }
+        if (chosen != owner) {
+            spillovers.increment();
+        }
+        return chosen;
+    }
+
+    public Upstream leastOutstanding(Set<Upstream> excluded) {
+        Upstream best = null;
+        int ties = 0;
+        for (Upstream upstream : upstreams) {
+            if (!upstream.isHealthy() || excluded.contains(upstream)) {
+                continue;
+            }
+            if (best == null || upstream.outstanding() < best.outstanding()) {
+                best = upstream;
+                ties = 1;
+            } else if (upstream.outstanding() == best.outstanding() && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+                best = upstream;
+            }
+        }
+        return best;
+    }
+
+    public void recordCheck(Upstream upstream, boolean success, int failureThreshold) {
+        if (upstream.recordCheck(success, failureThreshold)) {
+            rebuild();
+        }
+    }
+
+    private synchronized void rebuild() {
+        ring = ConsistentHashRing.build(upstreams.stream().filter(Upstream::isHealthy).toList(), virtualNodes);
+        rebuilds.increment();
+    }
+}
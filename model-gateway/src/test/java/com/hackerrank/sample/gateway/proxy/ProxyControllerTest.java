@@ -0,0 +1,91 @@
+package com.hackerrank.sample.gateway.proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackerrank.sample.gateway.upstream.HealthChecker;
+import com.hackerrank.sample.gateway.upstream.UpstreamPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ProxyControllerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = mock(HttpClient.class);
+    private final HealthChecker healthChecker = mock(HealthChecker.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ProxyController controller = new ProxyController(
+            new UpstreamPool(registry, List.of("http://localhost:8081", "http://localhost:8082"), 160, 1.25),
+            healthChecker,
+            httpClient,
+            registry,
+            objectMapper,
+            Duration.ofSeconds(1)
+    );
+
+    private JsonNode proxy(MockHttpServletResponse response) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/model/7");
+        request.addHeader("X-Request-Id", "trace-1");
+        controller.proxy(request, response);
+        return objectMapper.readTree(response.getContentAsByteArray());
+    }
+
+    @Test
+    public void timeoutsAreGatewayTimeoutsAndNotRetried() throws Exception {
+        when(httpClient.send(any(HttpRequest.class), ArgumentMatchers.<HttpResponse.BodyHandler<InputStream>>any()))
+                .thenThrow(new HttpTimeoutException("request timed out"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        JsonNode body = proxy(response);
+
+        assertEquals(504, response.getStatus());
+        assertEquals(504, body.get("status").asInt());
+        assertEquals("Gateway Timeout", body.get("error").asText());
+        assertEquals("UPSTREAM_TIMEOUT", body.get("code").asText());
+        assertEquals("/model/7", body.get("path").asText());
+        assertEquals("trace-1", body.get("traceId").asText());
+        verify(httpClient, times(1)).send(any(HttpRequest.class), ArgumentMatchers.<HttpResponse.BodyHandler<InputStream>>any());
+    }
+
+    @Test
+    public void otherIoFailuresAreBadGateway() throws Exception {
+        when(httpClient.send(any(HttpRequest.class), ArgumentMatchers.<HttpResponse.BodyHandler<InputStream>>any()))
+                .thenThrow(new IOException("connection reset"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        JsonNode body = proxy(response);
+
+        assertEquals(502, response.getStatus());
+        assertEquals("UPSTREAM_ERROR", body.get("code").asText());
+    }
+
+    @Test
+    public void unreachableUpstreamsAreRetriedThenReported() throws Exception {
+        when(httpClient.send(any(HttpRequest.class), ArgumentMatchers.<HttpResponse.BodyHandler<InputStream>>any()))
+                .thenThrow(new ConnectException("refused"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        JsonNode body = proxy(response);
+
+        assertEquals(502, response.getStatus());
+        assertEquals("UPSTREAM_UNREACHABLE", body.get("code").asText());
+        verify(healthChecker, times(2)).reportFailure(any());
+    }
+}
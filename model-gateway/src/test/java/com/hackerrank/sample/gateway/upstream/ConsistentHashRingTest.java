@@ -0,0 +1,72 @@
+package com.hackerrank.sample.gateway.upstream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class ConsistentHashRingTest {
+    private static final int KEYS = 100_000;
+
+    private static List<Upstream> upstreams(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Upstream("node" + i, URI.create("http://localhost:" + (8080 + i))))
+                .toList();
+    }
+
+    @Test
+    public void spreadsKeysEvenly() {
+        List<Upstream> upstreams = upstreams(4);
+        ConsistentHashRing ring = ConsistentHashRing.build(upstreams, 160);
+
+        Map<Upstream, Integer> counts = new HashMap<>();
+        for (long key = 1; key <= KEYS; key++) {
+            counts.merge(ring.owner(key), 1, Integer::sum);
+        }
+
+        assertEquals(4, counts.size());
+        for (int count : counts.values()) {
+            assertTrue("share was " + count, Math.abs(count - KEYS / 4) < KEYS / 4 * 0.2);
+        }
+    }
+
+    @Test
+    public void removingAnUpstreamOnlyMovesItsKeys() {
+        List<Upstream> upstreams = upstreams(4);
+        ConsistentHashRing before = ConsistentHashRing.build(upstreams, 160);
+        ConsistentHashRing after = ConsistentHashRing.build(upstreams.subList(0, 3), 160);
+        Upstream removed = upstreams.get(3);
+
+        int moved = 0;
+        for (long key = 1; key <= KEYS; key++) {
+            Upstream owner = before.owner(key);
+            if (owner == removed) {
+                assertNotEquals(removed, after.owner(key));
+                moved++;
+            } else {
+                assertEquals(owner, after.owner(key));
+            }
+        }
+        assertTrue(moved > 0);
+    }
+
+    @Test
+    public void selectSkipsRejectedOwners() {
+        List<Upstream> upstreams = upstreams(3);
+        ConsistentHashRing ring = ConsistentHashRing.build(upstreams, 160);
+        Upstream owner = ring.owner(42L);
+
+        Upstream next = ring.select(42L, upstream -> upstream != owner);
+
+        assertNotEquals(owner, next);
+        assertNull(ring.select(42L, upstream -> false));
+        assertNull(ConsistentHashRing.EMPTY.owner(42L));
+    }
+}
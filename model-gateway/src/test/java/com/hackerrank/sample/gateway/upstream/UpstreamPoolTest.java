@@ -0,0 +1,65 @@
+package com.hackerrank.sample.gateway.upstream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class UpstreamPoolTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UpstreamPool pool = new UpstreamPool(
+            registry,
+            List.of("http://localhost:8081", "http://localhost:8082/", "http://localhost:8083"),
+            160,
+            1.25
+    );
+
+    @Test
+    public void sameKeyGoesToTheSameUpstream() {
+        Upstream first = pool.forKey(7L, Set.of());
+
+        assertSame(first, pool.forKey(7L, Set.of()));
+        assertEquals("localhost:8082", pool.upstreams().get(1).name());
+    }
+
+    @Test
+    public void overloadedOwnerSpillsOverToTheNextUpstream() {
+        Upstream owner = pool.forKey(7L, Set.of());
+        for (int i = 0; i < 10; i++) {
+            owner.acquire();
+        }
+
+        Upstream chosen = pool.forKey(7L, Set.of());
+
+        assertNotEquals(owner, chosen);
+        assertEquals(1.0, registry.counter("gateway.hash.spillovers").count(), 0.0);
+    }
+
+    @Test
+    public void unhealthyUpstreamLeavesTheRingUntilItRecovers() {
+        Upstream owner = pool.forKey(7L, Set.of());
+
+        pool.recordCheck(owner, false, 2);
+        assertSame(owner, pool.forKey(7L, Set.of()));
+        pool.recordCheck(owner, false, 2);
+        assertNotEquals(owner, pool.forKey(7L, Set.of()));
+
+        pool.recordCheck(owner, true, 2);
+        assertSame(owner, pool.forKey(7L, Set.of()));
+    }
+
+    @Test
+    public void leastOutstandingHonoursExclusions() {
+        Upstream busy = pool.upstreams().get(0);
+        busy.acquire();
+        Upstream excluded = pool.upstreams().get(1);
+
+        assertSame(pool.upstreams().get(2), pool.leastOutstanding(Set.of(excluded)));
+        assertNull(pool.leastOutstanding(Set.copyOf(pool.upstreams())));
+    }
+}
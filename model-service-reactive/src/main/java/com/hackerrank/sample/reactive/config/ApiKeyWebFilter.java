@@ -0,0 +1,53 @@
+package com.hackerrank.sample.reactive.config;
+
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.reactive.CorsUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+// WebFlux counterpart of ApiKeyAuthFilter in model-service. With no key configured every request passes;
+// CORS preflights always pass so the browser can learn it has to send the key.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ApiKeyWebFilter implements WebFilter {
+    private static final Set<String> PUBLIC_PATHS = Set.of(
+            "/",
+            "/actuator/health",
+            "/actuator/info",
+            "/actuator/metrics"
+    );
+
+    private final String apiKey;
+    private final String headerName;
+
+    public ApiKeyWebFilter(
+            @Value("${app.security.api-key:}") String apiKey,
+            @Value("${app.security.api-key-header:X-API-Key}") String headerName
+    ) {
+        this.apiKey = apiKey;
+        this.headerName = headerName;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (apiKey == null || apiKey.isBlank()
+                || CorsUtils.isPreFlightRequest(exchange.getRequest())
+                || PUBLIC_PATHS.contains(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+
+        String providedKey = exchange.getRequest().getHeaders().getFirst(headerName);
+        if (providedKey == null || !providedKey.equals(apiKey)) {
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
+        }
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,34 @@
+package com.hackerrank.sample.reactive.config;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+// Same origins and methods as CorsConfig in model-service; WebFlux applies these mappings to router functions too.
+@Configuration
+public class CorsConfig implements WebFluxConfigurer {
+    private final List<String> allowedOrigins;
+
+    public CorsConfig(@Value("${app.cors.allowed-origins:}") String allowedOrigins) {
+        this.allowedOrigins = Arrays.stream(allowedOrigins.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        if (allowedOrigins.isEmpty()) {
+            return;
+        }
+
+        registry.addMapping("/**")
+                .allowedOrigins(allowedOrigins.toArray(new String[0]))
+                .allowedMethods("GET", "POST", "DELETE")
+                .allowedHeaders("*");
+    }
+}
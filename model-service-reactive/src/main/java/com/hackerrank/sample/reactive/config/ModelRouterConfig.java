@@ -0,0 +1,29 @@
+package com.hackerrank.sample.reactive.config;
+
+import com.hackerrank.sample.reactive.exception.ModelErrorHandler;
+import com.hackerrank.sample.reactive.handler.ModelHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+// Same routes as ModelController; /model/page is declared before /model/{id} because routes match in order.
+@Configuration
+public class ModelRouterConfig {
+    @Bean
+    public RouterFunction<ServerResponse> modelRoutes(ModelHandler handler, ModelErrorHandler errorHandler) {
+        return RouterFunctions.route()
+                .GET("/", handler::home)
+                .POST("/model", RequestPredicates.contentType(MediaType.APPLICATION_JSON), handler::createNewModel)
+                .DELETE("/erase", handler::deleteAllModels)
+                .DELETE("/model/{id}", handler::deleteModelById)
+                .GET("/model", handler::getAllModels)
+                .GET("/model/page", handler::getModelsPage)
+                .GET("/model/{id}", handler::getModelById)
+                .onError(Throwable.class, errorHandler::handle)
+                .build();
+    }
+}
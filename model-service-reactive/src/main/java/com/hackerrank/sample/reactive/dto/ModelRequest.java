@@ -0,0 +1,36 @@
+package com.hackerrank.sample.reactive.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public class ModelRequest {
+    @NotNull(message = "id is required")
+    private Long id;
+
+    @NotBlank(message = "name is required")
+    private String name;
+
+    public ModelRequest() {
+    }
+
+    public ModelRequest(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
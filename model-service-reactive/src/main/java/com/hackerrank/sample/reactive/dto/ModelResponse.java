@@ -0,0 +1,30 @@
+package com.hackerrank.sample.reactive.dto;
+
+public class ModelResponse {
+    private Long id;
+    private String name;
+
+    public ModelResponse() {
+    }
+
+    public ModelResponse(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,21 @@
+package com.hackerrank.sample.reactive.exception;
+
+public record ErrorResponse(
+        int status,
+        String error,
+        String code,
+        String message,
+        String path,
+        String traceId
+) {
+    public static ErrorResponse of(
+            int status,
+            String error,
+            String code,
+            String message,
+            String path,
+            String traceId
+    ) {
+        return new ErrorResponse(status, error, code, message, path, traceId);
+    }
+}
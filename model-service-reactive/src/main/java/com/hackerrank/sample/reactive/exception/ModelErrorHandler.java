@@ -0,0 +1,47 @@
+package com.hackerrank.sample.reactive.exception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+// Functional-endpoint counterpart of GlobalExceptionHandler in model-service: same codes, same body.
+@Component
+public class ModelErrorHandler {
+    private static final Logger log = LoggerFactory.getLogger(ModelErrorHandler.class);
+    private static final String TRACE_ID_HEADER = "X-Request-Id";
+
+    public Mono<ServerResponse> handle(Throwable ex, ServerRequest request) {
+        if (ex instanceof BadResourceRequestException) {
+            return buildResponse(HttpStatus.BAD_REQUEST, "BAD_REQUEST", ex.getMessage(), request);
+        }
+        if (ex instanceof NoSuchResourceFoundException) {
+            return buildResponse(HttpStatus.NOT_FOUND, "NOT_FOUND", ex.getMessage(), request);
+        }
+        if (ex instanceof RequestValidationException) {
+            return buildResponse(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", ex.getMessage(), request);
+        }
+        if (ex instanceof ServerWebInputException) {
+            return buildResponse(HttpStatus.BAD_REQUEST, "INVALID_JSON", "Invalid JSON body.", request);
+        }
+        log.error("Unexpected error on {}", request.path(), ex);
+        return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "UNEXPECTED_ERROR", "Unexpected error.", request);
+    }
+
+    private Mono<ServerResponse> buildResponse(HttpStatus status, String code, String message, ServerRequest request) {
+        String traceId = request.headers().firstHeader(TRACE_ID_HEADER);
+        ErrorResponse response = ErrorResponse.of(
+                status.value(),
+                status.getReasonPhrase(),
+                code,
+                message,
+                request.path(),
+                traceId == null ? "unknown" : traceId
+        );
+        return ServerResponse.status(status).bodyValue(response);
+    }
+}
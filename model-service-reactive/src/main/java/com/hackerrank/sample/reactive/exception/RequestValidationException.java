@@ -0,0 +1,11 @@
+package com.hackerrank.sample.reactive.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class RequestValidationException extends RuntimeException {
+    public RequestValidationException(String msg) {
+        super(msg);
+    }
+}
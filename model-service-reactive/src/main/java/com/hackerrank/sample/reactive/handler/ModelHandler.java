@@ -0,0 +1,121 @@
+package com.hackerrank.sample.reactive.handler;
+
+import com.hackerrank.sample.reactive.dto.ModelPageQuery;
+import com.hackerrank.sample.reactive.dto.ModelRequest;
+import com.hackerrank.sample.reactive.dto.ModelResponse;
+import com.hackerrank.sample.reactive.exception.BadResourceRequestException;
+import com.hackerrank.sample.reactive.exception.RequestValidationException;
+import com.hackerrank.sample.reactive.model.Model;
+import com.hackerrank.sample.reactive.service.ReactiveModelService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+public class ModelHandler {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final ReactiveModelService modelService;
+    private final Validator validator;
+
+    public ModelHandler(ReactiveModelService modelService, Validator validator) {
+        this.modelService = modelService;
+        this.validator = validator;
+    }
+
+    public Mono<ServerResponse> home(ServerRequest request) {
+        return ServerResponse.ok().contentType(MediaType.TEXT_PLAIN).bodyValue("Default Java 21 Project Home Page");
+    }
+
+    public Mono<ServerResponse> createNewModel(ServerRequest request) {
+        return request.bodyToMono(ModelRequest.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Missing request body")))
+                .map(this::validate)
+                .flatMap(body -> modelService.createModel(new Model(body.getId(), body.getName())))
+                .flatMap(model -> ServerResponse.status(HttpStatus.CREATED).bodyValue(toResponse(model)));
+    }
+
+    public Mono<ServerResponse> deleteAllModels(ServerRequest request) {
+        return modelService.deleteAllModels()
+                .then(ServerResponse.ok().bodyValue(Map.of("message", "All models deleted.")));
+    }
+
+    public Mono<ServerResponse> deleteModelById(ServerRequest request) {
+        Long id = id(request);
+        return modelService.deleteModelById(id)
+                .then(ServerResponse.ok().bodyValue(Map.of("message", "Model deleted.", "id", id)));
+    }
+
+    // Rows are written to the socket as they arrive from R2DBC; NDJSON when asked for, otherwise a streamed JSON array.
+    public Mono<ServerResponse> getAllModels(ServerRequest request) {
+        Flux<ModelResponse> models = modelService.getAllModels().map(ModelHandler::toResponse);
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(contentType).body(models, ModelResponse.class);
+    }
+
+    public Mono<ServerResponse> getModelById(ServerRequest request) {
+        return modelService.getModelById(id(request))
+                .flatMap(model -> ServerResponse.ok().bodyValue(toResponse(model)));
+    }
+
+    public Mono<ServerResponse> getModelsPage(ServerRequest request) {
+        ModelPageQuery query = ModelPageQuery.of(pageable(request), request.queryParam("namePrefix").orElse(null));
+        return modelService.getModelsPage(query)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page.map(ModelHandler::toResponse)));
+    }
+
+    private ModelRequest validate(ModelRequest body) {
+        Set<ConstraintViolation<ModelRequest>> violations = validator.validate(body);
+        if (!violations.isEmpty()) {
+            throw new RequestValidationException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return body;
+    }
+
+    private static Long id(ServerRequest request) {
+        try {
+            return Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException ex) {
+            throw new BadResourceRequestException("id must be a number.");
+        }
+    }
+
+    // Mirrors Spring Data's web binding: page, size and repeated sort=property[,asc|desc].
+    static Pageable pageable(ServerRequest request) {
+        int page = request.queryParam("page").map(Integer::parseInt).orElse(0);
+        int size = request.queryParam("size").map(Integer::parseInt).orElse(DEFAULT_PAGE_SIZE);
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String sort : request.queryParams().getOrDefault("sort", List.of())) {
+            String[] parts = sort.split(",");
+            Sort.Direction direction = parts.length > 1
+                    ? Sort.Direction.fromOptionalString(parts[1]).orElse(Sort.Direction.ASC)
+                    : Sort.Direction.ASC;
+            orders.add(new Sort.Order(direction, parts[0]));
+        }
+        return PageRequest.of(page, size, Sort.by(orders));
+    }
+
+    private static ModelResponse toResponse(Model model) {
+        return new ModelResponse(model.getId(), model.getName());
+    }
+}
@@ -0,0 +1,53 @@
+package com.hackerrank.sample.reactive.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("model")
+public class Model implements Persistable<Long> {
+    @Id
+    private Long id;
+
+    private String name;
+
+    // Ids are client-assigned, so save() must be told to INSERT rather than UPDATE.
+    @Transient
+    private boolean isNew;
+
+    public Model() {
+    }
+
+    public Model(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public static Model newModel(Long id, String name) {
+        Model model = new Model(id, name);
+        model.isNew = true;
+        return model;
+    }
+
+    public Long getId() {
+        return this.id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean isNew() {
+        return this.isNew;
+    }
+}
@@ -0,0 +1,29 @@
+package com.hackerrank.sample.reactive.port;
+
+import com.hackerrank.sample.reactive.model.Model;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveModelRepositoryPort {
+    Mono<Void> deleteAll();
+
+    Mono<Void> deleteById(Long id);
+
+    Mono<Boolean> existsById(Long id);
+
+    Mono<Model> findById(Long id);
+
+    Mono<Model> save(Model model);
+
+    Flux<Model> findAll();
+
+    Flux<Model> findAll(Pageable pageable);
+
+    // Models whose name starts with namePrefix (case-sensitive), so storage can answer from the name index.
+    Flux<Model> findByNamePrefix(String namePrefix, Pageable pageable);
+
+    Mono<Long> countByNamePrefix(String namePrefix);
+
+    Mono<Long> count();
+}
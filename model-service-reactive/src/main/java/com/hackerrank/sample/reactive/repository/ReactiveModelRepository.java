@@ -0,0 +1,18 @@
+package com.hackerrank.sample.reactive.repository;
+
+import com.hackerrank.sample.reactive.model.Model;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository("reactiveModelRepository")
+public interface ReactiveModelRepository extends R2dbcRepository<Model, Long> {
+    Flux<Model> findAllBy(Pageable pageable);
+
+    // LIKE 'prefix%' with the wildcards in the prefix escaped, which idx_model_name can serve.
+    Flux<Model> findByNameStartingWith(String namePrefix, Pageable pageable);
+
+    Mono<Long> countByNameStartingWith(String namePrefix);
+}
@@ -0,0 +1,94 @@
+package com.hackerrank.sample.reactive.repository;
+
+import com.hackerrank.sample.reactive.model.Model;
+import com.hackerrank.sample.reactive.port.ReactiveModelRepositoryPort;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class ReactiveModelRepositoryAdapter implements ReactiveModelRepositoryPort {
+    private final ReactiveModelRepository modelRepository;
+    // Simulated slow storage for benchmarks; applied as a non-blocking delay before each call.
+    private final Duration latency;
+
+    public ReactiveModelRepositoryAdapter(
+            ReactiveModelRepository modelRepository,
+            @Value("${app.storage.latency:0ms}") Duration latency
+    ) {
+        this.modelRepository = modelRepository;
+        this.latency = latency;
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return delayed(modelRepository.deleteAll());
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return delayed(modelRepository.deleteById(id));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return delayed(modelRepository.existsById(id));
+    }
+
+    @Override
+    public Mono<Model> findById(Long id) {
+        return delayed(modelRepository.findById(id));
+    }
+
+    @Override
+    public Mono<Model> save(Model model) {
+        return delayed(modelRepository.save(model));
+    }
+
+    @Override
+    public Flux<Model> findAll() {
+        return latency.isZero() ? modelRepository.findAll() : modelRepository.findAll().delaySubscription(latency);
+    }
+
+    @Override
+    public Flux<Model> findAll(Pageable pageable) {
+        Flux<Model> page = modelRepository.findAllBy(stable(pageable));
+        return latency.isZero() ? page : page.delaySubscription(latency);
+    }
+
+    @Override
+    public Flux<Model> findByNamePrefix(String namePrefix, Pageable pageable) {
+        Flux<Model> page = modelRepository.findByNameStartingWith(namePrefix, stable(pageable));
+        return latency.isZero() ? page : page.delaySubscription(latency);
+    }
+
+    @Override
+    public Mono<Long> countByNamePrefix(String namePrefix) {
+        return delayed(modelRepository.countByNameStartingWith(namePrefix));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return delayed(modelRepository.count());
+    }
+
+    private <T> Mono<T> delayed(Mono<T> call) {
+        return latency.isZero() ? call : call.delaySubscription(latency);
+    }
+
+    // Names are not unique, so id breaks ties for stable pages, in the direction of the last order so
+    // ORDER BY name, id follows the (name, id) index either way. Same rule as the blocking adapter.
+    private static Pageable stable(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (pageable.isUnpaged() || sort.isUnsorted() || sort.getOrderFor("id") != null) {
+            return pageable;
+        }
+        Sort.Direction direction = sort.toList().get(sort.toList().size() - 1).getDirection();
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort.and(Sort.by(direction, "id")));
+    }
+}
@@ -0,0 +1,75 @@
+package com.hackerrank.sample.reactive.service;
+
+import com.hackerrank.sample.reactive.dto.ModelPageQuery;
+import com.hackerrank.sample.reactive.exception.BadResourceRequestException;
+import com.hackerrank.sample.reactive.exception.NoSuchResourceFoundException;
+import com.hackerrank.sample.reactive.model.Model;
+import com.hackerrank.sample.reactive.port.ReactiveModelRepositoryPort;
+import java.util.List;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Same rules and messages as ModelServiceImpl in model-service, so both stacks answer identically.
+@Service
+public class ReactiveModelService {
+    private final ReactiveModelRepositoryPort modelRepository;
+
+    public ReactiveModelService(ReactiveModelRepositoryPort modelRepository) {
+        this.modelRepository = modelRepository;
+    }
+
+    public Mono<Model> getModelById(Long id) {
+        if (id == null) {
+            return Mono.error(new BadResourceRequestException("id is required."));
+        }
+        return modelRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new NoSuchResourceFoundException("No model with given id found.")));
+    }
+
+    public Mono<Model> createModel(Model model) {
+        if (model.getId() == null) {
+            return Mono.error(new BadResourceRequestException("id is required."));
+        }
+        return modelRepository.existsById(model.getId())
+                .flatMap(exists -> exists
+                        ? Mono.<Model>error(new BadResourceRequestException("Model with same id exists."))
+                        : modelRepository.save(Model.newModel(model.getId(), model.getName())))
+                .onErrorMap(DataIntegrityViolationException.class,
+                        ex -> new BadResourceRequestException("Model with same id exists."));
+    }
+
+    public Mono<Void> deleteModelById(Long id) {
+        if (id == null) {
+            return Mono.error(new BadResourceRequestException("id is required."));
+        }
+        return modelRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? modelRepository.deleteById(id)
+                        : Mono.error(new NoSuchResourceFoundException("No model with given id found.")));
+    }
+
+    public Mono<Void> deleteAllModels() {
+        return modelRepository.deleteAll();
+    }
+
+    public Flux<Model> getAllModels() {
+        return modelRepository.findAll();
+    }
+
+    public Mono<Page<Model>> getModelsPage(ModelPageQuery query) {
+        Pageable pageable = query.pageable();
+        Mono<List<Model>> content = query.hasNamePrefix()
+                ? modelRepository.findByNamePrefix(query.namePrefix(), pageable).collectList()
+                : modelRepository.findAll(pageable).collectList();
+        Mono<Long> total = query.hasNamePrefix()
+                ? modelRepository.countByNamePrefix(query.namePrefix())
+                : modelRepository.count();
+        return Mono.zip(content, total)
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+}
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS model (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL
+);
+
+-- Serves name sorts (with id as tie-breaker) and namePrefix filters on /model/page.
+CREATE INDEX IF NOT EXISTS idx_model_name ON model (name, id);
@@ -0,0 +1,51 @@
+package com.hackerrank.sample.reactive.config;
+
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+public class ApiKeyWebFilterTest {
+    private static final RouterFunction<ServerResponse> ROUTES = RouterFunctions.route()
+            .GET("/", request -> ServerResponse.ok().build())
+            .POST("/model", request -> ServerResponse.status(201).build())
+            .build();
+
+    private final WebTestClient client = WebTestClient.bindToRouterFunction(ROUTES)
+            .webFilter(new ApiKeyWebFilter("secret", "X-API-Key"))
+            .build();
+
+    @Test
+    public void unauthenticatedPostIsRejected() {
+        client.post().uri("/model")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"id\":1,\"name\":\"a\"}")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    public void postWithApiKeyPasses() {
+        client.post().uri("/model")
+                .header("X-API-Key", "secret")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"id\":1,\"name\":\"a\"}")
+                .exchange()
+                .expectStatus().isCreated();
+    }
+
+    @Test
+    public void publicPathsAndPreflightsNeedNoKey() {
+        client.get().uri("/").exchange().expectStatus().isOk();
+        client.options().uri("/model")
+                .header(HttpHeaders.ORIGIN, "https://example.com")
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST")
+                .exchange()
+                .expectStatus().value(status -> assertNotEquals(401, status.intValue()));
+    }
+}
@@ -0,0 +1,105 @@
+package com.hackerrank.sample.reactive.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hackerrank.sample.reactive.dto.ModelPageQuery;
+import com.hackerrank.sample.reactive.exception.BadResourceRequestException;
+import com.hackerrank.sample.reactive.exception.NoSuchResourceFoundException;
+import com.hackerrank.sample.reactive.model.Model;
+import com.hackerrank.sample.reactive.port.ReactiveModelRepositoryPort;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveModelServiceTest {
+    @Mock
+    private ReactiveModelRepositoryPort modelRepository;
+
+    @InjectMocks
+    private ReactiveModelService modelService;
+
+    @Test
+    public void createModelSavesAsNewRow() {
+        when(modelRepository.existsById(1L)).thenReturn(Mono.just(false));
+        when(modelRepository.save(any(Model.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(modelService.createModel(new Model(1L, "a")))
+                .expectNextMatches(model -> model.isNew() && model.getId() == 1L)
+                .verifyComplete();
+    }
+
+    @Test
+    public void createModelRejectsExistingId() {
+        when(modelRepository.existsById(1L)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(modelService.createModel(new Model(1L, "a")))
+                .expectErrorMatches(ex -> ex instanceof BadResourceRequestException
+                        && ex.getMessage().equals("Model with same id exists."))
+                .verify();
+        verify(modelRepository, never()).save(any(Model.class));
+    }
+
+    @Test
+    public void createModelMapsConcurrentInsertToDuplicate() {
+        when(modelRepository.existsById(1L)).thenReturn(Mono.just(false));
+        when(modelRepository.save(any(Model.class))).thenReturn(Mono.error(new DuplicateKeyException("pk")));
+
+        StepVerifier.create(modelService.createModel(new Model(1L, "a")))
+                .expectError(BadResourceRequestException.class)
+                .verify();
+    }
+
+    @Test
+    public void getModelByIdFailsWhenMissing() {
+        when(modelRepository.findById(9L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(modelService.getModelById(9L))
+                .expectError(NoSuchResourceFoundException.class)
+                .verify();
+    }
+
+    @Test
+    public void deleteModelByIdFailsWhenMissing() {
+        when(modelRepository.existsById(9L)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(modelService.deleteModelById(9L))
+                .expectError(NoSuchResourceFoundException.class)
+                .verify();
+        verify(modelRepository, never()).deleteById(9L);
+    }
+
+    @Test
+    public void getModelsPageCombinesContentAndCount() {
+        PageRequest pageable = PageRequest.of(1, 2);
+        when(modelRepository.findAll(pageable)).thenReturn(Flux.fromIterable(List.of(new Model(3L, "c"))));
+        when(modelRepository.count()).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(modelService.getModelsPage(ModelPageQuery.of(pageable, null)))
+                .expectNextMatches(page -> page.getTotalElements() == 3 && page.getContent().size() == 1)
+                .verifyComplete();
+    }
+
+    @Test
+    public void getModelsPageFiltersByNamePrefix() {
+        PageRequest pageable = PageRequest.of(0, 2);
+        when(modelRepository.findByNamePrefix("mo", pageable)).thenReturn(Flux.just(new Model(1L, "model")));
+        when(modelRepository.countByNamePrefix("mo")).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(modelService.getModelsPage(ModelPageQuery.of(pageable, "mo")))
+                .expectNextMatches(page -> page.getTotalElements() == 1 && page.getContent().get(0).getName().equals("model"))
+                .verifyComplete();
+        verify(modelRepository, never()).findAll(any(PageRequest.class));
+    }
+}
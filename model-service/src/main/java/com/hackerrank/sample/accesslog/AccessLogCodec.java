@@ -0,0 +1,87 @@
+package com.hackerrank.sample.accesslog;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// File layout: a 5-byte header (magic "MSAL", version), then records, each prefixed with its length:
+// short length | long timestamp | short status | int latency micros | long model id | str method | str route | str trace id
+// where str is an unsigned byte length followed by UTF-8 bytes. A record cut short by a crash is skipped by readers.
+final class AccessLogCodec {
+    static final int MAGIC = 0x4D53414C;
+    static final byte VERSION = 1;
+    static final int HEADER_BYTES = 5;
+    static final int MAX_STRING_BYTES = 255;
+    static final int MAX_RECORD_BYTES = 2 + 8 + 2 + 4 + 8 + 3 * (1 + MAX_STRING_BYTES);
+
+    private AccessLogCodec() {
+    }
+
+    static void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+    }
+
+    static void encode(ByteBuffer buffer, long timestampMillis, String method, String route, int status,
+                       long latencyMicros, String traceId, long modelId) {
+        int start = buffer.position();
+        buffer.putShort((short) 0);
+        buffer.putLong(timestampMillis);
+        buffer.putShort((short) status);
+        buffer.putInt((int) Math.min(latencyMicros, Integer.MAX_VALUE));
+        buffer.putLong(modelId);
+        putString(buffer, method);
+        putString(buffer, route);
+        putString(buffer, traceId);
+        buffer.putShort(start, (short) (buffer.position() - start - 2));
+    }
+
+    static void readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an access log file");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported access log version " + version);
+        }
+    }
+
+    // Returns null at the end of the file, including after a truncated last record.
+    static AccessLogRecord decode(DataInputStream in) throws IOException {
+        try {
+            int length = in.readUnsignedShort();
+            byte[] body = in.readNBytes(length);
+            if (body.length < length) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(body);
+            long timestamp = buffer.getLong();
+            int status = buffer.getShort();
+            long latency = buffer.getInt();
+            long modelId = buffer.getLong();
+            String method = getString(buffer);
+            String route = getString(buffer);
+            String traceId = getString(buffer);
+            return new AccessLogRecord(timestamp, method, route, status, latency, traceId,
+                    modelId == AccessLogRing.NO_MODEL_ID ? null : modelId);
+        } catch (EOFException ex) {
+            return null;
+        }
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_STRING_BYTES);
+        buffer.put((byte) length);
+        buffer.put(bytes, 0, length);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = Byte.toUnsignedInt(buffer.get());
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
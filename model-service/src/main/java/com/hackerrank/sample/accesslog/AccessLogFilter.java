@@ -0,0 +1,69 @@
+package com.hackerrank.sample.accesslog;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+public class AccessLogFilter extends OncePerRequestFilter {
+    // Handlers that learn the model id from the body (POST /model) publish it under this attribute.
+    public static final String MODEL_ID_ATTRIBUTE = AccessLogFilter.class.getName() + ".modelId";
+    private static final String TRACE_ID_HEADER = "X-Request-Id";
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final AccessLogWriter writer;
+
+    public AccessLogFilter(AccessLogWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !writer.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long startedMillis = System.currentTimeMillis();
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            writer.log(
+                    startedMillis,
+                    request.getMethod(),
+                    pattern == null ? UNMATCHED_ROUTE : pattern.toString(),
+                    response.getStatus(),
+                    (System.nanoTime() - started) / 1_000,
+                    response.getHeader(TRACE_ID_HEADER),
+                    modelId(request)
+            );
+        }
+    }
+
+    private static Long modelId(HttpServletRequest request) {
+        if (request.getAttribute(MODEL_ID_ATTRIBUTE) instanceof Long id) {
+            return id;
+        }
+        if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables
+                && variables.get("id") instanceof String id) {
+            try {
+                return Long.valueOf(id);
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
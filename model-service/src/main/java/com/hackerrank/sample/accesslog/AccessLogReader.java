@@ -0,0 +1,79 @@
+package com.hackerrank.sample.accesslog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Decodes access log files to NDJSON on stdout. Arguments are files or directories (all access-*.bin, oldest first).
+public final class AccessLogReader {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private AccessLogReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("usage: AccessLogReader <file-or-directory>...");
+            System.exit(2);
+        }
+        PrintStream out = System.out;
+        for (Path file : resolve(args)) {
+            read(file, record -> out.println(toJson(record)));
+        }
+        out.flush();
+    }
+
+    public static void read(Path file, Consumer<AccessLogRecord> consumer) throws IOException {
+        try (InputStream input = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(input, 1 << 16))) {
+            AccessLogCodec.readHeader(in);
+            AccessLogRecord record;
+            while ((record = AccessLogCodec.decode(in)) != null) {
+                consumer.accept(record);
+            }
+        }
+    }
+
+    static List<Path> resolve(String[] args) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            Path path = Path.of(arg);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> listing = Files.list(path)) {
+                    listing.filter(AccessLogWriter::isLogFile).sorted().forEach(files::add);
+                }
+            } else {
+                files.add(path);
+            }
+        }
+        return files;
+    }
+
+    private static String toJson(AccessLogRecord record) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("timestamp", Instant.ofEpochMilli(record.timestampMillis()).toString());
+        entry.put("method", record.method());
+        entry.put("route", record.route());
+        entry.put("status", record.status());
+        entry.put("latencyMicros", record.latencyMicros());
+        entry.put("traceId", record.traceId());
+        entry.put("modelId", record.modelId());
+        try {
+            return OBJECT_MAPPER.writeValueAsString(entry);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not serialize access log record", ex);
+        }
+    }
+}
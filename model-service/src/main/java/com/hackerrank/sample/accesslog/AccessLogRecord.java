@@ -0,0 +1,13 @@
+package com.hackerrank.sample.accesslog;
+
+// modelId is null when the request did not address a single model.
+public record AccessLogRecord(
+        long timestampMillis,
+        String method,
+        String route,
+        int status,
+        long latencyMicros,
+        String traceId,
+        Long modelId
+) {
+}
@@ -0,0 +1,90 @@
+package com.hackerrank.sample.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Preallocated multi-producer, single-consumer ring. Producers claim a sequence with a CAS and give up
+// instead of waiting when the ring is full; the slot is published by storing sequence + 1, which is the
+// only field the consumer spins on. Fields live in parallel arrays so no record object is allocated.
+final class AccessLogRing {
+    static final long NO_MODEL_ID = Long.MIN_VALUE;
+
+    interface Visitor {
+        void accept(long timestampMillis, String method, String route, int status,
+                    long latencyMicros, String traceId, long modelId);
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final long[] timestamps;
+    private final long[] latencies;
+    private final long[] modelIds;
+    private final int[] statuses;
+    private final String[] methods;
+    private final String[] routes;
+    private final String[] traceIds;
+    private final AtomicLongArray published;
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail;
+
+    AccessLogRing(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.latencies = new long[capacity];
+        this.modelIds = new long[capacity];
+        this.statuses = new int[capacity];
+        this.methods = new String[capacity];
+        this.routes = new String[capacity];
+        this.traceIds = new String[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    boolean offer(long timestampMillis, String method, String route, int status,
+                  long latencyMicros, String traceId, long modelId) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= capacity) {
+                return false;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & mask);
+        timestamps[slot] = timestampMillis;
+        methods[slot] = method;
+        routes[slot] = route;
+        statuses[slot] = status;
+        latencies[slot] = latencyMicros;
+        traceIds[slot] = traceId;
+        modelIds[slot] = modelId;
+        published.set(slot, sequence + 1);
+        return true;
+    }
+
+    // Consumer side; must only be called from one thread.
+    int drain(Visitor visitor, int max) {
+        long next = tail;
+        int drained = 0;
+        while (drained < max) {
+            int slot = (int) (next & mask);
+            if (published.get(slot) != next + 1) {
+                break;
+            }
+            visitor.accept(timestamps[slot], methods[slot], routes[slot], statuses[slot],
+                    latencies[slot], traceIds[slot], modelIds[slot]);
+            traceIds[slot] = null;
+            next++;
+            drained++;
+        }
+        tail = next;
+        return drained;
+    }
+
+    int size() {
+        return (int) (head.get() - tail);
+    }
+}
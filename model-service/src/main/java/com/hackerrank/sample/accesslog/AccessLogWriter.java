@@ -0,0 +1,226 @@
+package com.hackerrank.sample.accesslog;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+// Request threads only copy a few fields into the ring; one background thread encodes them into a
+// direct buffer and appends to access-<epochMillis>.bin, rolling by size and keeping the newest files.
+// When the ring is full the entry is counted and dropped: the request never waits on log I/O.
+// A write error drops what was buffered, closes the file and backs off; the next flush rolls a new file.
+@Component
+public class AccessLogWriter implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(AccessLogWriter.class);
+    static final String FILE_PREFIX = "access-";
+    static final String FILE_SUFFIX = ".bin";
+    private static final int DRAIN_BATCH = 1024;
+    private static final long ERROR_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final long idleParkNanos;
+    private final AccessLogRing ring;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 18);
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter errors;
+    private FileChannel channel;
+    private long fileBytes;
+    private long lastFileStamp;
+    private volatile boolean running;
+    private Thread drainer;
+
+    public AccessLogWriter(
+            MeterRegistry registry,
+            @Value("${app.access-log.enabled:true}") boolean enabled,
+            @Value("${app.access-log.directory:logs/access}") String directory,
+            @Value("${app.access-log.ring-capacity:65536}") int ringCapacity,
+            @Value("${app.access-log.max-file-size:64MB}") DataSize maxFileSize,
+            @Value("${app.access-log.max-files:10}") int maxFiles,
+            @Value("${app.access-log.flush-interval:200ms}") Duration flushInterval
+    ) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.maxFileBytes = maxFileSize.toBytes();
+        this.maxFiles = Math.max(1, maxFiles);
+        this.idleParkNanos = flushInterval.toNanos();
+        this.ring = new AccessLogRing(Integer.highestOneBit(Math.max(2, ringCapacity)));
+        this.written = Counter.builder("access.log.written").register(registry);
+        this.dropped = Counter.builder("access.log.dropped").register(registry);
+        this.errors = Counter.builder("access.log.errors").register(registry);
+        Gauge.builder("access.log.pending", ring, AccessLogRing::size).register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // modelId may be null.
+    public void log(long timestampMillis, String method, String route, int status, long latencyMicros, String traceId, Long modelId) {
+        if (!running) {
+            return;
+        }
+        long id = modelId == null ? AccessLogRing.NO_MODEL_ID : modelId;
+        if (!ring.offer(timestampMillis, method, route, status, latencyMicros, traceId, id)) {
+            dropped.increment();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !enabled) {
+            return;
+        }
+        running = true;
+        // A platform thread: it spends its time in file writes, which would pin a virtual thread's carrier anyway.
+        drainer = Thread.ofPlatform().daemon().name("access-log-writer").start(this::drainLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        try {
+            while (running) {
+                try {
+                    if (drainOnce() == 0) {
+                        flush();
+                        LockSupport.parkNanos(idleParkNanos);
+                    }
+                } catch (IOException ex) {
+                    errors.increment();
+                    log.error("Access log write failed; retrying with a new file", ex);
+                    buffer.clear();
+                    closeQuietly();
+                    LockSupport.parkNanos(ERROR_BACKOFF_NANOS);
+                }
+            }
+            while (drainOnce() > 0) {
+                // drain what was logged before stop
+            }
+            flush();
+        } catch (IOException | RuntimeException ex) {
+            log.error("Access log writer stopped", ex);
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    int drainOnce() throws IOException {
+        IOException[] failure = new IOException[1];
+        int drained = ring.drain((timestamp, method, route, status, latency, traceId, modelId) -> {
+            // After a failed flush the rest of the batch is dropped rather than encoded into a flipped buffer.
+            if (failure[0] != null) {
+                dropped.increment();
+                return;
+            }
+            try {
+                if (buffer.remaining() < AccessLogCodec.MAX_RECORD_BYTES) {
+                    flush();
+                }
+                AccessLogCodec.encode(buffer, timestamp, method, route, status, latency, traceId, modelId);
+                written.increment();
+            } catch (IOException ex) {
+                failure[0] = ex;
+                dropped.increment();
+            }
+        }, DRAIN_BATCH);
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return drained;
+    }
+
+    void flush() throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        if (channel == null || fileBytes >= maxFileBytes) {
+            roll();
+        }
+        while (buffer.hasRemaining()) {
+            fileBytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void roll() throws IOException {
+        closeQuietly();
+        Files.createDirectories(directory);
+        // Stamps are kept strictly increasing so names never collide and sort in write order.
+        lastFileStamp = Math.max(System.currentTimeMillis(), lastFileStamp + 1);
+        Path file = directory.resolve(FILE_PREFIX + lastFileStamp + FILE_SUFFIX);
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(AccessLogCodec.HEADER_BYTES);
+        AccessLogCodec.writeHeader(header);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        fileBytes = AccessLogCodec.HEADER_BYTES;
+        deleteOldFiles();
+    }
+
+    private void deleteOldFiles() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(AccessLogWriter::isLogFile).sorted().toList();
+        }
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    static boolean isLogFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+
+    private void closeQuietly() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            log.warn("Could not close access log file", ex);
+        }
+        channel = null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.hackerrank.sample.chaos;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.lang.Nullable;
+
+// POST toggles injection and/or replaces the profile of one method ("*" for the default); DELETE turns it off
+// and clears every profile.
+@Endpoint(id = "chaos")
+public class ChaosEndpoint {
+    private final ChaosInjector injector;
+
+    public ChaosEndpoint(ChaosInjector injector) {
+        this.injector = injector;
+    }
+
+    @ReadOperation
+    public Map<String, Object> chaos() {
+        return injector.report();
+    }
+
+    @WriteOperation
+    public Map<String, Object> configure(
+            @Nullable Boolean active,
+            @Nullable String method,
+            @Nullable String distribution,
+            @Nullable String latency,
+            @Nullable String stddev,
+            @Nullable String p99,
+            @Nullable Double errorRate,
+            @Nullable Double stallRate,
+            @Nullable String stall
+    ) {
+        if (method != null) {
+            try {
+                injector.setProfile(method, new ChaosProfile(
+                        distribution == null
+                                ? ChaosProfile.Distribution.FIXED
+                                : ChaosProfile.Distribution.valueOf(distribution.toUpperCase(Locale.ROOT).replace('-', '_')),
+                        duration(latency),
+                        duration(stddev),
+                        duration(p99),
+                        errorRate == null ? 0 : errorRate,
+                        stallRate == null ? 0 : stallRate,
+                        duration(stall)
+                ));
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidEndpointRequestException(ex.getMessage(), ex.getMessage());
+            }
+        }
+        if (active != null) {
+            injector.setActive(active);
+        }
+        return injector.report();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> reset() {
+        injector.reset();
+        return injector.report();
+    }
+
+    private static Duration duration(String value) {
+        return value == null || value.isBlank() ? Duration.ZERO : DurationStyle.detectAndParse(value);
+    }
+}
@@ -0,0 +1,96 @@
+package com.hackerrank.sample.chaos;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+// Holds the per-method profiles and applies them before a storage call: a stall, then a sampled latency,
+// then possibly an injected failure. "*" is the profile for methods without one of their own.
+public class ChaosInjector {
+    public static final String ANY_METHOD = "*";
+
+    private final Map<String, ChaosProfile> profiles = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private volatile boolean active;
+
+    public ChaosInjector(boolean active, ChaosProfile defaultProfile, MeterRegistry registry) {
+        this.active = active;
+        this.registry = registry;
+        profiles.put(ANY_METHOD, defaultProfile);
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public void setProfile(String method, ChaosProfile profile) {
+        profiles.put(method, profile);
+    }
+
+    public void reset() {
+        active = false;
+        profiles.clear();
+        profiles.put(ANY_METHOD, ChaosProfile.NONE);
+    }
+
+    public Map<String, Object> report() {
+        Map<String, Object> methods = new LinkedHashMap<>();
+        profiles.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> methods.put(entry.getKey(), entry.getValue().describe()));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("active", active);
+        report.put("methods", methods);
+        return report;
+    }
+
+    void apply(String method) {
+        if (!active) {
+            return;
+        }
+        ChaosProfile profile = profiles.getOrDefault(method, profiles.get(ANY_METHOD));
+        if (profile == null) {
+            return;
+        }
+
+        Random random = ThreadLocalRandom.current();
+        if (profile.stallRate() > 0 && random.nextDouble() < profile.stallRate()) {
+            count(method, "stall");
+            sleep(profile.stall().toNanos());
+        }
+        long latency = profile.sampleLatencyNanos(random);
+        if (latency > 0) {
+            count(method, "latency");
+            sleep(latency);
+        }
+        if (profile.errorRate() > 0 && random.nextDouble() < profile.errorRate()) {
+            count(method, "error");
+            throw new DataAccessResourceFailureException("Injected storage failure in " + method + ".");
+        }
+    }
+
+    private void count(String method, String fault) {
+        Counter.builder("chaos.injections")
+                .tag("method", method)
+                .tag("fault", fault)
+                .register(registry)
+                .increment();
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.hackerrank.sample.chaos;
+
+import com.hackerrank.sample.port.ForwardingModelRepositoryPort;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import java.util.function.Supplier;
+
+// Innermost decorator: injected latency and failures look like the storage itself, so every outer
+// layer (JFR events, bulkhead permits, single-flight, near-cache) reacts as it would in production.
+public class ChaosModelRepositoryPort extends ForwardingModelRepositoryPort {
+    private final ChaosInjector injector;
+
+    public ChaosModelRepositoryPort(ModelRepositoryPort delegate, ChaosInjector injector) {
+        super(delegate);
+        this.injector = injector;
+    }
+
+    @Override
+    protected <T> T invoke(String method, Long id, Supplier<T> call) {
+        injector.apply(method);
+        return call.get();
+    }
+}
@@ -0,0 +1,71 @@
+package com.hackerrank.sample.chaos;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+// What to inject into one port method. latency is the fixed value, the normal mean or the long-tail median;
+// stddev only applies to NORMAL and p99 only to LONG_TAIL (log-normal, so p99 / latency sets the tail).
+public record ChaosProfile(
+        Distribution distribution,
+        Duration latency,
+        Duration stddev,
+        Duration p99,
+        double errorRate,
+        double stallRate,
+        Duration stall
+) {
+    public enum Distribution {
+        NONE,
+        FIXED,
+        NORMAL,
+        LONG_TAIL
+    }
+
+    // z-score of the 99th percentile of a standard normal.
+    private static final double Z_99 = 2.3263478740408408;
+
+    public static final ChaosProfile NONE =
+            new ChaosProfile(Distribution.NONE, Duration.ZERO, Duration.ZERO, Duration.ZERO, 0, 0, Duration.ZERO);
+
+    public ChaosProfile {
+        if (errorRate < 0 || errorRate > 1 || stallRate < 0 || stallRate > 1) {
+            throw new IllegalArgumentException("errorRate and stallRate must be between 0 and 1.");
+        }
+        if (latency.isNegative() || stddev.isNegative() || p99.isNegative() || stall.isNegative()) {
+            throw new IllegalArgumentException("Durations must not be negative.");
+        }
+        if (distribution == Distribution.LONG_TAIL && (latency.isZero() || p99.compareTo(latency) < 0)) {
+            throw new IllegalArgumentException("LONG_TAIL needs a positive latency and a p99 of at least latency.");
+        }
+    }
+
+    public long sampleLatencyNanos(Random random) {
+        return switch (distribution) {
+            case NONE -> 0;
+            case FIXED -> latency.toNanos();
+            case NORMAL -> Math.max(0, Math.round(latency.toNanos() + random.nextGaussian() * stddev.toNanos()));
+            case LONG_TAIL -> {
+                double sigma = Math.log((double) p99.toNanos() / latency.toNanos()) / Z_99;
+                yield Math.round(latency.toNanos() * Math.exp(sigma * random.nextGaussian()));
+            }
+        };
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("distribution", distribution);
+        description.put("latency", latency.toString());
+        if (distribution == Distribution.NORMAL) {
+            description.put("stddev", stddev.toString());
+        }
+        if (distribution == Distribution.LONG_TAIL) {
+            description.put("p99", p99.toString());
+        }
+        description.put("errorRate", errorRate);
+        description.put("stallRate", stallRate);
+        description.put("stall", stall.toString());
+        return description;
+    }
+}
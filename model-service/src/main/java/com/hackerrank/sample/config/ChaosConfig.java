@@ -0,0 +1,37 @@
+package com.hackerrank.sample.config;
+
+import com.hackerrank.sample.chaos.ChaosEndpoint;
+import com.hackerrank.sample.chaos.ChaosInjector;
+import com.hackerrank.sample.chaos.ChaosProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Only present when app.chaos.enabled is set, so the decorator and the endpoint never exist in production.
+@Configuration
+@ConditionalOnProperty(name = "app.chaos.enabled", havingValue = "true")
+public class ChaosConfig {
+    @Bean
+    public ChaosInjector chaosInjector(
+            @Value("${app.chaos.active:false}") boolean active,
+            @Value("${app.chaos.default.distribution:NONE}") ChaosProfile.Distribution distribution,
+            @Value("${app.chaos.default.latency:0ms}") Duration latency,
+            @Value("${app.chaos.default.stddev:0ms}") Duration stddev,
+            @Value("${app.chaos.default.p99:0ms}") Duration p99,
+            @Value("${app.chaos.default.error-rate:0}") double errorRate,
+            @Value("${app.chaos.default.stall-rate:0}") double stallRate,
+            @Value("${app.chaos.default.stall:0ms}") Duration stall,
+            MeterRegistry registry
+    ) {
+        ChaosProfile profile = new ChaosProfile(distribution, latency, stddev, p99, errorRate, stallRate, stall);
+        return new ChaosInjector(active, profile, registry);
+    }
+
+    @Bean
+    public ChaosEndpoint chaosEndpoint(ChaosInjector chaosInjector) {
+        return new ChaosEndpoint(chaosInjector);
+    }
+}
@@ -0,0 +1,14 @@
+package com.hackerrank.sample.config;
+
+import com.hackerrank.sample.jfr.JfrControllerInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class JfrConfig implements WebMvcConfigurer {
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new JfrControllerInterceptor());
+    }
+}
@@ -0,0 +1,70 @@
+package com.hackerrank.sample.config;
+
+import com.hackerrank.sample.chaos.ChaosInjector;
+import com.hackerrank.sample.chaos.ChaosModelRepositoryPort;
+import com.hackerrank.sample.jfr.JfrModelRepositoryPort;
+import com.hackerrank.sample.nearcache.NearCacheModelRepositoryPort;
+import com.hackerrank.sample.nearcache.PeerInvalidationTransport;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import com.hackerrank.sample.repository.ModelRepositoryAdapter;
+import com.hackerrank.sample.resilience.Bulkhead;
+import com.hackerrank.sample.resilience.BulkheadModelRepositoryPort;
+import com.hackerrank.sample.resilience.SingleFlightModelRepositoryPort;
+import com.hackerrank.sample.shard.ShardedModelRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class ModelRepositoryPortConfig {
+    @Bean
+    public Bulkhead modelRepositoryBulkhead(
+            @Value("${app.bulkhead.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${app.bulkhead.max-wait:500ms}") Duration maxWait,
+            @Value("${app.bulkhead.fair:true}") boolean fair,
+            MeterRegistry registry
+    ) {
+        return new Bulkhead("model-repository", maxConcurrent, maxWait, fair, registry);
+    }
+
+    @Bean
+    @Primary
+    public ModelRepositoryPort modelRepositoryPort(
+            ModelRepositoryAdapter modelRepositoryAdapter,
+            ObjectProvider<ShardedModelRepositoryPort> shardedModelRepositoryPort,
+            ObjectProvider<PeerInvalidationTransport> peerInvalidationTransport,
+            ObjectProvider<ChaosInjector> chaosInjector,
+            Bulkhead modelRepositoryBulkhead,
+            MeterRegistry registry,
+            @Value("${app.single-flight.enabled:true}") boolean singleFlight,
+            @Value("${app.near-cache.max-entries:100000}") int nearCacheMaxEntries,
+            @Value("${app.near-cache.ttl:5m}") Duration nearCacheTtl
+    ) {
+        ShardedModelRepositoryPort sharded = shardedModelRepositoryPort.getIfAvailable();
+        ModelRepositoryPort base = sharded != null ? sharded : modelRepositoryAdapter;
+        ChaosInjector chaos = chaosInjector.getIfAvailable();
+        if (chaos != null) {
+            // Innermost, so injected faults look like the storage to every other layer.
+            base = new ChaosModelRepositoryPort(base, chaos);
+        }
+        ModelRepositoryPort port = new JfrModelRepositoryPort(base);
+        port = new BulkheadModelRepositoryPort(port, modelRepositoryBulkhead);
+        // Outside the bulkhead, so callers that join an in-flight lookup never take a permit.
+        if (singleFlight) {
+            port = new SingleFlightModelRepositoryPort(port, registry);
+        }
+        PeerInvalidationTransport transport = peerInvalidationTransport.getIfAvailable();
+        if (transport != null) {
+            // Outermost: a hit costs neither a flight nor a permit.
+            NearCacheModelRepositoryPort nearCache =
+                    new NearCacheModelRepositoryPort(port, transport, nearCacheMaxEntries, nearCacheTtl, registry);
+            transport.addListener(nearCache);
+            port = nearCache;
+        }
+        return port;
+    }
+}
@@ -0,0 +1,34 @@
+package com.hackerrank.sample.config;
+
+import com.hackerrank.sample.hotkeys.HotKeyModelService;
+import com.hackerrank.sample.hotkeys.HotKeyTracker;
+import com.hackerrank.sample.jfr.JfrModelService;
+import com.hackerrank.sample.service.ModelService;
+import com.hackerrank.sample.service.ModelServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// Decorator chain around ModelServiceImpl, innermost first; each decorator has its own switch.
+@Configuration
+public class ModelServiceConfig {
+    @Bean
+    @Primary
+    public ModelService decoratedModelService(
+            ModelServiceImpl modelService,
+            HotKeyTracker hotKeyTracker,
+            @Value("${app.hot-keys.enabled:true}") boolean hotKeys,
+            @Value("${app.jfr.service-events.enabled:true}") boolean jfrEvents
+    ) {
+        ModelService service = modelService;
+        if (hotKeys) {
+            service = new HotKeyModelService(service, hotKeyTracker);
+        }
+        // Outermost, so the recorded operation covers every other layer.
+        if (jfrEvents) {
+            service = new JfrModelService(service);
+        }
+        return service;
+    }
+}
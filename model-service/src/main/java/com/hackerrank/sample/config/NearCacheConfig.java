@@ -0,0 +1,53 @@
+package com.hackerrank.sample.config;
+
+import com.hackerrank.sample.nearcache.InvalidationListener;
+import com.hackerrank.sample.nearcache.PeerInvalidationTransport;
+import com.hackerrank.sample.nearcache.ReadModelInvalidationListener;
+import com.hackerrank.sample.readmodel.ModelReadProjection;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.near-cache.enabled", havingValue = "true")
+public class NearCacheConfig {
+    @Bean
+    public PeerInvalidationTransport peerInvalidationTransport(
+            @Value("${app.near-cache.port:7600}") int port,
+            @Value("${app.near-cache.peers:}") List<String> peers,
+            @Value("${app.near-cache.batch-interval:5ms}") Duration batchInterval,
+            @Value("${app.near-cache.heartbeat-interval:1s}") Duration heartbeatInterval,
+            @Value("${app.near-cache.max-pending:10000}") int maxPending,
+            MeterRegistry registry
+    ) {
+        List<InetSocketAddress> addresses = peers.stream()
+                .map(String::trim)
+                .filter(peer -> !peer.isEmpty())
+                .map(NearCacheConfig::address)
+                .toList();
+        return new PeerInvalidationTransport(port, addresses, batchInterval, heartbeatInterval, maxPending, registry);
+    }
+
+    @Bean
+    public InvalidationListener readModelInvalidationListener(
+            PeerInvalidationTransport peerInvalidationTransport,
+            ModelReadProjection modelReadProjection
+    ) {
+        InvalidationListener listener = new ReadModelInvalidationListener(modelReadProjection);
+        peerInvalidationTransport.addListener(listener);
+        return listener;
+    }
+
+    private static InetSocketAddress address(String peer) {
+        int colon = peer.lastIndexOf(':');
+        if (colon <= 0) {
+            throw new IllegalArgumentException("Near-cache peer must be host:port, got " + peer);
+        }
+        return new InetSocketAddress(peer.substring(0, colon), Integer.parseInt(peer.substring(colon + 1)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.hackerrank.sample.config;
+
+import com.hackerrank.sample.outbox.FileOutboxPublisher;
+import com.hackerrank.sample.outbox.InMemoryOutboxPublisher;
+import com.hackerrank.sample.outbox.OutboxPublisher;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Stand-in publishers; a broker-backed OutboxPublisher bean replaces them.
+@Configuration
+public class OutboxConfig {
+    @Bean
+    @ConditionalOnMissingBean(OutboxPublisher.class)
+    @ConditionalOnProperty(name = "app.outbox.publisher", havingValue = "file")
+    public FileOutboxPublisher fileOutboxPublisher(
+            @Value("${app.outbox.file.path:outbox/events.ndjson}") String path,
+            @Value("${app.outbox.file.fsync:false}") boolean fsync
+    ) {
+        return new FileOutboxPublisher(Path.of(path), fsync);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxPublisher.class)
+    @ConditionalOnProperty(name = "app.outbox.publisher", havingValue = "memory", matchIfMissing = true)
+    public InMemoryOutboxPublisher inMemoryOutboxPublisher(
+            @Value("${app.outbox.memory.retained:1000}") int retained
+    ) {
+        return new InMemoryOutboxPublisher(retained);
+    }
+}
@@ -0,0 +1,85 @@
+package com.hackerrank.sample.config;
+
+import com.hackerrank.sample.routing.ReadWriteRoutingDataSource;
+import com.hackerrank.sample.routing.ReadYourWritesFilter;
+import com.hackerrank.sample.routing.ReplicaHealthMonitor;
+import com.hackerrank.sample.routing.ReplicaSet;
+import com.hackerrank.sample.routing.SimulatedReplication;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// Replaces the auto-configured datasource: read-only transactions go to a replica, everything else to the primary.
+@Configuration
+@ConditionalOnProperty(name = "app.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReplicaSet replicaSet(
+            DataSourceProperties properties,
+            @Value("${app.routing.replica-urls}") List<String> replicaUrls,
+            @Value("${app.routing.replica-pool-size:10}") int poolSize,
+            @Value("${app.routing.failure-threshold:3}") int failureThreshold
+    ) {
+        List<ReplicaSet.Replica> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replicas.add(new ReplicaSet.Replica("replica-" + i, replica));
+        }
+        return new ReplicaSet(replicas, failureThreshold);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaSet replicaSet, MeterRegistry registry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaSet, registry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            ReplicaSet replicaSet,
+            @Value("${app.routing.health-check-interval:2s}") Duration interval,
+            @Value("${app.routing.health-check-timeout:1s}") Duration timeout
+    ) {
+        return new ReplicaHealthMonitor(replicaSet, interval, timeout);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(@Value("${app.routing.sticky-window:5s}") Duration window) {
+        return new ReadYourWritesFilter(window);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.routing.simulated-replication.enabled", havingValue = "true")
+    public SimulatedReplication simulatedReplication(
+            HikariDataSource primaryDataSource,
+            ReplicaSet replicaSet,
+            @Value("${app.routing.simulated-replication.lag:2s}") Duration lag
+    ) {
+        return new SimulatedReplication(primaryDataSource, replicaSet, lag);
+    }
+}
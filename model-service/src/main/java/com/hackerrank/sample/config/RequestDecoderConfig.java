@@ -0,0 +1,31 @@
+package com.hackerrank.sample.config;
+
+import com.hackerrank.sample.decoder.DecodedRequestSkippingValidator;
+import com.hackerrank.sample.decoder.ModelRequestMessageConverter;
+import jakarta.validation.Validator;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "app.request-decoder.fast-path", havingValue = "true", matchIfMissing = true)
+public class RequestDecoderConfig implements WebMvcConfigurer {
+    private final ObjectProvider<Validator> validator;
+
+    public RequestDecoderConfig(ObjectProvider<Validator> validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ModelRequestMessageConverter());
+    }
+
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        return new DecodedRequestSkippingValidator(validator);
+    }
+}
@@ -0,0 +1,43 @@
+package com.hackerrank.sample.config;
+
+import com.hackerrank.sample.shard.ShardedModelRepositoryPort;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Shard writes never touch the primary database, so they cannot write the transactional outbox in the same
+// transaction. Rather than silently dropping events, startup fails unless the outbox is switched off.
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+    @Bean
+    public ShardedModelRepositoryPort shardedModelRepositoryPort(
+            @Value("${app.sharding.urls}") List<String> urls,
+            @Value("${app.sharding.username:sa}") String username,
+            @Value("${app.sharding.password:}") String password,
+            @Value("${app.sharding.pool-size:10}") int poolSize,
+            @Value("${app.outbox.enabled:true}") boolean outboxEnabled
+    ) {
+        if (outboxEnabled) {
+            throw new IllegalStateException(
+                    "Sharding does not write outbox events; set APP_OUTBOX_ENABLED=false to enable sharding.");
+        }
+        List<DataSource> dataSources = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("model-shard-" + i);
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            dataSources.add(new HikariDataSource(config));
+        }
+        return new ShardedModelRepositoryPort(dataSources);
+    }
+}
@@ -0,0 +1,61 @@
+package com.hackerrank.sample.controller;
+
+import com.hackerrank.sample.exception.NoSuchResourceFoundException;
+import com.hackerrank.sample.idempotency.IdempotencyStore;
+import com.hackerrank.sample.importer.ImportStatus;
+import com.hackerrank.sample.importer.ModelImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/import")
+public class AdminImportController {
+    private final ModelImportService importService;
+    private final IdempotencyStore idempotencyStore;
+
+    public AdminImportController(ModelImportService importService, IdempotencyStore idempotencyStore) {
+        this.importService = importService;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @PostMapping
+    @Operation(summary = "Start an import", description = "Imports an NDJSON or CSV file from the import directory.")
+    @ApiResponse(responseCode = "202", description = "Accepted")
+    @ApiResponse(responseCode = "400", description = "Invalid file or import already running")
+    @ApiResponse(responseCode = "404", description = "File not found")
+    @ApiResponse(responseCode = "409", description = "Same Idempotency-Key in progress")
+    @ApiResponse(responseCode = "422", description = "Idempotency-Key reused for a different request")
+    public ResponseEntity<?> startImport(
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestParam String file,
+            @RequestParam(defaultValue = "false") boolean resume
+    ) {
+        return idempotencyStore.execute("POST /admin/import", idempotencyKey, file + "\u0000" + resume,
+                () -> ResponseEntity.accepted().body(importService.start(file, resume)));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get import progress", description = "Returns progress of the current or last import.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @ApiResponse(responseCode = "404", description = "No import has been started")
+    public ResponseEntity<ImportStatus> getImportStatus() {
+        return importService.status()
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new NoSuchResourceFoundException("No import has been started."));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Cancel the import", description = "Stops reading; the checkpoint allows resuming later.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    public ResponseEntity<ImportStatus> cancelImport() {
+        return ResponseEntity.ok(importService.cancel());
+    }
+}
@@ -1,11 +1,23 @@
 package com.hackerrank.sample.controller;
 
+import com.hackerrank.sample.accesslog.AccessLogFilter;
+import com.hackerrank.sample.decoder.DecodedModelRequest;
+import com.hackerrank.sample.dto.ModelPageQuery;
 import com.hackerrank.sample.dto.ModelRequest;
 import com.hackerrank.sample.dto.ModelResponse;
+import com.hackerrank.sample.dto.ModelWriteStatusResponse;
+import com.hackerrank.sample.exception.NoSuchResourceFoundException;
+import com.hackerrank.sample.idempotency.IdempotencyStore;
 import com.hackerrank.sample.mapper.ModelMapper;
+import com.hackerrank.sample.model.Model;
 import com.hackerrank.sample.service.ModelService;
+import com.hackerrank.sample.service.WriteBehindModelWriter;
+import com.hackerrank.sample.stream.ModelChangeBroadcaster;
 import com.hackerrank.sample.validation.ValidationGroups;
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.URI;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,24 +25,40 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.validation.annotation.Validated;
 
 @RestController
 public class ModelController {
     private final ModelService modelService;
     private final ModelMapper modelMapper;
+    private final WriteBehindModelWriter writeBehindWriter;
+    private final ModelChangeBroadcaster changeBroadcaster;
+    private final IdempotencyStore idempotencyStore;
 
-    public ModelController(ModelService modelService, ModelMapper modelMapper) {
+    public ModelController(
+            ModelService modelService,
+            ModelMapper modelMapper,
+            WriteBehindModelWriter writeBehindWriter,
+            ModelChangeBroadcaster changeBroadcaster,
+            IdempotencyStore idempotencyStore
+    ) {
         this.modelService = modelService;
         this.modelMapper = modelMapper;
+        this.writeBehindWriter = writeBehindWriter;
+        this.changeBroadcaster = changeBroadcaster;
+        this.idempotencyStore = idempotencyStore;
     }
 
     @GetMapping("/")
@@ -44,14 +72,56 @@ public class ModelController {
     @PostMapping(value = "/model", consumes = "application/json")
     @Operation(summary = "Create a model", description = "Creates a new item model.")
     @ApiResponse(responseCode = "201", description = "Created")
+    @ApiResponse(responseCode = "202", description = "Accepted for write-behind")
     @ApiResponse(responseCode = "400", description = "Validation or request error")
-    public ResponseEntity<ModelResponse> createNewModel(@RequestBody @Validated(ValidationGroups.Create.class) ModelRequest request) {
-        ModelResponse response = modelMapper.toResponse(
-                modelService.createModel(modelMapper.toEntity(request))
-        );
+    @ApiResponse(responseCode = "409", description = "Same Idempotency-Key in progress")
+    @ApiResponse(responseCode = "422", description = "Idempotency-Key reused for a different request")
+    @ApiResponse(responseCode = "503", description = "Write-behind queue full, or too many requests in progress")
+    public ResponseEntity<?> createNewModel(
+            @RequestHeader(value = WriteBehindModelWriter.WRITE_MODE_HEADER, required = false) String writeMode,
+            @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Validated(ValidationGroups.Create.class) ModelRequest request,
+            HttpServletRequest servletRequest
+    ) {
+        servletRequest.setAttribute(AccessLogFilter.MODEL_ID_ATTRIBUTE, request.getId());
+        // The write mode changes the response (201 vs 202), so a key replayed with another mode is a different request.
+        String mode = writeMode == null ? "" : writeMode.trim().toLowerCase(Locale.ROOT);
+        String fingerprint = request.getId() + "\u0000" + request.getName() + "\u0000" + mode;
+        return idempotencyStore.execute("POST /model", idempotencyKey, fingerprint, () -> create(writeMode, request));
+    }
+
+    private ResponseEntity<?> create(String writeMode, ModelRequest request) {
+        Model model = request instanceof DecodedModelRequest decoded ? decoded.toModel() : modelMapper.toEntity(request);
+        if (writeBehindWriter.shouldDefer(writeMode)) {
+            ModelWriteStatusResponse status = modelMapper.toStatusResponse(writeBehindWriter.enqueue(model));
+            return ResponseEntity.accepted()
+                    .location(URI.create(status.getStatusUrl()))
+                    .body(status);
+        }
+
+        ModelResponse response = modelMapper.toResponse(modelService.createModel(model));
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping("/model/{id}/status")
+    @Operation(summary = "Get write status", description = "Returns the write-behind status of a model.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @ApiResponse(responseCode = "404", description = "Unknown id")
+    public ResponseEntity<ModelWriteStatusResponse> getWriteStatus(@PathVariable Long id) {
+        return writeBehindWriter.status(id)
+                .map(modelMapper::toStatusResponse)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new NoSuchResourceFoundException("No write with given id found."));
+    }
+
+    @GetMapping(value = "/model/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream model changes", description = "Server-Sent Events stream of creates, deletes and erases.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @ApiResponse(responseCode = "503", description = "Too many subscribers")
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeBroadcaster.subscribe(lastEventId);
+    }
+
     @DeleteMapping("/erase")
     @Operation(summary = "Delete all models", description = "Deletes all stored models.")
     @ApiResponse(responseCode = "200", description = "OK")
@@ -85,24 +155,16 @@ public class ModelController {
     }
 
     @GetMapping("/model/page")
-    @Operation(summary = "List models with pagination", description = "Returns a paged list of models.")
+    @Operation(summary = "List models with pagination",
+            description = "Returns a paged list of models, sortable by id or name and filterable by name prefix.")
     @ApiResponse(responseCode = "200", description = "OK")
-    public ResponseEntity<Page<ModelResponse>> getModelsPage(@ParameterObject Pageable pageable) {
-        Page<ModelResponse> page = modelService.getModelsPage(pageable)
+    @ApiResponse(responseCode = "400", description = "Unsupported sort or invalid filter")
+    public ResponseEntity<Page<ModelResponse>> getModelsPage(
+            @ParameterObject Pageable pageable,
+            @RequestParam(required = false) String namePrefix
+    ) {
+        Page<ModelResponse> page = modelService.getModelsPage(ModelPageQuery.of(pageable, namePrefix))
                 .map(modelMapper::toResponse);
         return ResponseEntity.ok(page);
     }
-
-    @GetMapping("/debug/thread")
-    @Operation(summary = "Debug thread info", description = "Returns information about the current request thread.")
-    @ApiResponse(responseCode = "200", description = "OK")
-    public ResponseEntity<Map<String, Object>> getThreadInfo() {
-        Thread currentThread = Thread.currentThread();
-        return ResponseEntity.ok(Map.of(
-                "name", currentThread.getName(),
-                "id", currentThread.threadId(),
-                "state", currentThread.getState().toString(),
-                "virtual", currentThread.isVirtual()
-        ));
-    }
 }
@@ -0,0 +1,109 @@
+package com.hackerrank.sample.controller;
+
+import com.hackerrank.sample.exception.NoSuchResourceFoundException;
+import com.hackerrank.sample.export.ByteRange;
+import com.hackerrank.sample.export.ExportSnapshot;
+import com.hackerrank.sample.export.ModelExporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class ModelExportController {
+    // Tomcat's NIO connector hands these to the kernel's sendfile once the response is committed.
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ModelExporter exporter;
+
+    public ModelExportController(ModelExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @PostMapping("/model/export")
+    @Operation(summary = "Start an export", description = "Writes a new gzip NDJSON snapshot in the background.")
+    @ApiResponse(responseCode = "202", description = "Accepted")
+    public ResponseEntity<Map<String, Object>> startExport() {
+        boolean started = exporter.exportAsync();
+        return ResponseEntity.accepted().body(Map.of(
+                "message", started ? "Export started." : "Export already running."));
+    }
+
+    @GetMapping("/model/export")
+    @Operation(summary = "Download the latest export", description = "Serves the latest gzip NDJSON snapshot; supports Range.")
+    @ApiResponse(responseCode = "200", description = "OK")
+    @ApiResponse(responseCode = "206", description = "Partial content")
+    @ApiResponse(responseCode = "404", description = "No snapshot yet")
+    @ApiResponse(responseCode = "416", description = "Range not satisfiable")
+    public void downloadExport(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ExportSnapshot snapshot = exporter.latest()
+                .orElseThrow(() -> new NoSuchResourceFoundException("No export snapshot available."));
+        long size = snapshot.size();
+        String etag = "\"" + snapshot.fileName() + "\"";
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + snapshot.fileName() + "\"");
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        Optional<ByteRange> range;
+        try {
+            range = ifRange == null || ifRange.equals(etag)
+                    ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size)
+                    : Optional.empty();
+        } catch (ByteRange.UnsatisfiableRangeException ex) {
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setContentLengthLong(0);
+            return;
+        }
+
+        ByteRange bytes = range.orElse(new ByteRange(0, size - 1));
+        if (range.isPresent()) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + bytes.start() + "-" + bytes.end() + "/" + size);
+        } else {
+            response.setStatus(HttpStatus.OK.value());
+        }
+        response.setContentLengthLong(bytes.length());
+        if (size == 0 || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, snapshot.path().toString());
+            request.setAttribute(SENDFILE_START, bytes.start());
+            request.setAttribute(SENDFILE_END, bytes.end() + 1);
+            return;
+        }
+
+        // Other containers: transferTo still avoids staging the file on the heap.
+        try (FileChannel file = FileChannel.open(snapshot.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = bytes.start();
+            long remaining = bytes.length();
+            while (remaining > 0) {
+                long sent = file.transferTo(position, remaining, out);
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.hackerrank.sample.deadline;
+
+import com.hackerrank.sample.exception.DeadlineExceededException;
+import java.time.Duration;
+
+// The time budget of the current request thread, set by DeadlineFilter. Like RequestConnectionStats it is
+// thread-confined: work handed to other threads (group commit, write-behind) runs without a deadline.
+public final class Deadline {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+    private volatile String expiredAt;
+
+    private Deadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static Deadline begin(Duration timeout) {
+        Deadline deadline = new Deadline(System.nanoTime() + timeout.toNanos());
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // Throws when the current request has run out of time; stage names where the work was abandoned.
+    public static void check(String stage) {
+        Deadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw deadline.expired(stage);
+        }
+    }
+
+    // The wait, shortened to what is left of the current request's budget.
+    public static Duration cap(Duration wait) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return wait;
+        }
+        Duration remaining = deadline.remaining();
+        return remaining.compareTo(wait) < 0 ? remaining : wait;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0L, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    public DeadlineExceededException expired(String stage) {
+        if (expiredAt == null) {
+            expiredAt = stage;
+        }
+        return new DeadlineExceededException("Request deadline exceeded.");
+    }
+
+    String expiredAt() {
+        return expiredAt;
+    }
+}
@@ -0,0 +1,161 @@
+package com.hackerrank.sample.deadline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackerrank.sample.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Reads the caller's budget from X-Request-Deadline (epoch millis or ISO-8601 instant) or grpc-timeout
+// ("250m", "5S", ...), taking the earlier of the two, and rejects requests that arrive already expired.
+// request.deadline.expired counts work abandoned per stage, and "response" for work that finished too late.
+@Component
+public class DeadlineFilter extends OncePerRequestFilter {
+    static final String DEADLINE_HEADER = "X-Request-Deadline";
+    static final String GRPC_TIMEOUT_HEADER = "grpc-timeout";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final Duration defaultTimeout;
+
+    public DeadlineFilter(
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${app.deadline.enabled:true}") boolean enabled,
+            @Value("${app.deadline.default-timeout:0ms}") Duration defaultTimeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+        this.enabled = enabled;
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Duration timeout;
+        try {
+            timeout = timeout(request.getHeader(DEADLINE_HEADER), request.getHeader(GRPC_TIMEOUT_HEADER), Instant.now());
+        } catch (IllegalArgumentException ex) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "INVALID_DEADLINE", ex.getMessage());
+            return;
+        }
+        if (timeout == null && !defaultTimeout.isZero()) {
+            timeout = defaultTimeout;
+        }
+        if (timeout == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            expired("arrival");
+            writeError(request, response, HttpStatus.GATEWAY_TIMEOUT, "DEADLINE_EXCEEDED", "Request deadline exceeded.");
+            return;
+        }
+
+        Deadline deadline = Deadline.begin(timeout);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Deadline.end();
+            if (deadline.expiredAt() != null) {
+                expired(deadline.expiredAt());
+            } else if (deadline.isExpired()) {
+                expired("response");
+            }
+        }
+    }
+
+    // Null when the request carries no deadline.
+    static Duration timeout(String deadlineHeader, String grpcTimeoutHeader, Instant now) {
+        Duration timeout = null;
+        if (deadlineHeader != null && !deadlineHeader.isBlank()) {
+            timeout = Duration.between(now, parseInstant(deadlineHeader.trim()));
+        }
+        if (grpcTimeoutHeader != null && !grpcTimeoutHeader.isBlank()) {
+            Duration grpc = parseGrpcTimeout(grpcTimeoutHeader.trim());
+            if (timeout == null || grpc.compareTo(timeout) < 0) {
+                timeout = grpc;
+            }
+        }
+        return timeout;
+    }
+
+    private static Instant parseInstant(String value) {
+        try {
+            return value.chars().allMatch(Character::isDigit)
+                    ? Instant.ofEpochMilli(Long.parseLong(value))
+                    : Instant.parse(value);
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new IllegalArgumentException(DEADLINE_HEADER + " must be epoch millis or an ISO-8601 instant.");
+        }
+    }
+
+    // gRPC wire format: at most 8 digits followed by H, M, S, m (millis), u (micros) or n (nanos).
+    private static Duration parseGrpcTimeout(String value) {
+        int length = value.length();
+        if (length < 2 || length > 9 || !value.substring(0, length - 1).chars().allMatch(Character::isDigit)) {
+            throw new IllegalArgumentException(GRPC_TIMEOUT_HEADER + " must be up to 8 digits and a unit.");
+        }
+        long amount = Long.parseLong(value.substring(0, length - 1));
+        ChronoUnit unit = switch (value.charAt(length - 1)) {
+            case 'H' -> ChronoUnit.HOURS;
+            case 'M' -> ChronoUnit.MINUTES;
+            case 'S' -> ChronoUnit.SECONDS;
+            case 'm' -> ChronoUnit.MILLIS;
+            case 'u' -> ChronoUnit.MICROS;
+            case 'n' -> ChronoUnit.NANOS;
+            default -> throw new IllegalArgumentException(GRPC_TIMEOUT_HEADER + " unit must be one of H, M, S, m, u, n.");
+        };
+        return Duration.of(amount, unit);
+    }
+
+    private void expired(String stage) {
+        Counter.builder("request.deadline.expired")
+                .tag("stage", stage)
+                .register(registry)
+                .increment();
+    }
+
+    private void writeError(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            HttpStatus status,
+            String code,
+            String message
+    ) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(
+                status.value(),
+                status.getReasonPhrase(),
+                code,
+                message,
+                request.getRequestURI(),
+                MDC.get("traceId") == null ? "unknown" : MDC.get("traceId")
+        ));
+    }
+}
@@ -0,0 +1,15 @@
+package com.hackerrank.sample.decoder;
+
+import com.hackerrank.sample.dto.ModelRequest;
+import com.hackerrank.sample.model.Model;
+
+// A ModelRequest that already passed the Create rules while it was parsed, so bean validation skips it.
+public final class DecodedModelRequest extends ModelRequest {
+    DecodedModelRequest(Long id, String name) {
+        super(id, name);
+    }
+
+    public Model toModel() {
+        return new Model(getId(), getName());
+    }
+}
@@ -0,0 +1,46 @@
+package com.hackerrank.sample.decoder;
+
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+// MVC validator that leaves requests validated by ModelRequestDecoder alone and hands everything else
+// to bean validation, exactly as the default MVC validator would.
+public class DecodedRequestSkippingValidator implements SmartValidator {
+    private final ObjectProvider<Validator> validator;
+    private volatile SpringValidatorAdapter delegate;
+
+    public DecodedRequestSkippingValidator(ObjectProvider<Validator> validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (!(target instanceof DecodedModelRequest)) {
+            delegate().validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (!(target instanceof DecodedModelRequest)) {
+            delegate().validate(target, errors, validationHints);
+        }
+    }
+
+    private SpringValidatorAdapter delegate() {
+        SpringValidatorAdapter adapter = delegate;
+        if (adapter == null) {
+            adapter = new SpringValidatorAdapter(validator.getObject());
+            delegate = adapter;
+        }
+        return adapter;
+    }
+}
@@ -0,0 +1,88 @@
+package com.hackerrank.sample.decoder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.hackerrank.sample.exception.RequestValidationException;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Single pass over the token stream: fields are read, coerced the way Jackson binds ModelRequest
+// (numeric strings and floats for id, scalars for name, unknown fields ignored) and checked against
+// the Create-group rules before any object is built. Messages match GlobalExceptionHandler.handleValidation.
+public final class ModelRequestDecoder {
+    static final String ID_REQUIRED = "id: id is required";
+    static final String NAME_REQUIRED = "name: name is required";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // IOException means the body is not a readable ModelRequest; RequestValidationException means it broke a rule.
+    public DecodedModelRequest decode(InputStream body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            Long id = null;
+            String name = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("id".equals(field)) {
+                    id = readId(parser, value);
+                } else if ("name".equals(field)) {
+                    name = readName(parser, value);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected token " + token);
+            }
+
+            String violations = violations(id, name);
+            if (violations != null) {
+                throw new RequestValidationException(violations);
+            }
+            return new DecodedModelRequest(id, name);
+        }
+    }
+
+    private static Long readId(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getLongValue();
+            case VALUE_STRING -> {
+                String text = parser.getText().trim();
+                if (text.isEmpty()) {
+                    yield null;
+                }
+                try {
+                    yield Long.valueOf(text);
+                } catch (NumberFormatException ex) {
+                    throw new JsonParseException(parser, "id is not a number");
+                }
+            }
+            default -> throw new JsonParseException(parser, "id must be a number");
+        };
+    }
+
+    private static String readName(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!value.isScalarValue()) {
+            throw new JsonParseException(parser, "name must be a string");
+        }
+        return parser.getText();
+    }
+
+    private static String violations(Long id, String name) {
+        boolean nameBlank = name == null || name.trim().isEmpty();
+        if (id == null) {
+            return nameBlank ? ID_REQUIRED + "; " + NAME_REQUIRED : ID_REQUIRED;
+        }
+        return nameBlank ? NAME_REQUIRED : null;
+    }
+}
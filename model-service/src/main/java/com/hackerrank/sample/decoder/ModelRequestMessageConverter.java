@@ -0,0 +1,44 @@
+package com.hackerrank.sample.decoder;
+
+import com.hackerrank.sample.dto.ModelRequest;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+// Read-only fast path for ModelRequest bodies, registered ahead of the Jackson converter.
+public class ModelRequestMessageConverter extends AbstractHttpMessageConverter<ModelRequest> {
+    private final ModelRequestDecoder decoder = new ModelRequestDecoder();
+
+    public ModelRequestMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ModelRequest.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ModelRequest readInternal(Class<? extends ModelRequest> clazz, HttpInputMessage inputMessage)
+            throws IOException {
+        try {
+            return decoder.decode(inputMessage.getBody());
+        } catch (IOException ex) {
+            throw new HttpMessageNotReadableException("Invalid ModelRequest body: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(ModelRequest request, HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("ModelRequest is not written by this converter");
+    }
+}
@@ -0,0 +1,285 @@
+package com.hackerrank.sample.diagnostics;
+
+import com.hackerrank.sample.jfr.JfrEventStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ConcurrencyDiagnostics implements SmartLifecycle {
+    static final int HISTORY_SECONDS = 300;
+    static final int[] WINDOWS_SECONDS = {10, 60, 300};
+    private static final int MAX_PARK_SITES = 256;
+    private static final int TOP_PARK_SITES = 10;
+    private static final String CARRIER_GROUP = "CarrierThreads";
+
+    private final JfrEventStream eventStream;
+    private final int parallelism;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private final boolean virtualThreadEvents;
+    private final AtomicLong virtualThreadsStarted = new AtomicLong();
+    private final RollingWindow virtualThreadStarts = new RollingWindow(HISTORY_SECONDS);
+    private final RollingWindow pinned = new RollingWindow(HISTORY_SECONDS);
+    private final RollingWindow gcPauses = new RollingWindow(HISTORY_SECONDS);
+    private final RollingWindow allocations = new RollingWindow(HISTORY_SECONDS);
+    private final RollingWindow carrierUtilization = new RollingWindow(HISTORY_SECONDS);
+    private final Map<String, RollingWindow> parkSites = new ConcurrentHashMap<>();
+
+    // Only touched by the sampler thread; entries of carriers that have exited are dropped each sample.
+    private final Map<Long, Long> carrierCpuNanos = new HashMap<>();
+    private long lastSampleNanos;
+    private volatile ScheduledExecutorService sampler;
+
+    public ConcurrencyDiagnostics(
+            JfrEventStream eventStream,
+            @Value("${app.diagnostics.park-threshold:10ms}") Duration parkThreshold,
+            @Value("${app.diagnostics.virtual-thread-events:false}") boolean virtualThreadEvents
+    ) {
+        this.eventStream = eventStream;
+        this.virtualThreadEvents = virtualThreadEvents;
+        this.parallelism = Integer.getInteger(
+                "jdk.virtualThreadScheduler.parallelism",
+                Runtime.getRuntime().availableProcessors()
+        );
+
+        // VirtualThreadStart is the highest-volume event on this server, so the start rate is opt-in.
+        if (virtualThreadEvents) {
+            eventStream.subscribe("jdk.VirtualThreadStart", null, false, this::onVirtualThreadStart);
+        }
+        eventStream.subscribe("jdk.VirtualThreadPinned", null, false,
+                event -> pinned.record(secondOf(event), event.getDuration().toNanos()));
+        eventStream.subscribe("jdk.ThreadPark", parkThreshold, true, this::onThreadPark);
+        eventStream.subscribe("jdk.GarbageCollection", null, false, this::onGarbageCollection);
+        eventStream.subscribe("jdk.ObjectAllocationSample", null, false,
+                event -> allocations.record(secondOf(event), event.getLong("weight")));
+    }
+
+    public Map<String, Object> report() {
+        long now = Instant.now().getEpochSecond();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("jfrStreaming", eventStream.isRunning());
+        report.put("virtualThreads", virtualThreadsReport(now));
+        report.put("carrierPool", carrierPoolReport(now));
+        report.put("pinned", windows(now, pinned, this::durationSummary));
+        report.put("parkHotspots", windows(seconds -> parkHotspots(now, seconds)));
+        report.put("gcPauses", windows(now, gcPauses, this::durationSummary));
+        report.put("allocation", windows(now, allocations, summary -> Map.of(
+                "bytesPerSecond", Math.round(summary.sumPerSecond()),
+                "samples", summary.count()
+        )));
+        return report;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (sampler != null) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "concurrency-diagnostics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(this::sampleCarrierUtilization, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+            sampler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return sampler != null;
+    }
+
+    private void onVirtualThreadStart(RecordedEvent event) {
+        virtualThreadsStarted.incrementAndGet();
+        virtualThreadStarts.record(secondOf(event), 1);
+    }
+
+    private void onThreadPark(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null || !thread.isVirtual()) {
+            return;
+        }
+        String site = parkSite(event.getStackTrace());
+        RollingWindow window = parkSites.get(site);
+        if (window == null) {
+            if (parkSites.size() >= MAX_PARK_SITES) {
+                return;
+            }
+            window = parkSites.computeIfAbsent(site, key -> new RollingWindow(HISTORY_SECONDS));
+        }
+        window.record(secondOf(event), event.getDuration().toNanos());
+    }
+
+    private void onGarbageCollection(RecordedEvent event) {
+        gcPauses.record(secondOf(event), event.getDuration("sumOfPauses").toNanos());
+    }
+
+    // Skips the JDK parking machinery so the reported frame is the code that decided to wait.
+    private String parkSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("jdk.internal.")
+                    || type.startsWith("java.lang.VirtualThread")
+                    || type.startsWith("java.util.concurrent.locks.")) {
+                continue;
+            }
+            return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+        }
+        return "unknown";
+    }
+
+    // Enumerates live threads through the thread groups, which needs no safepoint or stack capture,
+    // and reads each carrier's CPU time from the ThreadMXBean.
+    void sampleCarrierUtilization() {
+        long nowNanos = System.nanoTime();
+        long busyNanos = 0;
+        Set<Long> live = new HashSet<>();
+        for (Thread thread : liveThreads()) {
+            ThreadGroup group = thread.getThreadGroup();
+            if (group == null || !CARRIER_GROUP.equals(group.getName())) {
+                continue;
+            }
+            long cpu = threadBean.getThreadCpuTime(thread.threadId());
+            if (cpu < 0) {
+                continue;
+            }
+            live.add(thread.threadId());
+            Long previous = carrierCpuNanos.put(thread.threadId(), cpu);
+            if (previous != null) {
+                busyNanos += cpu - previous;
+            }
+        }
+        carrierCpuNanos.keySet().retainAll(live);
+
+        if (lastSampleNanos != 0) {
+            long elapsed = nowNanos - lastSampleNanos;
+            long permille = elapsed <= 0 ? 0 : Math.min(1000, busyNanos * 1000 / (elapsed * parallelism));
+            carrierUtilization.record(Instant.now().getEpochSecond(), permille);
+        }
+        lastSampleNanos = nowNanos;
+    }
+
+    int trackedCarriers() {
+        return carrierCpuNanos.size();
+    }
+
+    private static Thread[] liveThreads() {
+        ThreadGroup root = Thread.currentThread().getThreadGroup();
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        Thread[] threads = new Thread[root.activeCount() + 16];
+        int count;
+        while ((count = root.enumerate(threads, true)) == threads.length) {
+            threads = new Thread[threads.length * 2];
+        }
+        return Arrays.copyOf(threads, count);
+    }
+
+    // The JDK exposes no live count of virtual threads; platform thread counts come from the ThreadMXBean.
+    private Map<String, Object> virtualThreadsReport(long now) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, Object> platform = new LinkedHashMap<>();
+        platform.put("live", threadBean.getThreadCount());
+        platform.put("daemon", threadBean.getDaemonThreadCount());
+        platform.put("peak", threadBean.getPeakThreadCount());
+        report.put("platformThreads", platform);
+        report.put("startEvents", virtualThreadEvents);
+        if (virtualThreadEvents) {
+            report.put("startedSinceStreaming", virtualThreadsStarted.get());
+            report.put("startRate", windows(now, virtualThreadStarts, RollingWindow.Summary::ratePerSecond));
+        }
+        return report;
+    }
+
+    private Map<String, Object> carrierPoolReport(long now) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("parallelism", parallelism);
+        report.put("utilization", windows(now, carrierUtilization, summary -> Map.of(
+                "mean", summary.mean() / 1000.0,
+                "max", summary.max() / 1000.0
+        )));
+        return report;
+    }
+
+    private Map<String, Object> durationSummary(RollingWindow.Summary summary) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("count", summary.count());
+        report.put("totalMs", summary.sum() / 1_000_000.0);
+        report.put("maxMs", summary.max() / 1_000_000.0);
+        return report;
+    }
+
+    private List<Map<String, Object>> parkHotspots(long now, int windowSeconds) {
+        List<Map<String, Object>> hotspots = new ArrayList<>();
+        parkSites.forEach((site, window) -> {
+            RollingWindow.Summary summary = window.summarize(now, windowSeconds);
+            if (summary.count() > 0) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("site", site);
+                entry.putAll(durationSummary(summary));
+                hotspots.add(entry);
+            }
+        });
+        hotspots.sort(Comparator.comparingDouble(entry -> -((Double) entry.get("totalMs"))));
+        return hotspots.size() > TOP_PARK_SITES ? hotspots.subList(0, TOP_PARK_SITES) : hotspots;
+    }
+
+    private Map<String, Object> windows(long now, RollingWindow window, Function<RollingWindow.Summary, Object> formatter) {
+        return windows(seconds -> formatter.apply(window.summarize(now, seconds)));
+    }
+
+    private Map<String, Object> windows(IntFunction<Object> formatter) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (int seconds : WINDOWS_SECONDS) {
+            report.put(label(seconds), formatter.apply(seconds));
+        }
+        return report;
+    }
+
+    private static String label(int seconds) {
+        return seconds < 60 ? seconds + "s" : (seconds / 60) + "m";
+    }
+
+    private static long secondOf(RecordedEvent event) {
+        return event.getEndTime().getEpochSecond();
+    }
+}
@@ -0,0 +1,29 @@
+package com.hackerrank.sample.diagnostics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "concurrency")
+public class ConcurrencyEndpoint {
+    private final ConcurrencyDiagnostics diagnostics;
+
+    public ConcurrencyEndpoint(ConcurrencyDiagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> concurrency() {
+        Thread currentThread = Thread.currentThread();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requestThread", Map.of(
+                "name", currentThread.getName(),
+                "virtual", currentThread.isVirtual()
+        ));
+        report.putAll(diagnostics.report());
+        return report;
+    }
+}
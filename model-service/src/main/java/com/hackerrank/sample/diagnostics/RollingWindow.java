@@ -0,0 +1,64 @@
+package com.hackerrank.sample.diagnostics;
+
+import java.util.Arrays;
+
+public class RollingWindow {
+    private final int capacitySeconds;
+    private final long[] bucketSecond;
+    private final long[] counts;
+    private final long[] sums;
+    private final long[] maxes;
+
+    public RollingWindow(int capacitySeconds) {
+        this.capacitySeconds = capacitySeconds;
+        this.bucketSecond = new long[capacitySeconds];
+        this.counts = new long[capacitySeconds];
+        this.sums = new long[capacitySeconds];
+        this.maxes = new long[capacitySeconds];
+        Arrays.fill(bucketSecond, Long.MIN_VALUE);
+    }
+
+    public synchronized void record(long epochSecond, long value) {
+        int index = (int) Math.floorMod(epochSecond, (long) capacitySeconds);
+        if (bucketSecond[index] != epochSecond) {
+            bucketSecond[index] = epochSecond;
+            counts[index] = 0;
+            sums[index] = 0;
+            maxes[index] = 0;
+        }
+        counts[index]++;
+        sums[index] += value;
+        maxes[index] = Math.max(maxes[index], value);
+    }
+
+    public synchronized Summary summarize(long nowEpochSecond, int windowSeconds) {
+        int window = Math.min(windowSeconds, capacitySeconds);
+        long oldest = nowEpochSecond - window;
+        long count = 0;
+        long sum = 0;
+        long max = 0;
+        for (int i = 0; i < capacitySeconds; i++) {
+            long second = bucketSecond[i];
+            if (second > oldest && second <= nowEpochSecond) {
+                count += counts[i];
+                sum += sums[i];
+                max = Math.max(max, maxes[i]);
+            }
+        }
+        return new Summary(window, count, sum, max);
+    }
+
+    public record Summary(int windowSeconds, long count, long sum, long max) {
+        public double ratePerSecond() {
+            return windowSeconds == 0 ? 0.0 : (double) count / windowSeconds;
+        }
+
+        public double sumPerSecond() {
+            return windowSeconds == 0 ? 0.0 : (double) sum / windowSeconds;
+        }
+
+        public double mean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+    }
+}
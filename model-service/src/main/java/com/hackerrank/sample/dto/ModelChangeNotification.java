@@ -0,0 +1,10 @@
+package com.hackerrank.sample.dto;
+
+public record ModelChangeNotification(
+        long sequence,
+        String type,
+        Long id,
+        String name,
+        long timestamp
+) {
+}
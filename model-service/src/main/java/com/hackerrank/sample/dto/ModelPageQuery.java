@@ -0,0 +1,58 @@
+package com.hackerrank.sample.dto;
+
+import com.hackerrank.sample.exception.BadResourceRequestException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// What GET /model/page can do. Only fields backed by an index (the primary key and idx_model_name) are
+// sortable, and the name filter is a prefix so it can use the same index; anything else is a 400.
+public record ModelPageQuery(Pageable pageable, String namePrefix) {
+    public static final int MAX_NAME_PREFIX_LENGTH = 255;
+
+    public enum SortableField {
+        ID("id"),
+        NAME("name");
+
+        private final String property;
+
+        SortableField(String property) {
+            this.property = property;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        static boolean isSortable(String property) {
+            return Arrays.stream(values()).anyMatch(field -> field.property.equals(property));
+        }
+    }
+
+    public static ModelPageQuery of(Pageable pageable, String namePrefix) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SortableField.isSortable(order.getProperty())) {
+                throw new BadResourceRequestException("Unsupported sort property: " + order.getProperty()
+                        + ". Sortable fields: " + sortableFields() + ".");
+            }
+            if (order.isIgnoreCase()) {
+                throw new BadResourceRequestException("Case-insensitive sort is not supported.");
+            }
+        }
+        if (namePrefix != null && namePrefix.length() > MAX_NAME_PREFIX_LENGTH) {
+            throw new BadResourceRequestException("namePrefix must be at most " + MAX_NAME_PREFIX_LENGTH + " characters.");
+        }
+        return new ModelPageQuery(pageable, namePrefix == null || namePrefix.isEmpty() ? null : namePrefix);
+    }
+
+    public boolean hasNamePrefix() {
+        return namePrefix != null;
+    }
+
+    private static String sortableFields() {
+        return Arrays.stream(SortableField.values())
+                .map(SortableField::property)
+                .collect(Collectors.joining(", "));
+    }
+}
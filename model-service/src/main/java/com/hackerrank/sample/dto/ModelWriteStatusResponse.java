@@ -0,0 +1,50 @@
+package com.hackerrank.sample.dto;
+
+public class ModelWriteStatusResponse {
+    private Long id;
+    private String status;
+    private String message;
+    private String statusUrl;
+
+    public ModelWriteStatusResponse() {
+    }
+
+    public ModelWriteStatusResponse(Long id, String status, String message, String statusUrl) {
+        this.id = id;
+        this.status = status;
+        this.message = message;
+        this.statusUrl = statusUrl;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getStatusUrl() {
+        return statusUrl;
+    }
+
+    public void setStatusUrl(String statusUrl) {
+        this.statusUrl = statusUrl;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hackerrank.sample.event;
+
+import com.hackerrank.sample.model.Model;
+import java.util.List;
+
+public sealed interface ModelChangeEvent {
+    record Created(Long id, String name) implements ModelChangeEvent {
+        public static Created of(Model model) {
+            return new Created(model.getId(), model.getName());
+        }
+    }
+
+    // One committed chunk of a bulk write, delivered as a single event so listeners can apply it in one go.
+    record BatchCreated(List<Created> models) implements ModelChangeEvent {
+        public static BatchCreated of(List<Model> models) {
+            return new BatchCreated(models.stream().map(Created::of).toList());
+        }
+    }
+
+    record Deleted(Long id) implements ModelChangeEvent {
+    }
+
+    record Erased() implements ModelChangeEvent {
+    }
+}
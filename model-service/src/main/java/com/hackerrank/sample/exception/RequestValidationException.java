@@ -0,0 +1,12 @@
+package com.hackerrank.sample.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Validation failures detected outside bean validation; rendered exactly like MethodArgumentNotValidException.
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class RequestValidationException extends RuntimeException {
+    public RequestValidationException(String msg) {
+        super(msg);
+    }
+}
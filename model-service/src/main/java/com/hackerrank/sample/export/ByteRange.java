@@ -0,0 +1,49 @@
+package com.hackerrank.sample.export;
+
+import java.util.Optional;
+
+// A single satisfiable byte range of a file, parsed from an HTTP Range header.
+public record ByteRange(long start, long end) {
+    public static final class UnsatisfiableRangeException extends RuntimeException {
+        UnsatisfiableRangeException(String range) {
+            super("Unsatisfiable range: " + range, null, false, false);
+        }
+    }
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    // Empty means "send the whole file": no header, a malformed one, or a multi-range request,
+    // which the spec lets a server answer with a plain 200.
+    public static Optional<ByteRange> parse(String header, long size) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return Optional.empty();
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) {
+                    throw new UnsatisfiableRangeException(header);
+                }
+                return Optional.of(new ByteRange(Math.max(0, size - suffix), size - 1));
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (start >= size || end < start) {
+                throw new UnsatisfiableRangeException(header);
+            }
+            return Optional.of(new ByteRange(start, end));
+        } catch (NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.hackerrank.sample.export;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+public record ExportSnapshot(Path path, long size, long models, Instant createdAt) {
+    public String fileName() {
+        return path.getFileName().toString();
+    }
+}
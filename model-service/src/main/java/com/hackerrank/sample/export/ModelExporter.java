@@ -0,0 +1,208 @@
+package com.hackerrank.sample.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// Writes gzip-compressed NDJSON snapshots of the catalog in the background. Rows stream from storage
+// straight into the compressor, and a snapshot only becomes visible once it is complete (write, then rename).
+@Component
+public class ModelExporter implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ModelExporter.class);
+    private static final String PREFIX = "models-";
+    private static final String SUFFIX = ".ndjson.gz";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ModelRepositoryPort modelRepository;
+    private final Path directory;
+    private final Duration interval;
+    private final int retained;
+    private final Timer duration;
+    private final AtomicBoolean exporting = new AtomicBoolean();
+    private volatile ExportSnapshot latest;
+    private volatile boolean running;
+    private Thread scheduler;
+
+    public ModelExporter(
+            ModelRepositoryPort modelRepository,
+            MeterRegistry registry,
+            @Value("${app.export.directory:exports}") String directory,
+            @Value("${app.export.interval:24h}") Duration interval,
+            @Value("${app.export.retained:2}") int retained
+    ) {
+        this.modelRepository = modelRepository;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.interval = interval;
+        this.retained = Math.max(1, retained);
+        this.duration = Timer.builder("model.export.duration").register(registry);
+    }
+
+    public Optional<ExportSnapshot> latest() {
+        return Optional.ofNullable(latest);
+    }
+
+    public boolean isExporting() {
+        return exporting.get();
+    }
+
+    // Returns false when an export is already in progress.
+    public boolean exportAsync() {
+        if (!exporting.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread.ofVirtual().name("model-export").start(() -> {
+            try {
+                writeSnapshot();
+            } catch (RuntimeException ex) {
+                log.error("Model export failed", ex);
+            } finally {
+                exporting.set(false);
+            }
+        });
+        return true;
+    }
+
+    ExportSnapshot writeSnapshot() {
+        long started = System.nanoTime();
+        Instant createdAt = Instant.now();
+        Path target = directory.resolve(PREFIX + createdAt.toEpochMilli() + SUFFIX);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        AtomicLong models = new AtomicLong();
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream file = Files.newOutputStream(temp);
+                 GZIPOutputStream gzip = new GZIPOutputStream(new BufferedOutputStream(file, 1 << 16), 1 << 16);
+                 JsonGenerator json = JSON_FACTORY.createGenerator(gzip)) {
+                // NDJSON: lines are separated by the explicit newline only, not Jackson's default space.
+                json.setRootValueSeparator(null);
+                modelRepository.streamAll(model -> {
+                    try {
+                        json.writeStartObject();
+                        json.writeNumberField("id", model.getId());
+                        json.writeStringField("name", model.getName());
+                        json.writeEndObject();
+                        json.writeRaw('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    models.incrementAndGet();
+                });
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            ExportSnapshot snapshot = new ExportSnapshot(target, Files.size(target), models.get(), createdAt);
+            latest = snapshot;
+            pruneOldSnapshots();
+            duration.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            log.info("Exported {} models to {} ({} bytes)", snapshot.models(), target, snapshot.size());
+            return snapshot;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write export " + target, ex);
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // best effort
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        latest = findLatestOnDisk().orElse(null);
+        running = true;
+        if (!interval.isZero()) {
+            scheduler = Thread.ofVirtual().name("model-export-scheduler").start(this::scheduleLoop);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (scheduler != null) {
+            scheduler.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void scheduleLoop() {
+        while (running) {
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            exportAsync();
+        }
+    }
+
+    private Optional<ExportSnapshot> findLatestOnDisk() {
+        return snapshotsOnDisk().stream().findFirst().map(path -> {
+            try {
+                String millis = path.getFileName().toString().substring(PREFIX.length()).replace(SUFFIX, "");
+                return new ExportSnapshot(path, Files.size(path), -1, Instant.ofEpochMilli(Long.parseLong(millis)));
+            } catch (IOException | NumberFormatException ex) {
+                return null;
+            }
+        });
+    }
+
+    private void pruneOldSnapshots() throws IOException {
+        List<Path> snapshots = snapshotsOnDisk();
+        for (Path old : snapshots.subList(Math.min(retained, snapshots.size()), snapshots.size())) {
+            Files.deleteIfExists(old);
+        }
+    }
+
+    // Newest first; the timestamp in the name sorts the same way as the creation time.
+    private List<Path> snapshotsOnDisk() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing((Path path) -> path.getFileName().toString().length())
+                            .thenComparing(path -> path.getFileName().toString())
+                            .reversed())
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not list exports in " + directory, ex);
+        }
+    }
+}
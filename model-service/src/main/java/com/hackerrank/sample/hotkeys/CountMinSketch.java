@@ -0,0 +1,59 @@
+package com.hackerrank.sample.hotkeys;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Fixed-size frequency estimator: depth rows of width counters, all in one array.
+// Increments are single atomic adds, so concurrent writers never block each other.
+// Estimates never undercount; they overcount by at most total/width with high probability.
+final class CountMinSketch {
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int depth, int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a power of two");
+        }
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    // Adds one occurrence and returns the new estimate for the key.
+    long increment(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1) | 1;
+        long estimate = Long.MAX_VALUE;
+        int width = mask + 1;
+        for (int row = 0; row < depth; row++) {
+            int index = row * width + (int) ((h1 + row * h2) & mask);
+            estimate = Math.min(estimate, counters.incrementAndGet(index));
+        }
+        return estimate;
+    }
+
+    long estimate(long key) {
+        long h1 = mix(key);
+        long h2 = mix(h1) | 1;
+        long estimate = Long.MAX_VALUE;
+        int width = mask + 1;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(row * width + (int) ((h1 + row * h2) & mask)));
+        }
+        return estimate;
+    }
+
+    // Halves every counter; applied once per window this gives an exponentially decaying count.
+    void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xD6E8FEB86659FD93L;
+        return h ^ (h >>> 32);
+    }
+}
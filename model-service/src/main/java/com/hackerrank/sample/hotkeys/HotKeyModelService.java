@@ -0,0 +1,52 @@
+package com.hackerrank.sample.hotkeys;
+
+import com.hackerrank.sample.hotkeys.HotKeyTracker.Operation;
+import com.hackerrank.sample.dto.ModelPageQuery;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.service.ModelService;
+import java.util.List;
+import org.springframework.data.domain.Page;
+
+// Counts the id before delegating, so lookups that end in 404 or 400 still show up as hot.
+public class HotKeyModelService implements ModelService {
+    private final ModelService delegate;
+    private final HotKeyTracker tracker;
+
+    public HotKeyModelService(ModelService delegate, HotKeyTracker tracker) {
+        this.delegate = delegate;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void deleteAllModels() {
+        delegate.deleteAllModels();
+    }
+
+    @Override
+    public void deleteModelById(Long id) {
+        tracker.record(Operation.DELETE, id);
+        delegate.deleteModelById(id);
+    }
+
+    @Override
+    public Model createModel(Model model) {
+        tracker.record(Operation.CREATE, model == null ? null : model.getId());
+        return delegate.createModel(model);
+    }
+
+    @Override
+    public Model getModelById(Long id) {
+        tracker.record(Operation.READ, id);
+        return delegate.getModelById(id);
+    }
+
+    @Override
+    public List<Model> getAllModels() {
+        return delegate.getAllModels();
+    }
+
+    @Override
+    public Page<Model> getModelsPage(ModelPageQuery query) {
+        return delegate.getModelsPage(query);
+    }
+}
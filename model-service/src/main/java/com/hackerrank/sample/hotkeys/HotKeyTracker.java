@@ -0,0 +1,111 @@
+package com.hackerrank.sample.hotkeys;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// One sketch and top-K table per operation, so a delete storm on one id does not hide behind reads.
+// Every window all counts are halved: a key hit at a steady r per second settles at 2 * r * window,
+// which is what rates are derived from. Memory is depth * width * 8 bytes per operation, regardless of traffic.
+@Component
+public class HotKeyTracker implements SmartLifecycle {
+    public enum Operation {
+        READ, CREATE, DELETE
+    }
+
+    public record HotKey(long id, long estimatedCount, double estimatedPerSecond) {
+    }
+
+    private final boolean enabled;
+    private final Duration window;
+    private final Map<Operation, CountMinSketch> sketches = new EnumMap<>(Operation.class);
+    private final Map<Operation, TopK> topKeys = new EnumMap<>(Operation.class);
+    private volatile boolean running;
+    private Thread decayer;
+
+    public HotKeyTracker(
+            @Value("${app.hot-keys.enabled:true}") boolean enabled,
+            @Value("${app.hot-keys.window:10s}") Duration window,
+            @Value("${app.hot-keys.depth:4}") int depth,
+            @Value("${app.hot-keys.width:4096}") int width,
+            @Value("${app.hot-keys.top:20}") int top
+    ) {
+        this.enabled = enabled;
+        this.window = window;
+        for (Operation operation : Operation.values()) {
+            sketches.put(operation, new CountMinSketch(depth, width));
+            topKeys.put(operation, new TopK(top));
+        }
+    }
+
+    public void record(Operation operation, Long id) {
+        if (!enabled || id == null) {
+            return;
+        }
+        long estimate = sketches.get(operation).increment(id);
+        topKeys.get(operation).offer(id, estimate);
+    }
+
+    public List<HotKey> hotKeys(Operation operation) {
+        double steadyStateSeconds = 2.0 * window.toMillis() / 1000.0;
+        return topKeys.get(operation).snapshot().stream()
+                .map(entry -> new HotKey(entry.key(), entry.count(), entry.count() / steadyStateSeconds))
+                .toList();
+    }
+
+    public Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("enabled", enabled);
+        report.put("window", window.toString());
+        for (Operation operation : Operation.values()) {
+            report.put(operation.name().toLowerCase(), hotKeys(operation));
+        }
+        return report;
+    }
+
+    void decay() {
+        for (Operation operation : Operation.values()) {
+            sketches.get(operation).decay();
+            topKeys.get(operation).decay();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !enabled) {
+            return;
+        }
+        running = true;
+        decayer = Thread.ofVirtual().name("hot-key-decay").start(this::decayLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        decayer.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void decayLoop() {
+        while (running) {
+            try {
+                Thread.sleep(window);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            decay();
+        }
+    }
+}
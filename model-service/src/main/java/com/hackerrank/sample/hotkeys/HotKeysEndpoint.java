@@ -0,0 +1,21 @@
+package com.hackerrank.sample.hotkeys;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "hotkeys")
+public class HotKeysEndpoint {
+    private final HotKeyTracker tracker;
+
+    public HotKeysEndpoint(HotKeyTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public Map<String, Object> hotKeys() {
+        return tracker.report();
+    }
+}
@@ -0,0 +1,92 @@
+package com.hackerrank.sample.hotkeys;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// k candidate slots replaced by compare-and-set. Offers below the current minimum, which is
+// nearly every request once the table has warmed up, return after one volatile read.
+final class TopK {
+    record Entry(long key, long count) {
+    }
+
+    private final AtomicReferenceArray<Entry> slots;
+    private volatile long minimum;
+
+    TopK(int k) {
+        this.slots = new AtomicReferenceArray<>(k);
+    }
+
+    void offer(long key, long count) {
+        if (count <= minimum) {
+            return;
+        }
+
+        int minIndex = -1;
+        Entry minEntry = null;
+        for (int i = 0; i < slots.length(); i++) {
+            Entry entry = slots.get(i);
+            if (entry == null) {
+                if (slots.compareAndSet(i, null, new Entry(key, count))) {
+                    return;
+                }
+                entry = slots.get(i);
+            }
+            if (entry.key() == key) {
+                if (entry.count() < count) {
+                    slots.compareAndSet(i, entry, new Entry(key, count));
+                }
+                return;
+            }
+            if (minEntry == null || entry.count() < minEntry.count()) {
+                minEntry = entry;
+                minIndex = i;
+            }
+        }
+
+        if (minEntry != null && minEntry.count() < count && slots.compareAndSet(minIndex, minEntry, new Entry(key, count))) {
+            refreshMinimum();
+        }
+    }
+
+    void decay() {
+        for (int i = 0; i < slots.length(); i++) {
+            Entry entry = slots.get(i);
+            if (entry != null) {
+                long halved = entry.count() >>> 1;
+                slots.compareAndSet(i, entry, halved == 0 ? null : new Entry(entry.key(), halved));
+            }
+        }
+        refreshMinimum();
+    }
+
+    // Highest first; a key can briefly occupy two slots after a race, so the larger count wins.
+    List<Entry> snapshot() {
+        Map<Long, Entry> byKey = new LinkedHashMap<>();
+        for (int i = 0; i < slots.length(); i++) {
+            Entry entry = slots.get(i);
+            if (entry != null) {
+                byKey.merge(entry.key(), entry, (a, b) -> a.count() >= b.count() ? a : b);
+            }
+        }
+        List<Entry> entries = new ArrayList<>(byKey.values());
+        entries.sort(Comparator.comparingLong(Entry::count).reversed());
+        return entries;
+    }
+
+    private void refreshMinimum() {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < slots.length(); i++) {
+            Entry entry = slots.get(i);
+            if (entry == null) {
+                minimum = 0;
+                return;
+            }
+            min = Math.min(min, entry.count());
+        }
+        minimum = min;
+    }
+}
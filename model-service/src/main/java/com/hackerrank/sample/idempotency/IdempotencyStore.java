@@ -0,0 +1,218 @@
+package com.hackerrank.sample.idempotency;
+
+import com.hackerrank.sample.exception.BadResourceRequestException;
+import com.hackerrank.sample.exception.ConflictException;
+import com.hackerrank.sample.exception.ServiceUnavailableException;
+import com.hackerrank.sample.exception.UnprocessableRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+// Remembers successful responses by Idempotency-Key so a retried request is answered without reaching
+// the service. Keys hash to one of a fixed number of stripes, each an insertion-ordered map under its own
+// lock; with a single TTL that order is also expiry order, so expired entries are purged from the head
+// and the oldest completed entry is evicted when a stripe is full. In-flight reservations are never
+// evicted, since that would let a retry run the call a second time; a stripe full of them answers 503.
+@Component
+public class IdempotencyStore {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private record Entry(String fingerprint, Stored response, long expiresAtMillis) {
+        boolean inFlight() {
+            return response == null;
+        }
+    }
+
+    private record Stored(int status, URI location, Object body) {
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    }
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int capacityPerStripe;
+    private final Stripe[] stripes;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter conflicts;
+    private final Counter mismatches;
+    private final Counter saturated;
+
+    public IdempotencyStore(
+            MeterRegistry registry,
+            @Value("${app.idempotency.enabled:true}") boolean enabled,
+            @Value("${app.idempotency.ttl:10m}") Duration ttl,
+            @Value("${app.idempotency.capacity:100000}") int capacity,
+            @Value("${app.idempotency.stripes:64}") int stripes
+    ) {
+        this.enabled = enabled;
+        this.ttlMillis = ttl.toMillis();
+        int stripeCount = Integer.highestOneBit(Math.max(1, stripes));
+        this.capacityPerStripe = Math.max(1, capacity / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.executed = outcome(registry, "executed");
+        this.replayed = outcome(registry, "replayed");
+        this.conflicts = outcome(registry, "in_progress");
+        this.mismatches = outcome(registry, "mismatch");
+        this.saturated = outcome(registry, "saturated");
+        Gauge.builder("idempotency.keys", this, IdempotencyStore::size).register(registry);
+    }
+
+    // scope keeps keys of different endpoints apart; fingerprint identifies the request body, so a key
+    // reused for a different request is rejected instead of replaying an unrelated response.
+    public ResponseEntity<?> execute(String scope, String key, String fingerprint, Supplier<ResponseEntity<?>> call) {
+        if (!enabled || key == null) {
+            return call.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadResourceRequestException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters.");
+        }
+
+        String storeKey = scope + ' ' + key;
+        Stripe stripe = stripeOf(storeKey);
+        Entry existing = reserve(stripe, storeKey, fingerprint);
+        if (existing != null) {
+            return replay(existing, fingerprint);
+        }
+
+        ResponseEntity<?> response;
+        try {
+            response = call.get();
+        } catch (RuntimeException | Error ex) {
+            remove(stripe, storeKey);
+            throw ex;
+        }
+
+        if (response.getStatusCode().is2xxSuccessful()) {
+            complete(stripe, storeKey, new Entry(
+                    fingerprint,
+                    new Stored(response.getStatusCode().value(), response.getHeaders().getLocation(), response.getBody()),
+                    System.currentTimeMillis() + ttlMillis
+            ));
+        } else {
+            remove(stripe, storeKey);
+        }
+        executed.increment();
+        return response;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    // Returns the live entry for the key, or null after reserving it for the caller.
+    private Entry reserve(Stripe stripe, String storeKey, String fingerprint) {
+        long now = System.currentTimeMillis();
+        stripe.lock.lock();
+        try {
+            purgeExpired(stripe, now);
+            Entry existing = stripe.entries.get(storeKey);
+            if (existing != null) {
+                return existing;
+            }
+            if (stripe.entries.size() >= capacityPerStripe && !evictOldestCompleted(stripe)) {
+                saturated.increment();
+                throw new ServiceUnavailableException("Too many requests with an Idempotency-Key in progress.");
+            }
+            stripe.entries.put(storeKey, new Entry(fingerprint, null, now + ttlMillis));
+            return null;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private static boolean evictOldestCompleted(Stripe stripe) {
+        Iterator<Entry> entries = stripe.entries.values().iterator();
+        while (entries.hasNext()) {
+            if (!entries.next().inFlight()) {
+                entries.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void complete(Stripe stripe, String storeKey, Entry entry) {
+        stripe.lock.lock();
+        try {
+            // Re-inserted so it moves to the tail and the map stays in expiry order.
+            stripe.entries.remove(storeKey);
+            stripe.entries.put(storeKey, entry);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private void remove(Stripe stripe, String storeKey) {
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(storeKey);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private ResponseEntity<?> replay(Entry entry, String fingerprint) {
+        if (!entry.fingerprint().equals(fingerprint)) {
+            mismatches.increment();
+            throw new UnprocessableRequestException("Idempotency-Key was already used for a different request.");
+        }
+        if (entry.inFlight()) {
+            conflicts.increment();
+            throw new ConflictException("A request with the same Idempotency-Key is in progress.");
+        }
+        replayed.increment();
+        Stored stored = entry.response();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.status()).header(REPLAYED_HEADER, "true");
+        if (stored.location() != null) {
+            builder.location(stored.location());
+        }
+        return builder.body(stored.body());
+    }
+
+    private static void purgeExpired(Stripe stripe, long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = stripe.entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().expiresAtMillis() > now) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private Stripe stripeOf(String storeKey) {
+        int h = storeKey.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static Counter outcome(MeterRegistry registry, String outcome) {
+        return Counter.builder("idempotency.requests").tag("outcome", outcome).register(registry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.hackerrank.sample.importer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+// Reads a file in fixed-size chunks through a FileChannel and hands out complete lines together with
+// the byte offset just past each one, which is what a resumable checkpoint records.
+final class ChunkedLineReader {
+    interface LineHandler {
+        void onLine(String line, long endOffset) throws InterruptedException;
+    }
+
+    private final Path path;
+    private final int chunkSize;
+
+    ChunkedLineReader(Path path, int chunkSize) {
+        this.path = path;
+        this.chunkSize = chunkSize;
+    }
+
+    void read(long startOffset, BooleanSupplier cancelled, LineHandler handler) throws IOException, InterruptedException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.position(startOffset);
+            ByteBuffer chunk = ByteBuffer.allocateDirect(chunkSize);
+            byte[] pending = new byte[256];
+            int pendingLength = 0;
+            long offset = startOffset;
+
+            while (!cancelled.getAsBoolean() && channel.read(chunk) != -1) {
+                chunk.flip();
+                while (chunk.hasRemaining()) {
+                    byte b = chunk.get();
+                    offset++;
+                    if (b == '\n') {
+                        handler.onLine(decode(pending, pendingLength), offset);
+                        pendingLength = 0;
+                    } else {
+                        if (pendingLength == pending.length) {
+                            pending = Arrays.copyOf(pending, pending.length * 2);
+                        }
+                        pending[pendingLength++] = b;
+                    }
+                }
+                chunk.clear();
+            }
+            if (pendingLength > 0 && !cancelled.getAsBoolean()) {
+                handler.onLine(decode(pending, pendingLength), offset);
+            }
+        }
+    }
+
+    private static String decode(byte[] bytes, int length) {
+        int end = length > 0 && bytes[length - 1] == '\r' ? length - 1 : length;
+        return new String(bytes, 0, end, StandardCharsets.UTF_8);
+    }
+}
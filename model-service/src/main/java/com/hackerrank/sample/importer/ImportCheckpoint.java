@@ -0,0 +1,48 @@
+package com.hackerrank.sample.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+// Everything before offset has been written or rejected; counters are cumulative across resumes.
+public record ImportCheckpoint(
+        long offset,
+        long lines,
+        long persisted,
+        long duplicates,
+        long rejected,
+        long failed
+) {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    static final ImportCheckpoint START = new ImportCheckpoint(0, 0, 0, 0, 0, 0);
+
+    static Path pathFor(Path source) {
+        return source.resolveSibling(source.getFileName() + ".checkpoint");
+    }
+
+    static ImportCheckpoint load(Path checkpoint) {
+        if (!Files.exists(checkpoint)) {
+            return START;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(checkpoint.toFile(), ImportCheckpoint.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read import checkpoint " + checkpoint, ex);
+        }
+    }
+
+    // Write-then-rename, so a crash mid-write never leaves a torn checkpoint behind.
+    void save(Path checkpoint) {
+        Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try {
+            Files.write(temp, OBJECT_MAPPER.writeValueAsBytes(this));
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write import checkpoint " + checkpoint, ex);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.hackerrank.sample.importer;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+// java -jar model-service.jar --import=/data/models.ndjson [--import.resume]
+// Runs the import once the context is up and exits with 0 when nothing failed.
+@Component
+public class ImportCommandLineRunner implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(ImportCommandLineRunner.class);
+
+    private final ModelImportService importService;
+    private final ConfigurableApplicationContext context;
+
+    public ImportCommandLineRunner(ModelImportService importService, ConfigurableApplicationContext context) {
+        this.importService = importService;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> files = args.getOptionValues("import");
+        if (files == null || files.isEmpty()) {
+            return;
+        }
+
+        ImportStatus status = importService.runAndWait(Path.of(files.get(0)), args.containsOption("import.resume"));
+        log.info("Import finished: {}", status);
+        boolean ok = status.state() == ImportStatus.State.COMPLETED && status.failed() == 0;
+        System.exit(SpringApplication.exit(context, () -> ok ? 0 : 1));
+    }
+}
@@ -0,0 +1,285 @@
+package com.hackerrank.sample.importer;
+
+import com.hackerrank.sample.event.ModelChangeEvent;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.service.ModelBatchWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+// One pass over one file: a single reader parses and batches lines, and up to maxInFlight batches are written
+// concurrently. Batches finish out of order, so the checkpoint only advances over a contiguous prefix of them.
+// A batch that fails to write stops the job as FAILED and the checkpoint never moves past it, so a resume
+// retries it.
+final class ImportJob {
+    private static final Logger log = LoggerFactory.getLogger(ImportJob.class);
+    private static final int MAX_ERRORS = 20;
+
+    private final Path source;
+    private final Path checkpointPath;
+    private final ModelRecordParser parser;
+    private final ModelBatchWriter batchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int chunkSize;
+    private final Semaphore inFlight;
+    private final long totalBytes;
+    private final long startNanos = System.nanoTime();
+    private final ImportCheckpoint start;
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong lines = new AtomicLong();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+    private final TreeMap<Long, Batch> completedAhead = new TreeMap<>();
+    private long nextToCommit;
+    private long committedOffset;
+    private long committedLines;
+    private long lastCheckpointNanos;
+
+    private volatile boolean cancelled;
+    private volatile ImportStatus.State state = ImportStatus.State.RUNNING;
+    private volatile long finishedNanos;
+
+    ImportJob(
+            Path source,
+            ModelRecordParser parser,
+            ModelBatchWriter batchWriter,
+            ApplicationEventPublisher eventPublisher,
+            int batchSize,
+            int maxInFlight,
+            int chunkSize,
+            boolean resume
+    ) throws IOException {
+        this.source = source;
+        this.checkpointPath = ImportCheckpoint.pathFor(source);
+        this.parser = parser;
+        this.batchWriter = batchWriter;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.chunkSize = chunkSize;
+        this.totalBytes = Files.size(source);
+        this.start = resume ? ImportCheckpoint.load(checkpointPath) : ImportCheckpoint.START;
+        this.committedOffset = start.offset();
+        this.committedLines = start.lines();
+        this.bytesRead.set(start.offset());
+    }
+
+    void run() {
+        try (ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor()) {
+            BatchBuilder batch = new BatchBuilder(start.offset());
+            long[] nextSequence = {1};
+            new ChunkedLineReader(source, chunkSize).read(start.offset(), this::stopping, (line, endOffset) -> {
+                bytesRead.set(endOffset);
+                lines.incrementAndGet();
+                batch.endOffset = endOffset;
+                batch.endLine = start.lines() + lines.get();
+                if (!line.isBlank() && !(start.offset() == 0 && lines.get() == 1 && parser.isHeader(line))) {
+                    try {
+                        batch.models.add(parser.parse(line));
+                    } catch (ModelRecordParser.RejectedLineException ex) {
+                        rejected.incrementAndGet();
+                        recordError("line " + (start.lines() + lines.get()) + ": " + ex.getMessage());
+                    }
+                }
+                if (batch.models.size() >= batchSize) {
+                    submit(writers, batch.take(nextSequence[0]++));
+                }
+            });
+            if (batch.endOffset > batch.takenOffset && !stopping()) {
+                submit(writers, batch.take(nextSequence[0]));
+            }
+        } catch (IOException ex) {
+            fail(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        } catch (RuntimeException ex) {
+            fail(ex);
+        }
+
+        // All writers have finished once the executor is closed.
+        checkpointLock.lock();
+        try {
+            checkpoint().save(checkpointPath);
+        } finally {
+            checkpointLock.unlock();
+        }
+        finishedNanos = System.nanoTime();
+        if (state == ImportStatus.State.RUNNING) {
+            state = cancelled ? ImportStatus.State.CANCELLED : ImportStatus.State.COMPLETED;
+        }
+        log.info("Import of {} {}: {} persisted, {} duplicates, {} rejected, {} failed",
+                source, state, persisted.get(), duplicates.get(), rejected.get(), failed.get());
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    ImportStatus status() {
+        long end = finishedNanos == 0 ? System.nanoTime() : finishedNanos;
+        long elapsedMillis = (end - startNanos) / 1_000_000;
+        long written = persisted.get() + duplicates.get() - start.persisted() - start.duplicates();
+        double rate = elapsedMillis == 0 ? 0 : written * 1000.0 / elapsedMillis;
+        List<String> errorSample;
+        synchronized (errors) {
+            errorSample = List.copyOf(errors);
+        }
+        return new ImportStatus(
+                source.toString(),
+                state,
+                bytesRead.get(),
+                totalBytes,
+                start.lines() + lines.get(),
+                persisted.get() + start.persisted(),
+                duplicates.get() + start.duplicates(),
+                rejected.get() + start.rejected(),
+                failed.get() + start.failed(),
+                rate,
+                elapsedMillis,
+                errorSample
+        );
+    }
+
+    private void submit(ExecutorService writers, Batch batch) throws InterruptedException {
+        inFlight.acquire();
+        writers.submit(() -> {
+            boolean written = false;
+            try {
+                written = write(batch);
+            } finally {
+                inFlight.release();
+                completed(batch, written);
+            }
+        });
+    }
+
+    // False when any row of the batch could not be written for a reason other than a duplicate id.
+    private boolean write(Batch batch) {
+        if (batch.models().isEmpty()) {
+            return true;
+        }
+        List<Model> created = new ArrayList<>(batch.models().size());
+        boolean ok = true;
+        try {
+            for (ModelBatchWriter.WriteOutcome outcome : batchWriter.writeAll(batch.models())) {
+                switch (outcome.status()) {
+                    case PERSISTED -> {
+                        persisted.incrementAndGet();
+                        created.add(outcome.model());
+                    }
+                    case DUPLICATE -> duplicates.incrementAndGet();
+                    case FAILED -> {
+                        failed.incrementAndGet();
+                        recordError("id " + outcome.model().getId() + ": " + outcome.message());
+                        ok = false;
+                    }
+                }
+            }
+        } catch (RuntimeException ex) {
+            failed.addAndGet(batch.models().size());
+            recordError("batch " + batch.sequence() + ": " + ex.getMessage());
+            ok = false;
+        }
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(ModelChangeEvent.BatchCreated.of(created));
+        }
+        if (!ok) {
+            state = ImportStatus.State.FAILED;
+            log.error("Import of {} failed at batch {}; the checkpoint stays before it", source, batch.sequence());
+        }
+        return ok;
+    }
+
+    private void completed(Batch batch, boolean written) {
+        checkpointLock.lock();
+        try {
+            // A failed batch is never added, so nextToCommit cannot pass it.
+            if (written) {
+                completedAhead.put(batch.sequence(), batch);
+            }
+            while (completedAhead.containsKey(nextToCommit + 1)) {
+                nextToCommit++;
+                Batch done = completedAhead.remove(nextToCommit);
+                committedOffset = done.endOffset();
+                committedLines = done.endLine();
+            }
+            long now = System.nanoTime();
+            if (now - lastCheckpointNanos >= 1_000_000_000L) {
+                lastCheckpointNanos = now;
+                checkpoint().save(checkpointPath);
+            }
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    // Counters may run slightly ahead of the offset; on resume those rows come back as duplicates.
+    private ImportCheckpoint checkpoint() {
+        return new ImportCheckpoint(
+                committedOffset,
+                committedLines,
+                start.persisted() + persisted.get(),
+                start.duplicates() + duplicates.get(),
+                start.rejected() + rejected.get(),
+                start.failed() + failed.get());
+    }
+
+    private boolean stopping() {
+        return cancelled || state == ImportStatus.State.FAILED;
+    }
+
+    private void fail(Exception ex) {
+        state = ImportStatus.State.FAILED;
+        recordError(ex.getMessage());
+        log.error("Import of {} failed", source, ex);
+    }
+
+    private void recordError(String error) {
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+
+    private record Batch(long sequence, List<Model> models, long endOffset, long endLine) {
+    }
+
+    private final class BatchBuilder {
+        private List<Model> models = new ArrayList<>(batchSize);
+        private long endOffset;
+        private long endLine;
+        private long takenOffset;
+
+        private BatchBuilder(long startOffset) {
+            this.endOffset = startOffset;
+            this.takenOffset = startOffset;
+        }
+
+        Batch take(long sequence) {
+            Batch batch = new Batch(sequence, models, endOffset, endLine);
+            models = new ArrayList<>(batchSize);
+            takenOffset = endOffset;
+            return batch;
+        }
+    }
+}
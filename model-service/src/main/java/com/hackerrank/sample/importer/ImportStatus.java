@@ -0,0 +1,25 @@
+package com.hackerrank.sample.importer;
+
+import java.util.List;
+
+public record ImportStatus(
+        String file,
+        State state,
+        long bytesRead,
+        long totalBytes,
+        long lines,
+        long persisted,
+        long duplicates,
+        long rejected,
+        long failed,
+        double rowsPerSecond,
+        long elapsedMillis,
+        List<String> errors
+) {
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+}
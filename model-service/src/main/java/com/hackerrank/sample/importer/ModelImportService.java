@@ -0,0 +1,118 @@
+package com.hackerrank.sample.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackerrank.sample.exception.BadResourceRequestException;
+import com.hackerrank.sample.exception.NoSuchResourceFoundException;
+import com.hackerrank.sample.service.ModelBatchWriter;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Runs at most one import at a time. Each committed chunk is published as one BatchCreated event, so the read
+// projection and change stream follow the import as it progresses.
+@Component
+public class ModelImportService {
+    private final ModelBatchWriter batchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Path directory;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final int chunkSize;
+    private final AtomicReference<ImportJob> current = new AtomicReference<>();
+
+    public ModelImportService(
+            ModelBatchWriter batchWriter,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${app.import.directory:imports}") String directory,
+            @Value("${app.import.batch-size:1000}") int batchSize,
+            @Value("${app.import.max-in-flight:4}") int maxInFlight,
+            @Value("${app.import.chunk-size:1048576}") int chunkSize
+    ) {
+        this.batchWriter = batchWriter;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportStatus start(String file, boolean resume) {
+        ImportJob job = prepare(resolve(file), resume);
+        Thread.ofVirtual().name("model-import").start(job::run);
+        return job.status();
+    }
+
+    // Used by the CLI runner: the file may live anywhere, and the call returns when the import ends.
+    public ImportStatus runAndWait(Path file, boolean resume) {
+        ImportJob job = prepare(file.toAbsolutePath().normalize(), resume);
+        job.run();
+        return job.status();
+    }
+
+    public Optional<ImportStatus> status() {
+        return Optional.ofNullable(current.get()).map(ImportJob::status);
+    }
+
+    public ImportStatus cancel() {
+        ImportJob job = current.get();
+        if (job == null) {
+            throw new NoSuchResourceFoundException("No import has been started.");
+        }
+        job.cancel();
+        return job.status();
+    }
+
+    private ImportJob prepare(Path source, boolean resume) {
+        if (!Files.isRegularFile(source)) {
+            throw new NoSuchResourceFoundException("Import file not found.");
+        }
+        ImportFormat format;
+        try {
+            format = ImportFormat.detect(source);
+        } catch (IllegalArgumentException ex) {
+            throw new BadResourceRequestException(ex.getMessage());
+        }
+
+        ImportJob job;
+        try {
+            job = new ImportJob(source, new ModelRecordParser(format, objectMapper, validator),
+                    batchWriter, eventPublisher, batchSize, maxInFlight, chunkSize, resume);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open import file " + source, ex);
+        }
+
+        ImportJob previous = current.get();
+        if (previous != null && previous.status().state() == ImportStatus.State.RUNNING) {
+            throw new BadResourceRequestException("An import is already running.");
+        }
+        if (!current.compareAndSet(previous, job)) {
+            throw new BadResourceRequestException("An import is already running.");
+        }
+        return job;
+    }
+
+    // Admin requests may only name files inside the import directory.
+    private Path resolve(String file) {
+        if (file == null || file.isBlank()) {
+            throw new BadResourceRequestException("file is required.");
+        }
+        Path source = directory.resolve(file).normalize();
+        if (!source.startsWith(directory)) {
+            throw new BadResourceRequestException("file must be inside the import directory.");
+        }
+        return source;
+    }
+}
@@ -0,0 +1,76 @@
+package com.hackerrank.sample.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackerrank.sample.dto.ModelRequest;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.validation.ValidationGroups;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Parses one line into a Model, applying the same Create-group rules as POST /model.
+final class ModelRecordParser {
+    static final class RejectedLineException extends Exception {
+        RejectedLineException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    ModelRecordParser(ImportFormat format, ObjectMapper objectMapper, Validator validator) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    boolean isHeader(String line) {
+        return format == ImportFormat.CSV && line.replace(" ", "").equalsIgnoreCase("id,name");
+    }
+
+    Model parse(String line) throws RejectedLineException {
+        ModelRequest request = format == ImportFormat.CSV ? parseCsv(line) : parseJson(line);
+        Set<ConstraintViolation<ModelRequest>> violations = validator.validate(request, ValidationGroups.Create.class);
+        if (!violations.isEmpty()) {
+            throw new RejectedLineException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return new Model(request.getId(), request.getName());
+    }
+
+    private ModelRequest parseJson(String line) throws RejectedLineException {
+        try {
+            return objectMapper.readValue(line, ModelRequest.class);
+        } catch (JsonProcessingException ex) {
+            throw new RejectedLineException("Invalid JSON.");
+        }
+    }
+
+    // Two columns, id and name; name may be quoted with "" as the escaped quote.
+    private static ModelRequest parseCsv(String line) throws RejectedLineException {
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            throw new RejectedLineException("Expected id,name.");
+        }
+
+        String idField = line.substring(0, comma).trim();
+        Long id;
+        try {
+            id = idField.isEmpty() ? null : Long.valueOf(idField);
+        } catch (NumberFormatException ex) {
+            throw new RejectedLineException("id: must be a number");
+        }
+
+        String name = line.substring(comma + 1).trim();
+        if (name.length() >= 2 && name.startsWith("\"") && name.endsWith("\"")) {
+            name = name.substring(1, name.length() - 1).replace("\"\"", "\"");
+        }
+        return new ModelRequest(id, name);
+    }
+}
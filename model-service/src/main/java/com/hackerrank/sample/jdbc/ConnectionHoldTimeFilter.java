@@ -0,0 +1,51 @@
+package com.hackerrank.sample.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Total connection hold time per request, next to http.server.requests: with open-in-view off it should
+// track SQL time, not the time spent mapping and serializing the response.
+@Component
+public class ConnectionHoldTimeFilter extends OncePerRequestFilter {
+    private final MeterRegistry registry;
+
+    public ConnectionHoldTimeFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestConnectionStats stats = RequestConnectionStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestConnectionStats.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            Timer.builder("http.server.requests.connection.hold")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(stats.heldNanos(), TimeUnit.NANOSECONDS);
+            DistributionSummary.builder("http.server.requests.connection.acquisitions")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(stats.acquisitions());
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.hackerrank.sample.jdbc;
+
+import com.hackerrank.sample.deadline.Deadline;
+import io.micrometer.core.instrument.Timer;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+// Measures how long each physical connection is held, from checkout to close, both globally
+// and for the request that checked it out. Statements created under a request deadline get a
+// query timeout of the remaining budget.
+// Hikari has no per-call checkout timeout, so when the pool size is known checkouts first take one of
+// as many permits: the wait for a permit is capped by the request deadline, and a permit holder finds
+// a free connection in the pool.
+public class InstrumentedDataSource extends DelegatingDataSource {
+    private final Supplier<Timer> holdTimer;
+    private final Semaphore checkouts;
+    private final Duration checkoutTimeout;
+
+    public InstrumentedDataSource(DataSource target, Supplier<Timer> holdTimer) {
+        this(target, holdTimer, 0, Duration.ZERO);
+    }
+
+    // maxConnections of zero leaves checkouts ungated.
+    public InstrumentedDataSource(DataSource target, Supplier<Timer> holdTimer, int maxConnections, Duration checkoutTimeout) {
+        super(target);
+        this.holdTimer = holdTimer;
+        this.checkouts = maxConnections > 0 ? new Semaphore(maxConnections, true) : null;
+        this.checkoutTimeout = checkoutTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Deadline.check("pool");
+        acquirePermit();
+        try {
+            return track(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            releasePermit();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Deadline.check("pool");
+        acquirePermit();
+        try {
+            return track(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            releasePermit();
+            throw ex;
+        }
+    }
+
+    int availablePermits() {
+        return checkouts == null ? -1 : checkouts.availablePermits();
+    }
+
+    private void acquirePermit() throws SQLException {
+        if (checkouts == null) {
+            return;
+        }
+        Duration wait = Deadline.cap(checkoutTimeout);
+        boolean acquired;
+        try {
+            acquired = checkouts.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection.", ex);
+        }
+        if (acquired) {
+            return;
+        }
+        Deadline deadline = Deadline.current();
+        if (deadline != null && deadline.isExpired()) {
+            deadline.expired("pool");
+            throw new SQLTimeoutException("Request deadline exceeded while waiting for a connection.");
+        }
+        throw new SQLTransientConnectionException("Connection is not available, request timed out after "
+                + checkoutTimeout.toMillis() + "ms.");
+    }
+
+    private void releasePermit() {
+        if (checkouts != null) {
+            checkouts.release();
+        }
+    }
+
+    private Connection track(Connection connection) {
+        return new TrackedConnection(connection, RequestConnectionStats.current(), System.nanoTime());
+    }
+
+    private final class TrackedConnection extends DelegatingConnection {
+        private final RequestConnectionStats request;
+        private final long acquiredNanos;
+        private boolean closed;
+
+        private TrackedConnection(Connection target, RequestConnectionStats request, long acquiredNanos) {
+            super(target);
+            this.request = request;
+            this.acquiredNanos = acquiredNanos;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!closed) {
+                closed = true;
+                long held = System.nanoTime() - acquiredNanos;
+                holdTimer.get().record(held, TimeUnit.NANOSECONDS);
+                if (request != null) {
+                    request.record(held);
+                }
+                try {
+                    super.close();
+                } finally {
+                    releasePermit();
+                }
+                return;
+            }
+            super.close();
+        }
+
+        @Override
+        public Statement createStatement() throws SQLException {
+            return withDeadline(super.createStatement());
+        }
+
+        @Override
+        public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+            return withDeadline(super.createStatement(resultSetType, resultSetConcurrency));
+        }
+
+        @Override
+        public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+                throws SQLException {
+            return withDeadline(super.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql) throws SQLException {
+            return withDeadline(super.prepareStatement(sql));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+                throws SQLException {
+            return withDeadline(super.prepareStatement(sql, resultSetType, resultSetConcurrency));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(
+                String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+            return withDeadline(super.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+            return withDeadline(super.prepareStatement(sql, autoGeneratedKeys));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+            return withDeadline(super.prepareStatement(sql, columnIndexes));
+        }
+
+        @Override
+        public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+            return withDeadline(super.prepareStatement(sql, columnNames));
+        }
+
+        @Override
+        public CallableStatement prepareCall(String sql) throws SQLException {
+            return withDeadline(super.prepareCall(sql));
+        }
+
+        @Override
+        public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency)
+                throws SQLException {
+            return withDeadline(super.prepareCall(sql, resultSetType, resultSetConcurrency));
+        }
+
+        @Override
+        public CallableStatement prepareCall(
+                String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+            return withDeadline(super.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+        }
+
+        // JDBC timeouts are whole seconds, so the remaining budget is rounded up.
+        private <T extends Statement> T withDeadline(T statement) throws SQLException {
+            Deadline deadline = Deadline.current();
+            if (deadline == null) {
+                return statement;
+            }
+            if (deadline.isExpired()) {
+                statement.close();
+                deadline.expired("jdbc");
+                throw new SQLTimeoutException("Request deadline exceeded before the statement ran.");
+            }
+            long remainingMillis = deadline.remaining().toMillis();
+            int seconds = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, (remainingMillis + 999) / 1000));
+            if (statement.getQueryTimeout() == 0 || seconds < statement.getQueryTimeout()) {
+                statement.setQueryTimeout(seconds);
+            }
+            return statement;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hackerrank.sample.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+// Wraps the application datasource. When read/write routing puts a lazy proxy in front, the proxy's
+// target is wrapped instead, so the hold time covers the physical connection rather than the lazy handle.
+// A single Hikari pool gets a checkout gate of its size; the routing datasource spans several pools and
+// is left ungated.
+@Component
+public class InstrumentedDataSourcePostProcessor implements BeanPostProcessor {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private volatile Timer holdTimer;
+
+    public InstrumentedDataSourcePostProcessor(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)
+                || bean instanceof InstrumentedDataSource) {
+            return bean;
+        }
+        if (bean instanceof LazyConnectionDataSourceProxy lazy) {
+            lazy.setTargetDataSource(new InstrumentedDataSource(lazy.getTargetDataSource(), holdTimer()));
+            return lazy;
+        }
+        if (bean instanceof HikariDataSource hikari) {
+            return new InstrumentedDataSource(dataSource, holdTimer(), hikari.getMaximumPoolSize(),
+                    Duration.ofMillis(hikari.getConnectionTimeout()));
+        }
+        return new InstrumentedDataSource(dataSource, holdTimer());
+    }
+
+    // The registry is resolved on first use: datasources are created before meter binders are ready.
+    private Supplier<Timer> holdTimer() {
+        return () -> {
+            Timer timer = holdTimer;
+            if (timer == null) {
+                timer = Timer.builder("db.connection.hold").register(registry.getObject());
+                holdTimer = timer;
+            }
+            return timer;
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.hackerrank.sample.jdbc;
+
+// Connection checkouts made by the current request thread. Work handed to other threads
+// (group commit, write-behind) is not attributed to the request.
+public final class RequestConnectionStats {
+    private static final ThreadLocal<RequestConnectionStats> CURRENT = new ThreadLocal<>();
+
+    private long heldNanos;
+    private int acquisitions;
+
+    private RequestConnectionStats() {
+    }
+
+    static RequestConnectionStats begin() {
+        RequestConnectionStats stats = new RequestConnectionStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static RequestConnectionStats current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    synchronized void record(long nanos) {
+        heldNanos += nanos;
+        acquisitions++;
+    }
+
+    public synchronized long heldNanos() {
+        return heldNanos;
+    }
+
+    public synchronized int acquisitions() {
+        return acquisitions;
+    }
+}
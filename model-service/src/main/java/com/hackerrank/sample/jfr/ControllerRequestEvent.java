@@ -0,0 +1,33 @@
+package com.hackerrank.sample.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.hackerrank.sample.ControllerRequest")
+@Label("Controller Request")
+@Description("Time spent from controller entry to exit for one HTTP request")
+@Category({"Model Service", "HTTP"})
+@StackTrace(false)
+public class ControllerRequestEvent extends Event {
+    @Label("Trace Id")
+    String traceId;
+
+    @Label("HTTP Method")
+    String method;
+
+    @Label("Route")
+    String route;
+
+    @Label("Model Id")
+    String modelId;
+
+    @Label("Status")
+    int status;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,74 @@
+package com.hackerrank.sample.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class JfrControllerInterceptor implements HandlerInterceptor {
+    private static final String EVENT_ATTRIBUTE = JfrControllerInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            ControllerRequestEvent event = new ControllerRequestEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                request.setAttribute(EVENT_ATTRIBUTE, event);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception ex
+    ) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof ControllerRequestEvent event)) {
+            return;
+        }
+        request.removeAttribute(EVENT_ATTRIBUTE);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.traceId = JfrEvents.traceId();
+            event.method = request.getMethod();
+            event.route = routeOf(request);
+            event.modelId = modelIdOf(request);
+            event.status = response.getStatus();
+            event.outcome = ex != null ? JfrEvents.outcomeOf(ex) : outcomeOf(response.getStatus());
+            event.commit();
+        }
+    }
+
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? request.getRequestURI() : pattern.toString();
+    }
+
+    private static String modelIdOf(HttpServletRequest request) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map<?, ?> map && map.get("id") != null) {
+            return map.get("id").toString();
+        }
+        return null;
+    }
+
+    private static String outcomeOf(int status) {
+        if (status >= 500) {
+            return "error";
+        }
+        if (status == 404) {
+            return "not_found";
+        }
+        if (status >= 400) {
+            return "rejected";
+        }
+        return JfrEvents.OK;
+    }
+}
@@ -0,0 +1,107 @@
+package com.hackerrank.sample.jfr;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JfrEventStream implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(JfrEventStream.class);
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile RecordingStream stream;
+
+    public JfrEventStream(
+            @Value("${app.diagnostics.jfr.enabled:true}") boolean enabled,
+            @Value("${app.diagnostics.jfr.max-age:10s}") Duration maxAge
+    ) {
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized void subscribe(
+            String eventName,
+            Duration threshold,
+            boolean stackTrace,
+            Consumer<RecordedEvent> handler
+    ) {
+        Subscription subscription = new Subscription(eventName, threshold, stackTrace, handler);
+        subscriptions.add(subscription);
+        if (stream != null) {
+            register(stream, subscription);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+
+        try {
+            RecordingStream recordingStream = new RecordingStream();
+            recordingStream.setMaxAge(maxAge);
+            recordingStream.setReuse(true);
+            for (Subscription subscription : subscriptions) {
+                register(recordingStream, subscription);
+            }
+            recordingStream.startAsync();
+            stream = recordingStream;
+        } catch (RuntimeException ex) {
+            log.warn("JFR event streaming is not available: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        RecordingStream current = stream;
+        stream = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void register(RecordingStream recordingStream, Subscription subscription) {
+        var settings = recordingStream.enable(subscription.eventName());
+        if (subscription.threshold() != null) {
+            settings.withThreshold(subscription.threshold());
+        }
+        if (subscription.stackTrace()) {
+            settings.withStackTrace();
+        }
+        recordingStream.onEvent(subscription.eventName(), event -> {
+            try {
+                subscription.handler().accept(event);
+            } catch (RuntimeException ex) {
+                log.debug("JFR handler for {} failed", subscription.eventName(), ex);
+            }
+        });
+    }
+
+    private record Subscription(
+            String eventName,
+            Duration threshold,
+            boolean stackTrace,
+            Consumer<RecordedEvent> handler
+    ) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.hackerrank.sample.jfr;
+
+import com.hackerrank.sample.exception.BadResourceRequestException;
+import com.hackerrank.sample.exception.NoSuchResourceFoundException;
+import org.slf4j.MDC;
+
+final class JfrEvents {
+    static final String OK = "ok";
+
+    private JfrEvents() {
+    }
+
+    static String traceId() {
+        return MDC.get("traceId");
+    }
+
+    static String modelId(Long id) {
+        return id == null ? null : id.toString();
+    }
+
+    static String outcomeOf(Throwable error) {
+        if (error == null) {
+            return OK;
+        }
+        if (error instanceof NoSuchResourceFoundException) {
+            return "not_found";
+        }
+        if (error instanceof BadResourceRequestException) {
+            return "rejected";
+        }
+        return "error:" + error.getClass().getSimpleName();
+    }
+}
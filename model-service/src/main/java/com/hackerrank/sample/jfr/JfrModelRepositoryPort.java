@@ -0,0 +1,33 @@
+package com.hackerrank.sample.jfr;
+
+import com.hackerrank.sample.port.ForwardingModelRepositoryPort;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import java.util.function.Supplier;
+
+public class JfrModelRepositoryPort extends ForwardingModelRepositoryPort {
+    public JfrModelRepositoryPort(ModelRepositoryPort delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected <T> T invoke(String method, Long id, Supplier<T> call) {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        Throwable error = null;
+        try {
+            return call.get();
+        } catch (RuntimeException | Error ex) {
+            error = ex;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.traceId = JfrEvents.traceId();
+                event.method = method;
+                event.modelId = JfrEvents.modelId(id);
+                event.outcome = JfrEvents.outcomeOf(error);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.hackerrank.sample.jfr;
+
+import com.hackerrank.sample.dto.ModelPageQuery;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.service.ModelService;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Page;
+
+public class JfrModelService implements ModelService {
+    private final ModelService delegate;
+
+    public JfrModelService(ModelService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void deleteAllModels() {
+        record("deleteAllModels", null, () -> {
+            delegate.deleteAllModels();
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteModelById(Long id) {
+        record("deleteModelById", id, () -> {
+            delegate.deleteModelById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public Model createModel(Model model) {
+        return record("createModel", model == null ? null : model.getId(), () -> delegate.createModel(model));
+    }
+
+    @Override
+    public Model getModelById(Long id) {
+        return record("getModelById", id, () -> delegate.getModelById(id));
+    }
+
+    @Override
+    public List<Model> getAllModels() {
+        return record("getAllModels", null, delegate::getAllModels);
+    }
+
+    @Override
+    public Page<Model> getModelsPage(ModelPageQuery query) {
+        return record("getModelsPage", null, () -> delegate.getModelsPage(query));
+    }
+
+    private <T> T record(String operation, Long id, Supplier<T> call) {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        event.begin();
+        Throwable error = null;
+        try {
+            return call.get();
+        } catch (RuntimeException | Error ex) {
+            error = ex;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.traceId = JfrEvents.traceId();
+                event.operation = operation;
+                event.modelId = JfrEvents.modelId(id);
+                event.outcome = JfrEvents.outcomeOf(error);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.hackerrank.sample.jfr;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JfrRecording implements SmartLifecycle {
+    static final String SETTINGS_RESOURCE = "jfr/model-service.jfc";
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecording.class);
+
+    private final boolean enabled;
+    private final Path destination;
+    private final Duration maxAge;
+    private volatile Recording recording;
+
+    public JfrRecording(
+            @Value("${app.jfr.recording.enabled:false}") boolean enabled,
+            @Value("${app.jfr.recording.file:model-service.jfr}") String destination,
+            @Value("${app.jfr.recording.max-age:15m}") Duration maxAge
+    ) {
+        this.enabled = enabled;
+        this.destination = Path.of(destination);
+        this.maxAge = maxAge;
+    }
+
+    public static Configuration bundledConfiguration() throws IOException, ParseException {
+        ClassPathResource resource = new ClassPathResource(SETTINGS_RESOURCE);
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            return Configuration.create(reader);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || recording != null) {
+            return;
+        }
+
+        try {
+            Recording newRecording = new Recording(bundledConfiguration());
+            newRecording.setName("model-service");
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAge);
+            newRecording.setDestination(destination);
+            newRecording.start();
+            recording = newRecording;
+            log.info("JFR recording started with {} -> {}", SETTINGS_RESOURCE, destination.toAbsolutePath());
+        } catch (IOException | ParseException | RuntimeException ex) {
+            log.warn("Could not start JFR recording: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        Recording current = recording;
+        recording = null;
+        if (current != null) {
+            // stop() writes the recording to its destination before closing.
+            current.stop();
+            current.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.hackerrank.sample.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.hackerrank.sample.RepositoryCall")
+@Label("Repository Call")
+@Description("One ModelRepositoryPort call")
+@Category({"Model Service", "Repository"})
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+    @Label("Trace Id")
+    String traceId;
+
+    @Label("Method")
+    String method;
+
+    @Label("Model Id")
+    String modelId;
+
+    @Label("Outcome")
+    String outcome;
+}
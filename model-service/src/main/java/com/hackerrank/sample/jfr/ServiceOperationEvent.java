@@ -0,0 +1,27 @@
+package com.hackerrank.sample.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.hackerrank.sample.ServiceOperation")
+@Label("Service Operation")
+@Description("One ModelService use case invocation")
+@Category({"Model Service", "Service"})
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+    @Label("Trace Id")
+    String traceId;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Model Id")
+    String modelId;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,76 @@
+package com.hackerrank.sample.jfr;
+
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VirtualThreadPinningMonitor {
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String UNATTRIBUTED = "other";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> portTypes = new ConcurrentHashMap<>();
+
+    public VirtualThreadPinningMonitor(
+            JfrEventStream eventStream,
+            MeterRegistry registry,
+            @Value("${app.diagnostics.pinning.threshold:1ms}") Duration threshold
+    ) {
+        this.registry = registry;
+        eventStream.subscribe(PINNED_EVENT, threshold, true, this::onPinned);
+    }
+
+    void onPinned(RecordedEvent event) {
+        record(portMethodOf(event.getStackTrace()), event.getDuration());
+    }
+
+    void record(String method, Duration duration) {
+        timers.computeIfAbsent(method, key -> Timer.builder("model.repository.pinned")
+                        .description("Virtual thread pinning observed inside ModelRepositoryPort calls")
+                        .tag("method", key)
+                        .register(registry))
+                .record(duration);
+    }
+
+    // Walks from the top of the stack so the innermost port implementation (the real adapter) wins over decorators.
+    String portMethodOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return UNATTRIBUTED;
+        }
+
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String methodName = frame.getMethod().getName();
+            if (methodName.startsWith("lambda$")) {
+                continue;
+            }
+            if (isPortType(frame.getMethod().getType().getName())) {
+                return methodName;
+            }
+        }
+        return UNATTRIBUTED;
+    }
+
+    boolean isPortType(String className) {
+        return portTypes.computeIfAbsent(className, name -> {
+            try {
+                Class<?> type = Class.forName(name, false, ModelRepositoryPort.class.getClassLoader());
+                return ModelRepositoryPort.class.isAssignableFrom(type) && !type.isInterface();
+            } catch (ClassNotFoundException | LinkageError ex) {
+                return false;
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.hackerrank.sample.latency;
+
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+    private final RouteLatencyRecorder recorder;
+
+    public LatencyEndpoint(RouteLatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, Object> latency() {
+        return recorder.report();
+    }
+}
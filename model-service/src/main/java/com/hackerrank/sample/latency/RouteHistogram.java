@@ -0,0 +1,50 @@
+package com.hackerrank.sample.latency;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+// Request threads record into a Recorder, which is wait-free for writers. Every slot interval the
+// recorder's interval histogram is swapped out into a ring of completed slots, and windows are the
+// sum of the most recent slots. The slot being filled is not visible until it rotates in.
+final class RouteHistogram {
+    private final Recorder recorder;
+    private final long highestTrackableMicros;
+    private final int significantDigits;
+    private final Histogram[] slots;
+    private int newest = -1;
+
+    RouteHistogram(int slotCount, long highestTrackableMicros, int significantDigits) {
+        this.recorder = new Recorder(highestTrackableMicros, significantDigits);
+        this.highestTrackableMicros = highestTrackableMicros;
+        this.significantDigits = significantDigits;
+        this.slots = new Histogram[slotCount];
+    }
+
+    // The recorder holds two histograms (active and inactive) besides the ring of completed slots.
+    static long footprintBytes(int slotCount, long highestTrackableMicros, int significantDigits) {
+        long perHistogram = new Histogram(highestTrackableMicros, significantDigits).getEstimatedFootprintInBytes();
+        return (slotCount + 2) * perHistogram;
+    }
+
+    void record(long micros) {
+        recorder.recordValue(Math.min(Math.max(micros, 1), highestTrackableMicros));
+    }
+
+    synchronized void rotate() {
+        int next = (newest + 1) % slots.length;
+        // The slot leaving the ring came from this recorder, so it can be recycled for the next interval.
+        slots[next] = slots[next] == null ? recorder.getIntervalHistogram() : recorder.getIntervalHistogram(slots[next]);
+        newest = next;
+    }
+
+    synchronized Histogram window(int slotCount) {
+        Histogram merged = new Histogram(highestTrackableMicros, significantDigits);
+        for (int i = 0; i < Math.min(slotCount, slots.length) && newest >= 0; i++) {
+            Histogram slot = slots[Math.floorMod(newest - i, slots.length)];
+            if (slot != null) {
+                merged.add(slot);
+            }
+        }
+        return merged;
+    }
+}
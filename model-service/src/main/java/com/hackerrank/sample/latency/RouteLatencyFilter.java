@@ -0,0 +1,42 @@
+package com.hackerrank.sample.latency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+public class RouteLatencyFilter extends OncePerRequestFilter {
+    // Requests that match no handler share one key, so scanners cannot grow the route table.
+    static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final RouteLatencyRecorder recorder;
+
+    public RouteLatencyFilter(RouteLatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            recorder.record(
+                    request.getMethod(),
+                    pattern == null ? UNMATCHED_ROUTE : pattern.toString(),
+                    response.getStatus(),
+                    System.nanoTime() - started
+            );
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.hackerrank.sample.latency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+// Current latency per route template and status class, over sliding windows built from fixed-length slots.
+// Unlike http.server.requests these are not cumulative: a p99 here only reflects the last window.
+// Methods outside the standard set and status codes are folded so clients cannot grow the key space;
+// with max-routes reached, new keys share one overflow key, so there are never more than max-routes keys.
+@Component
+public class RouteLatencyRecorder implements SmartLifecycle {
+    static final String OVERFLOW_ROUTE = "OTHER";
+    static final String OTHER = "OTHER";
+    private static final Set<String> METHODS = Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS");
+    private static final RouteKey OVERFLOW = new RouteKey(OTHER, OVERFLOW_ROUTE, OTHER);
+
+    record RouteKey(String method, String route, String status) {
+    }
+
+    private record Route(RouteHistogram histogram, long sloMicros, Counter breaches) {
+    }
+
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final Duration slot;
+    private final List<Duration> windows;
+    private final int slotCount;
+    private final long highestTrackableMicros;
+    private final int significantDigits;
+    private final int maxRoutes;
+    private final Map<String, Long> sloMicros;
+    private final ConcurrentHashMap<RouteKey, Route> routes = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread rotator;
+
+    public RouteLatencyRecorder(
+            MeterRegistry registry,
+            @Value("${app.latency.enabled:true}") boolean enabled,
+            @Value("${app.latency.slot:10s}") Duration slot,
+            @Value("${app.latency.windows:10s,1m,5m}") List<Duration> windows,
+            @Value("${app.latency.highest-trackable:60s}") Duration highestTrackable,
+            @Value("${app.latency.significant-digits:1}") int significantDigits,
+            @Value("${app.latency.max-routes:64}") int maxRoutes,
+            @Value("${app.latency.slo:}") List<String> slo
+    ) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.slot = slot;
+        this.windows = windows.stream().sorted().toList();
+        this.slotCount = (int) Math.max(1, this.windows.get(this.windows.size() - 1).toMillis() / slot.toMillis());
+        this.highestTrackableMicros = TimeUnit.MILLISECONDS.toMicros(highestTrackable.toMillis());
+        this.significantDigits = significantDigits;
+        this.maxRoutes = Math.max(1, maxRoutes);
+        this.sloMicros = parseSlo(slo);
+    }
+
+    public void record(String method, String route, int status, long nanos) {
+        if (!enabled) {
+            return;
+        }
+        RouteKey key = new RouteKey(METHODS.contains(method) ? method : OTHER, route, statusClass(status));
+        Route target = routes.get(key);
+        if (target == null) {
+            // One slot stays free for the overflow key.
+            if (routes.size() >= maxRoutes - 1) {
+                key = OVERFLOW;
+            }
+            target = routes.computeIfAbsent(key, this::newRoute);
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        target.histogram().record(micros);
+        if (target.breaches() != null && micros > target.sloMicros()) {
+            target.breaches().increment();
+        }
+    }
+
+    public Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("slot", slot.toString());
+        report.put("maxRoutes", maxRoutes);
+        report.put("maxFootprintBytes", maxFootprintBytes());
+        List<Map<String, Object>> entries = new ArrayList<>();
+        routes.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<RouteKey, Route> e) -> e.getKey().route())
+                        .thenComparing(e -> e.getKey().method())
+                        .thenComparing(e -> e.getKey().status()))
+                .forEach(e -> entries.add(describe(e.getKey(), e.getValue())));
+        report.put("routes", entries);
+        return report;
+    }
+
+    int routeCount() {
+        return routes.size();
+    }
+
+    // Upper bound for all histograms once every key is in use; independent of traffic.
+    long maxFootprintBytes() {
+        return maxRoutes * RouteHistogram.footprintBytes(slotCount, highestTrackableMicros, significantDigits);
+    }
+
+    void rotate() {
+        routes.values().forEach(route -> route.histogram().rotate());
+    }
+
+    private Map<String, Object> describe(RouteKey key, Route route) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("method", key.method());
+        entry.put("route", key.route());
+        entry.put("status", key.status());
+        if (route.breaches() != null) {
+            entry.put("sloMillis", route.sloMicros() / 1000.0);
+        }
+        Map<String, Object> byWindow = new LinkedHashMap<>();
+        for (Duration window : windows) {
+            Histogram histogram = route.histogram().window((int) Math.max(1, window.toMillis() / slot.toMillis()));
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", histogram.getTotalCount());
+            stats.put("p50Millis", millis(histogram.getValueAtPercentile(50.0)));
+            stats.put("p99Millis", millis(histogram.getValueAtPercentile(99.0)));
+            stats.put("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+            stats.put("maxMillis", millis(histogram.getMaxValue()));
+            if (route.breaches() != null && histogram.getTotalCount() > 0) {
+                long breaches = route.sloMicros() >= histogram.getMaxValue()
+                        ? 0
+                        : histogram.getCountBetweenValues(route.sloMicros() + 1, histogram.getMaxValue());
+                stats.put("sloBreaches", breaches);
+            }
+            byWindow.put(window.toString(), stats);
+        }
+        entry.put("windows", byWindow);
+        return entry;
+    }
+
+    private Route newRoute(RouteKey key) {
+        Long slo = sloMicros.get(key.method() + " " + key.route());
+        Counter breaches = slo == null ? null : Counter.builder("http.server.slo.breaches")
+                .tag("method", key.method())
+                .tag("uri", key.route())
+                .tag("status", key.status())
+                .register(registry);
+        return new Route(
+                new RouteHistogram(slotCount, highestTrackableMicros, significantDigits),
+                slo == null ? Long.MAX_VALUE : slo,
+                breaches
+        );
+    }
+
+    // Entries look like "GET /model/{id}=50ms"; the method and route must match the request exactly.
+    static Map<String, Long> parseSlo(List<String> slo) {
+        Map<String, Long> thresholds = new HashMap<>();
+        for (String entry : slo) {
+            if (entry == null || entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid SLO entry, expected 'METHOD /route=duration': " + entry);
+            }
+            Duration threshold = DurationStyle.detectAndParse(entry.substring(separator + 1).trim());
+            thresholds.put(entry.substring(0, separator).trim(), TimeUnit.NANOSECONDS.toMicros(threshold.toNanos()));
+        }
+        return thresholds;
+    }
+
+    private static String statusClass(int status) {
+        return status >= 100 && status < 600 ? (status / 100) + "xx" : OTHER;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !enabled) {
+            return;
+        }
+        running = true;
+        rotator = Thread.ofVirtual().name("route-latency-rotator").start(this::rotateLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        rotator.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void rotateLoop() {
+        while (running) {
+            try {
+                Thread.sleep(slot);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            rotate();
+        }
+    }
+}
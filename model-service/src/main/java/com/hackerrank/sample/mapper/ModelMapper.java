@@ -2,7 +2,9 @@ package com.hackerrank.sample.mapper;
 
 import com.hackerrank.sample.dto.ModelRequest;
 import com.hackerrank.sample.dto.ModelResponse;
+import com.hackerrank.sample.dto.ModelWriteStatusResponse;
 import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.service.WriteStatus;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
@@ -28,4 +30,16 @@ public class ModelMapper {
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
+
+    public ModelWriteStatusResponse toStatusResponse(WriteStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return new ModelWriteStatusResponse(
+                status.id(),
+                status.state().name(),
+                status.message(),
+                "/model/" + status.id() + "/status"
+        );
+    }
 }
@@ -3,11 +3,22 @@ package com.hackerrank.sample.model;
 import java.io.Serializable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
 
+// Models are only ever inserted and deleted, so Hibernate keeps no dirty-checking snapshots for loaded rows.
+// idx_model_name covers name sorts (with id as tie-breaker) and name-prefix filters on /model/page.
 @Entity
-public class Model implements Serializable {
+@Immutable
+@Table(name = "model", indexes = @Index(name = "idx_model_name", columnList = "name, id"))
+public class Model implements Serializable, Persistable<Long> {
     @Id
     @NotNull(message = "id is required")
     private Long id;
@@ -15,6 +26,10 @@ public class Model implements Serializable {
     @NotBlank(message = "name is required")
     private String name;
 
+    // Ids are client-assigned, so Spring Data cannot infer newness; this lets save() persist without a merge select.
+    @Transient
+    private boolean isNew = true;
+
     public Model() {
     }
 
@@ -38,4 +53,15 @@ public class Model implements Serializable {
     public void setName(String name) {
         this.name = name;
     }
+
+    @Override
+    public boolean isNew() {
+        return this.isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    public void markNotNew() {
+        this.isNew = false;
+    }
 }
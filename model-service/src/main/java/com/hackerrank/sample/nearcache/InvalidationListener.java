@@ -0,0 +1,9 @@
+package com.hackerrank.sample.nearcache;
+
+import java.util.Collection;
+
+public interface InvalidationListener {
+    void invalidate(Collection<Long> ids);
+
+    void invalidateAll();
+}
@@ -0,0 +1,49 @@
+package com.hackerrank.sample.nearcache;
+
+import java.nio.ByteBuffer;
+
+// One datagram: magic | type | sender | sequence | count | ids. Heartbeats carry the sender's last
+// sequence without consuming one, so a lost trailing message is still noticed as a gap.
+record InvalidationMessage(Type type, long sender, long sequence, long[] ids) {
+    static final short MAGIC = (short) 0x4E43;
+    static final int HEADER_BYTES = 2 + 1 + 8 + 8 + 2;
+    // Keeps a full message well under a typical 1500-byte MTU.
+    static final int MAX_IDS = 160;
+
+    enum Type {
+        INVALIDATE, FLUSH, HEARTBEAT
+    }
+
+    void encode(ByteBuffer buffer) {
+        buffer.putShort(MAGIC);
+        buffer.put((byte) type.ordinal());
+        buffer.putLong(sender);
+        buffer.putLong(sequence);
+        buffer.putShort((short) ids.length);
+        for (long id : ids) {
+            buffer.putLong(id);
+        }
+    }
+
+    // Returns null for datagrams that are not ours or are cut short.
+    static InvalidationMessage decode(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getShort() != MAGIC) {
+            return null;
+        }
+        int type = buffer.get();
+        if (type < 0 || type >= Type.values().length) {
+            return null;
+        }
+        long sender = buffer.getLong();
+        long sequence = buffer.getLong();
+        int count = Short.toUnsignedInt(buffer.getShort());
+        if (count > MAX_IDS || buffer.remaining() < count * 8) {
+            return null;
+        }
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = buffer.getLong();
+        }
+        return new InvalidationMessage(Type.values()[type], sender, sequence, ids);
+    }
+}
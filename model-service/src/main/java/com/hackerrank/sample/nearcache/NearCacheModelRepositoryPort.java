@@ -0,0 +1,171 @@
+package com.hackerrank.sample.nearcache;
+
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ForwardingModelRepositoryPort;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Bounded, TTL-limited cache of findById hits in front of the port. Local writes invalidate here and
+// are broadcast to peers once committed; peer invalidations arrive through InvalidationListener. A lookup only fills the
+// cache if no invalidation happened while it was reading, so a racing write cannot leave a stale entry.
+public class NearCacheModelRepositoryPort extends ForwardingModelRepositoryPort implements InvalidationListener {
+    private record Entry(Model model, long expiresAtNanos) {
+    }
+
+    private final PeerInvalidationTransport transport;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public NearCacheModelRepositoryPort(
+            ModelRepositoryPort delegate,
+            PeerInvalidationTransport transport,
+            int maxEntries,
+            Duration ttl,
+            MeterRegistry registry
+    ) {
+        super(delegate);
+        this.transport = transport;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.hits = Counter.builder("near_cache.lookups").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("near_cache.lookups").tag("result", "miss").register(registry);
+        Gauge.builder("near_cache.size", entries, Map::size).register(registry);
+    }
+
+    @Override
+    public Optional<Model> findById(Long id) {
+        Model cached = cached(id);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        long seen = epoch.get();
+        Optional<Model> result = super.findById(id);
+        if (result.isPresent() && epoch.get() == seen) {
+            put(id, result.get());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return cached(id) != null || super.existsById(id);
+    }
+
+    @Override
+    public Model save(Model model) {
+        Model saved = super.save(model);
+        changed(List.of(model.getId()));
+        return saved;
+    }
+
+    @Override
+    public List<Model> saveAll(List<Model> models) {
+        List<Model> saved = super.saveAll(models);
+        changed(models.stream().map(Model::getId).toList());
+        return saved;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        super.deleteById(id);
+        changed(List.of(id));
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        super.deleteAllInBatch();
+        invalidateAll();
+        afterCommit(() -> {
+            invalidateAll();
+            transport.publishFlush();
+        });
+    }
+
+    @Override
+    public void invalidate(Collection<Long> ids) {
+        epoch.incrementAndGet();
+        ids.forEach(entries::remove);
+    }
+
+    @Override
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+        entries.clear();
+    }
+
+    // Peers re-read storage when told, so they must not hear about a write before it is visible or at
+    // all if it rolls back. The local cache is invalidated again at commit in case a read refilled it
+    // with the old row while the transaction was open.
+    private void changed(List<Long> ids) {
+        invalidate(ids);
+        afterCommit(() -> {
+            invalidate(ids);
+            transport.publish(ids);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Model cached(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+            entries.remove(id, entry);
+            return null;
+        }
+        return entry.model();
+    }
+
+    private void put(Long id, Model model) {
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        entries.put(id, new Entry(model, System.nanoTime() + ttlNanos));
+    }
+
+    // Drops expired entries, and if that is not enough, an arbitrary eighth of the cache.
+    private void evict() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> now - entry.expiresAtNanos() > 0);
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 8);
+        Iterator<Long> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
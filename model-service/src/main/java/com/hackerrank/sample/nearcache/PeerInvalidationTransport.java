@@ -0,0 +1,263 @@
+package com.hackerrank.sample.nearcache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+// Fire-and-forget UDP fan-out of changed ids to the configured peers. Ids are batched for up to one
+// batch interval; every message carries a per-sender sequence number, and a receiver that sees a jump
+// (or a heartbeat ahead of what it received) assumes it lost invalidations and flushes everything.
+// Senders silent for several heartbeats are forgotten; one that reappears with history is treated as a gap.
+public class PeerInvalidationTransport implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(PeerInvalidationTransport.class);
+    private static final int SILENT_HEARTBEATS = 5;
+
+    private record Sender(long sequence, long lastSeenNanos) {
+    }
+
+    private final int port;
+    private final List<InetSocketAddress> peers;
+    private final Duration batchInterval;
+    private final Duration heartbeatInterval;
+    private final long instanceId = ThreadLocalRandom.current().nextLong();
+    private final BlockingQueue<Long> pending;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<Long, Sender> senders = new HashMap<>();
+    private final long senderExpiryNanos;
+    private final long createdNanos = System.nanoTime();
+    private long lastPruneNanos = createdNanos;
+    private final Counter sent;
+    private final Counter received;
+    private final Counter gaps;
+    private long sequence;
+    private DatagramChannel channel;
+    private volatile boolean running;
+    private Thread sender;
+    private Thread receiver;
+
+    public PeerInvalidationTransport(
+            int port,
+            List<InetSocketAddress> peers,
+            Duration batchInterval,
+            Duration heartbeatInterval,
+            int maxPending,
+            MeterRegistry registry
+    ) {
+        this.port = port;
+        this.peers = List.copyOf(peers);
+        this.batchInterval = batchInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.senderExpiryNanos = heartbeatInterval.toNanos() * SILENT_HEARTBEATS;
+        this.pending = new LinkedBlockingQueue<>(maxPending);
+        this.sent = Counter.builder("near_cache.invalidations").tag("direction", "sent").register(registry);
+        this.received = Counter.builder("near_cache.invalidations").tag("direction", "received").register(registry);
+        this.gaps = Counter.builder("near_cache.gaps").register(registry);
+    }
+
+    public void addListener(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void publish(Iterable<Long> ids) {
+        for (Long id : ids) {
+            // When the backlog is full a flush is cheaper than tracking every id.
+            if (id != null && !pending.offer(id)) {
+                flushRequested.set(true);
+                return;
+            }
+        }
+    }
+
+    public void publishFlush() {
+        flushRequested.set(true);
+    }
+
+    int trackedSenders() {
+        return senders.size();
+    }
+
+    int localPort() throws IOException {
+        return ((InetSocketAddress) channel.getLocalAddress()).getPort();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            channel = DatagramChannel.open().bind(new InetSocketAddress(port));
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not bind near-cache invalidation port " + port, ex);
+        }
+        running = true;
+        sender = Thread.ofVirtual().name("near-cache-sender").start(this::sendLoop);
+        receiver = Thread.ofVirtual().name("near-cache-receiver").start(this::receiveLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        sender.interrupt();
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            log.warn("Could not close near-cache channel", ex);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void sendLoop() {
+        ByteBuffer buffer = ByteBuffer.allocate(InvalidationMessage.HEADER_BYTES + InvalidationMessage.MAX_IDS * 8);
+        List<Long> batch = new ArrayList<>(InvalidationMessage.MAX_IDS);
+        long lastSent = System.nanoTime();
+        while (running) {
+            try {
+                Long first = pending.poll(batchInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (flushRequested.getAndSet(false)) {
+                    pending.clear();
+                    send(buffer, new InvalidationMessage(InvalidationMessage.Type.FLUSH, instanceId, ++sequence, new long[0]));
+                    lastSent = System.nanoTime();
+                    continue;
+                }
+                if (first != null) {
+                    batch.add(first);
+                    pending.drainTo(batch, InvalidationMessage.MAX_IDS - 1);
+                    long[] ids = batch.stream().mapToLong(Long::longValue).distinct().toArray();
+                    batch.clear();
+                    send(buffer, new InvalidationMessage(InvalidationMessage.Type.INVALIDATE, instanceId, ++sequence, ids));
+                    sent.increment(ids.length);
+                    lastSent = System.nanoTime();
+                } else if (System.nanoTime() - lastSent >= heartbeatInterval.toNanos()) {
+                    send(buffer, new InvalidationMessage(InvalidationMessage.Type.HEARTBEAT, instanceId, sequence, new long[0]));
+                    lastSent = System.nanoTime();
+                }
+            } catch (InterruptedException ex) {
+                return;
+            } catch (ClosedChannelException ex) {
+                return;
+            } catch (IOException ex) {
+                log.warn("Near-cache invalidation send failed: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private void send(ByteBuffer buffer, InvalidationMessage message) throws IOException {
+        buffer.clear();
+        message.encode(buffer);
+        buffer.flip();
+        for (InetSocketAddress peer : peers) {
+            channel.send(buffer.duplicate(), peer);
+        }
+    }
+
+    private void receiveLoop() {
+        ByteBuffer buffer = ByteBuffer.allocate(InvalidationMessage.HEADER_BYTES + InvalidationMessage.MAX_IDS * 8);
+        while (running) {
+            try {
+                buffer.clear();
+                channel.receive(buffer);
+                buffer.flip();
+                InvalidationMessage message = InvalidationMessage.decode(buffer);
+                if (message != null) {
+                    handle(message);
+                }
+            } catch (ClosedChannelException ex) {
+                return;
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Near-cache invalidation receive failed: {}", ex.getMessage());
+            }
+        }
+    }
+
+    // Only called from the receiver thread.
+    void handle(InvalidationMessage message) {
+        if (message.sender() == instanceId) {
+            return;
+        }
+        long now = System.nanoTime();
+        pruneSilentSenders(now);
+        Sender known = senders.get(message.sender());
+        if (known == null && returning(message, now)) {
+            gap(message, now);
+            return;
+        }
+        Long last = known == null ? null : known.sequence();
+        if (message.type() == InvalidationMessage.Type.HEARTBEAT) {
+            if (last != null && message.sequence() > last) {
+                gap(message, now);
+            } else {
+                seen(message.sender(), last == null ? message.sequence() : last, now);
+            }
+            return;
+        }
+        if (last != null && message.sequence() <= last) {
+            seen(message.sender(), last, now);
+            return;
+        }
+        if (last != null && message.sequence() > last + 1) {
+            gap(message, now);
+            return;
+        }
+        seen(message.sender(), message.sequence(), now);
+        if (message.type() == InvalidationMessage.Type.FLUSH) {
+            listeners.forEach(InvalidationListener::invalidateAll);
+        } else {
+            List<Long> ids = Arrays.stream(message.ids()).boxed().toList();
+            received.increment(ids.size());
+            listeners.forEach(listener -> listener.invalidate(ids));
+        }
+    }
+
+    // An unknown sender that has already sent something may be one we forgot while it was unreachable.
+    // Right after startup every sender is unknown and there is nothing this instance could have missed.
+    private boolean returning(InvalidationMessage message, long now) {
+        long firstSequence = message.type() == InvalidationMessage.Type.HEARTBEAT ? 0 : 1;
+        return message.sequence() > firstSequence && now - createdNanos >= senderExpiryNanos;
+    }
+
+    private void pruneSilentSenders(long now) {
+        if (now - lastPruneNanos < heartbeatInterval.toNanos()) {
+            return;
+        }
+        lastPruneNanos = now;
+        senders.values().removeIf(sender -> now - sender.lastSeenNanos() >= senderExpiryNanos);
+    }
+
+    private void seen(long sender, long sequence, long now) {
+        senders.put(sender, new Sender(sequence, now));
+    }
+
+    private void gap(InvalidationMessage message, long now) {
+        gaps.increment();
+        seen(message.sender(), message.sequence(), now);
+        listeners.forEach(InvalidationListener::invalidateAll);
+    }
+}
@@ -0,0 +1,25 @@
+package com.hackerrank.sample.nearcache;
+
+import com.hackerrank.sample.readmodel.ModelReadProjection;
+import java.util.Collection;
+
+// The read projection is a full local copy of the catalog, so it goes stale on peer writes just like the near cache.
+public class ReadModelInvalidationListener implements InvalidationListener {
+    private final ModelReadProjection projection;
+
+    public ReadModelInvalidationListener(ModelReadProjection projection) {
+        this.projection = projection;
+    }
+
+    @Override
+    public void invalidate(Collection<Long> ids) {
+        projection.refresh(ids);
+    }
+
+    @Override
+    public void invalidateAll() {
+        if (projection.isReady()) {
+            projection.reload();
+        }
+    }
+}
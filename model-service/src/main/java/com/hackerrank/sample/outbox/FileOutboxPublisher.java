@@ -0,0 +1,94 @@
+package com.hackerrank.sample.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Broker stand-in: appends each batch as NDJSON with a single write.
+public class FileOutboxPublisher implements OutboxPublisher, AutoCloseable {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path path;
+    private final boolean fsync;
+    private final ReentrantLock lock = new ReentrantLock();
+    private FileChannel channel;
+
+    public FileOutboxPublisher(Path path, boolean fsync) {
+        this.path = path;
+        this.fsync = fsync;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        StringBuilder lines = new StringBuilder(batch.size() * 128);
+        for (OutboxMessage message : batch) {
+            lines.append(toJson(message)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        lock.lock();
+        try {
+            FileChannel target = channel();
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            if (fsync) {
+                target.force(false);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append to outbox file " + path, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not close outbox file " + path, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null) {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private static String toJson(OutboxMessage message) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("sequence", message.sequence());
+        entry.put("type", message.type());
+        entry.put("aggregateId", message.aggregateId());
+        entry.put("payload", message.payload());
+        entry.put("createdAt", message.createdAt().toString());
+        try {
+            return OBJECT_MAPPER.writeValueAsString(entry);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize outbox message " + message.sequence(), ex);
+        }
+    }
+}
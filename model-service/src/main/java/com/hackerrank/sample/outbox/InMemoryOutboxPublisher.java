@@ -0,0 +1,52 @@
+package com.hackerrank.sample.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+    private final int retained;
+    private final Deque<OutboxMessage> recent = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long published;
+
+    public InMemoryOutboxPublisher(int retained) {
+        this.retained = retained;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        lock.lock();
+        try {
+            for (OutboxMessage message : batch) {
+                if (recent.size() == retained) {
+                    recent.pollFirst();
+                }
+                recent.addLast(message);
+            }
+            published += batch.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<OutboxMessage> recent() {
+        lock.lock();
+        try {
+            return new ArrayList<>(recent);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long published() {
+        lock.lock();
+        try {
+            return published;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.hackerrank.sample.outbox;
+
+import java.time.Instant;
+
+public record OutboxMessage(long sequence, String type, Long aggregateId, String payload, Instant createdAt) {
+    static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(
+                event.getId(), event.getType(), event.getAggregateId(), event.getPayload(), event.getCreatedAt());
+    }
+}
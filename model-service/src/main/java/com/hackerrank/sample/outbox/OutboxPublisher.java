@@ -0,0 +1,9 @@
+package com.hackerrank.sample.outbox;
+
+import java.util.List;
+
+// Delivery is at-least-once: a batch is only removed from the outbox after publish returns,
+// so implementations must tolerate seeing the same sequence again after a crash.
+public interface OutboxPublisher {
+    void publish(List<OutboxMessage> batch);
+}
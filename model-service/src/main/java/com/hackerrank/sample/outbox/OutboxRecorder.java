@@ -0,0 +1,68 @@
+package com.hackerrank.sample.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackerrank.sample.model.Model;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Must be called inside the transaction that performs the write, so the event commits or rolls back with it.
+@Component
+public class OutboxRecorder {
+    public static final String MODEL_CREATED = "ModelCreated";
+    public static final String MODEL_DELETED = "ModelDeleted";
+    public static final String MODELS_ERASED = "ModelsErased";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final OutboxEventRepository outboxRepository;
+    private final boolean enabled;
+
+    public OutboxRecorder(
+            OutboxEventRepository outboxRepository,
+            @Value("${app.outbox.enabled:true}") boolean enabled
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.enabled = enabled;
+    }
+
+    public void modelsCreated(List<Model> models) {
+        if (!enabled || models.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>(models.size());
+        for (Model model : models) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("id", model.getId());
+            payload.put("name", model.getName());
+            events.add(new OutboxEvent(MODEL_CREATED, model.getId(), toJson(payload), now));
+        }
+        outboxRepository.saveAll(events);
+    }
+
+    public void modelDeleted(Long id) {
+        if (enabled) {
+            outboxRepository.save(new OutboxEvent(MODEL_DELETED, id, toJson(Map.of("id", id)), Instant.now()));
+        }
+    }
+
+    public void modelsErased() {
+        if (enabled) {
+            outboxRepository.save(new OutboxEvent(MODELS_ERASED, null, "{}", Instant.now()));
+        }
+    }
+
+    private static String toJson(Map<String, Object> payload) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize outbox payload", ex);
+        }
+    }
+}
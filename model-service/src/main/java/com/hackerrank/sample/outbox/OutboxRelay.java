@@ -0,0 +1,144 @@
+package com.hackerrank.sample.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class OutboxRelay implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxRepository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration retryBackoff;
+    private final Duration shutdownTimeout;
+    private final Counter published;
+    private final Counter failures;
+    private final DistributionSummary batchSizes;
+    private final Timer lag;
+
+    private volatile boolean running;
+    private Thread relay;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxRepository,
+            OutboxPublisher publisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry registry,
+            @Value("${app.outbox.relay.enabled:true}") boolean enabled,
+            @Value("${app.outbox.relay.batch-size:1000}") int batchSize,
+            @Value("${app.outbox.relay.poll-interval:200ms}") Duration pollInterval,
+            @Value("${app.outbox.relay.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${app.outbox.relay.shutdown-timeout:10s}") Duration shutdownTimeout
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.retryBackoff = retryBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+        this.published = Counter.builder("outbox.relay.published").register(registry);
+        this.failures = Counter.builder("outbox.relay.failures").register(registry);
+        this.batchSizes = DistributionSummary.builder("outbox.relay.batch.size").register(registry);
+        this.lag = Timer.builder("outbox.relay.lag").publishPercentiles(0.5, 0.99).register(registry);
+    }
+
+    // Publishes before deleting, and outside the delete transaction so broker latency never holds a connection.
+    public int relayOnce() {
+        List<OutboxEvent> events = outboxRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxMessage> batch = new ArrayList<>(events.size());
+        List<Long> ids = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            batch.add(OutboxMessage.of(event));
+            ids.add(event.getId());
+        }
+        publisher.publish(batch);
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteAllByIdInBatch(ids));
+
+        Instant now = Instant.now();
+        for (OutboxMessage message : batch) {
+            lag.record(Duration.between(message.createdAt(), now));
+        }
+        published.increment(batch.size());
+        batchSizes.record(batch.size());
+        return batch.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        relay = new Thread(this::relayLoop, "outbox-relay");
+        relay.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        relay.interrupt();
+        try {
+            relay.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stop after the write-behind writer has flushed, so its last batch still reaches the outbox before shutdown.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    private void relayLoop() {
+        while (running) {
+            Duration pause;
+            try {
+                pause = relayOnce() < batchSize ? pollInterval : Duration.ZERO;
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.warn("Outbox relay failed, retrying in {}", retryBackoff, ex);
+                pause = retryBackoff;
+            }
+            if (!pause.isZero()) {
+                try {
+                    Thread.sleep(pause);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.hackerrank.sample.port;
+
+import com.hackerrank.sample.model.Model;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public abstract class ForwardingModelRepositoryPort implements ModelRepositoryPort {
+    private final ModelRepositoryPort delegate;
+
+    protected ForwardingModelRepositoryPort(ModelRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    protected ModelRepositoryPort delegate() {
+        return delegate;
+    }
+
+    // Single interception point for decorators; id is null for operations that are not keyed.
+    protected <T> T invoke(String method, Long id, Supplier<T> call) {
+        return call.get();
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        invoke("deleteAllInBatch", null, () -> {
+            delegate.deleteAllInBatch();
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        invoke("deleteById", id, () -> {
+            delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return invoke("existsById", id, () -> delegate.existsById(id));
+    }
+
+    @Override
+    public Optional<Model> findById(Long id) {
+        return invoke("findById", id, () -> delegate.findById(id));
+    }
+
+    @Override
+    public Model save(Model model) {
+        return invoke("save", model == null ? null : model.getId(), () -> delegate.save(model));
+    }
+
+    @Override
+    public List<Model> saveAll(List<Model> models) {
+        return invoke("saveAll", null, () -> delegate.saveAll(models));
+    }
+
+    @Override
+    public List<Model> findAll() {
+        return invoke("findAll", null, delegate::findAll);
+    }
+
+    @Override
+    public Page<Model> findAll(Pageable pageable) {
+        return invoke("findAllPaged", null, () -> delegate.findAll(pageable));
+    }
+
+    @Override
+    public Page<Model> findByNamePrefix(String namePrefix, Pageable pageable) {
+        return invoke("findByNamePrefix", null, () -> delegate.findByNamePrefix(namePrefix, pageable));
+    }
+
+    @Override
+    public void streamAll(Consumer<Model> sink) {
+        invoke("streamAll", null, () -> {
+            delegate.streamAll(sink);
+            return null;
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.hackerrank.sample.port;
 import com.hackerrank.sample.model.Model;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -17,7 +18,15 @@ public interface ModelRepositoryPort {
 
     Model save(Model model);
 
+    List<Model> saveAll(List<Model> models);
+
     List<Model> findAll();
 
     Page<Model> findAll(Pageable pageable);
+
+    // Models whose name starts with namePrefix (case-sensitive), so storage can answer from the name index.
+    Page<Model> findByNamePrefix(String namePrefix, Pageable pageable);
+
+    // Visits every model without materializing the full list; ordering is only guaranteed per storage node.
+    void streamAll(Consumer<Model> sink);
 }
@@ -0,0 +1,24 @@
+package com.hackerrank.sample.port;
+
+import com.hackerrank.sample.model.Model;
+import java.util.List;
+
+// Thrown by a saveAll that is not atomic: the models in saved are committed even though the call failed.
+// The cause is the failure of the rest.
+public class PartialSaveException extends RuntimeException {
+    private final List<Model> saved;
+
+    public PartialSaveException(List<Model> saved, RuntimeException cause) {
+        super(cause.getMessage(), cause);
+        this.saved = List.copyOf(saved);
+    }
+
+    public List<Model> saved() {
+        return saved;
+    }
+
+    @Override
+    public synchronized RuntimeException getCause() {
+        return (RuntimeException) super.getCause();
+    }
+}
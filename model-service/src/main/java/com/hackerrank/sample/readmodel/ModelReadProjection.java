@@ -0,0 +1,319 @@
+package com.hackerrank.sample.readmodel;
+
+import com.hackerrank.sample.event.ModelChangeEvent;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Two skip lists, by id and by (name, id), updated in place: a write costs O(log n) and readers never lock.
+// Writers are serialized so both views apply the same changes in the same order.
+@Component
+public class ModelReadProjection implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ModelReadProjection.class);
+
+    private final ModelRepositoryPort modelRepository;
+    private final boolean enabled;
+    private final boolean async;
+    private final Duration refreshInterval;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final BlockingQueue<ModelChangeEvent> pending = new LinkedBlockingQueue<>();
+
+    private volatile Views views = new Views();
+    private volatile boolean ready;
+    private volatile boolean running;
+    private Thread applier;
+
+    public ModelReadProjection(
+            ModelRepositoryPort modelRepository,
+            @Value("${app.read-model.enabled:true}") boolean enabled,
+            @Value("${app.read-model.update-mode:sync}") String updateMode,
+            @Value("${app.read-model.refresh-interval:0s}") Duration refreshInterval
+    ) {
+        this.modelRepository = modelRepository;
+        this.enabled = enabled;
+        this.async = "async".equalsIgnoreCase(updateMode);
+        this.refreshInterval = refreshInterval;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return views.size;
+    }
+
+    public Optional<Model> findById(Long id) {
+        return Optional.ofNullable(views.byId.get(id));
+    }
+
+    public List<Model> findAll() {
+        return List.copyOf(views.byId.values());
+    }
+
+    public Optional<Page<Model>> findPage(Pageable pageable) {
+        return findPage(pageable, null);
+    }
+
+    // Empty when the requested sort cannot be answered from the projection; callers then fall back to storage.
+    // A name prefix is a contiguous key range of the (name, id) view, so it is served in that order when
+    // unsorted. Sorting the range by id would mean copying it, which the storage index does better.
+    public Optional<Page<Model>> findPage(Pageable pageable, String namePrefix) {
+        Views current = views;
+        Sort sort = pageable.getSort();
+        boolean byName = namePrefix != null;
+        boolean descending = false;
+
+        if (sort.isSorted()) {
+            List<Sort.Order> orders = sort.toList();
+            Sort.Order order = orders.get(0);
+            boolean tieBreakById = orders.size() == 2 && "id".equals(orders.get(1).getProperty())
+                    && orders.get(1).getDirection() == order.getDirection() && !orders.get(1).isIgnoreCase();
+            if ((orders.size() != 1 && !tieBreakById) || order.isIgnoreCase()) {
+                return Optional.empty();
+            }
+            if ("name".equals(order.getProperty())) {
+                byName = true;
+            } else if (!"id".equals(order.getProperty()) || tieBreakById || namePrefix != null) {
+                return Optional.empty();
+            }
+            descending = order.isDescending();
+        }
+
+        NavigableMap<?, Model> ordered;
+        int total;
+        if (namePrefix == null) {
+            ordered = byName ? current.byName : current.byId;
+            total = current.size;
+        } else {
+            ordered = withNamePrefix(current.byName, namePrefix);
+            total = ordered.size();
+        }
+        if (descending) {
+            ordered = ordered.descendingMap();
+        }
+
+        if (pageable.isUnpaged()) {
+            List<Model> content = new ArrayList<>(ordered.values());
+            return Optional.of(new PageImpl<>(content, pageable, content.size()));
+        }
+
+        List<Model> content = new ArrayList<>(Math.min(pageable.getPageSize(), total));
+        Iterator<Model> models = ordered.values().iterator();
+        for (long skipped = 0; skipped < pageable.getOffset() && models.hasNext(); skipped++) {
+            models.next();
+        }
+        while (content.size() < pageable.getPageSize() && models.hasNext()) {
+            content.add(models.next());
+        }
+        return Optional.of(new PageImpl<>(content, pageable, total));
+    }
+
+    // Applied once the publishing transaction commits, so a rolled-back write never shows up in reads.
+    // Events published outside a transaction are applied immediately.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(ModelChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (async) {
+            pending.add(event);
+        } else {
+            applyAll(List.of(event));
+        }
+    }
+
+    public void reload() {
+        writeLock.lock();
+        try {
+            Views loaded = new Views();
+            for (Model model : modelRepository.findAll()) {
+                loaded.put(copyOf(model));
+            }
+            views = loaded;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Re-reads the given ids from storage; used when another instance reports that they changed.
+    public void refresh(Collection<Long> ids) {
+        if (!enabled || !ready) {
+            return;
+        }
+        List<ModelChangeEvent> events = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            events.add(modelRepository.findById(id)
+                    .<ModelChangeEvent>map(ModelChangeEvent.Created::of)
+                    .orElseGet(() -> new ModelChangeEvent.Deleted(id)));
+        }
+        applyAll(events);
+    }
+
+    void applyAll(List<ModelChangeEvent> events) {
+        writeLock.lock();
+        try {
+            for (ModelChangeEvent event : events) {
+                switch (event) {
+                    case ModelChangeEvent.Created created -> views.put(new Model(created.id(), created.name()));
+                    case ModelChangeEvent.BatchCreated batch -> batch.models()
+                            .forEach(created -> views.put(new Model(created.id(), created.name())));
+                    case ModelChangeEvent.Deleted deleted -> views.remove(deleted.id());
+                    case ModelChangeEvent.Erased ignored -> views = new Views();
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        try {
+            reload();
+            ready = true;
+        } catch (RuntimeException ex) {
+            log.warn("Read model could not be loaded, queries will use storage: {}", ex.getMessage());
+        }
+
+        if (async || !refreshInterval.isZero()) {
+            applier = new Thread(this::applyLoop, "read-model-applier");
+            applier.setDaemon(true);
+            applier.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        ready = false;
+        if (applier != null) {
+            applier.interrupt();
+            applier = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void applyLoop() {
+        long nextRefresh = refreshInterval.isZero() ? Long.MAX_VALUE : System.nanoTime() + refreshInterval.toNanos();
+        List<ModelChangeEvent> batch = new ArrayList<>();
+        while (running) {
+            try {
+                ModelChangeEvent first = pending.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    pending.drainTo(batch);
+                    applyAll(batch);
+                    batch.clear();
+                }
+                if (System.nanoTime() >= nextRefresh) {
+                    reload();
+                    ready = true;
+                    nextRefresh = System.nanoTime() + refreshInterval.toNanos();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("Read model update failed: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private static NavigableMap<NameKey, Model> withNamePrefix(NavigableMap<NameKey, Model> byName, String prefix) {
+        NameKey from = new NameKey(prefix, Long.MIN_VALUE);
+        String end = prefixEnd(prefix);
+        return end == null
+                ? byName.tailMap(from, true)
+                : byName.subMap(from, true, new NameKey(end, Long.MIN_VALUE), false);
+    }
+
+    // Smallest string greater than every string starting with prefix; null when there is none.
+    private static String prefixEnd(String prefix) {
+        StringBuilder end = new StringBuilder(prefix);
+        for (int i = end.length() - 1; i >= 0; i--) {
+            if (end.charAt(i) != Character.MAX_VALUE) {
+                end.setCharAt(i, (char) (end.charAt(i) + 1));
+                end.setLength(i + 1);
+                return end.toString();
+            }
+        }
+        return null;
+    }
+
+    private static Model copyOf(Model model) {
+        return new Model(model.getId(), model.getName());
+    }
+
+    // Null names sort first, like the name index in storage.
+    private record NameKey(String name, long id) implements Comparable<NameKey> {
+        private static final Comparator<NameKey> ORDER = Comparator
+                .comparing(NameKey::name, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(NameKey::id);
+
+        static NameKey of(Model model) {
+            return new NameKey(model.getName(), model.getId());
+        }
+
+        @Override
+        public int compareTo(NameKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    // Mutated only under writeLock; erase and reload swap in a fresh instance instead of clearing in place.
+    private static final class Views {
+        private final ConcurrentSkipListMap<Long, Model> byId = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<NameKey, Model> byName = new ConcurrentSkipListMap<>();
+        private volatile int size;
+
+        void put(Model model) {
+            Model previous = byId.put(model.getId(), model);
+            if (previous != null) {
+                byName.remove(NameKey.of(previous));
+            } else {
+                size++;
+            }
+            byName.put(NameKey.of(model), model);
+        }
+
+        void remove(Long id) {
+            Model previous = byId.remove(id);
+            if (previous != null) {
+                byName.remove(NameKey.of(previous));
+                size--;
+            }
+        }
+    }
+}
@@ -1,12 +1,43 @@
 package com.hackerrank.sample.repository;
 
 import com.hackerrank.sample.model.Model;
+import jakarta.persistence.QueryHint;
 import jakarta.transaction.Transactional;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository("modelRepository")
 public interface ModelRepository extends JpaRepository<Model, Long> {
     @Transactional
     void deleteById(Long id);
+
+    // Reads load entities read-only, so they are not snapshotted even outside a read-only transaction.
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    Optional<Model> findById(Long id);
+
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    List<Model> findAll();
+
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    Page<Model> findAll(Pageable pageable);
+
+    // LIKE 'prefix%' with the wildcards in the prefix escaped, which idx_model_name can serve.
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    Page<Model> findByNameStartingWith(String namePrefix, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Model> streamAllByOrderByIdAsc();
 }
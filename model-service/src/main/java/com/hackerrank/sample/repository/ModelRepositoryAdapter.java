@@ -1,53 +1,120 @@
 package com.hackerrank.sample.repository;
 
 import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.outbox.OutboxRecorder;
 import com.hackerrank.sample.port.ModelRepositoryPort;
+import jakarta.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class ModelRepositoryAdapter implements ModelRepositoryPort {
     private final ModelRepository modelRepository;
+    private final OutboxRecorder outboxRecorder;
+    private final EntityManager entityManager;
 
-    public ModelRepositoryAdapter(ModelRepository modelRepository) {
+    public ModelRepositoryAdapter(
+            ModelRepository modelRepository,
+            OutboxRecorder outboxRecorder,
+            EntityManager entityManager
+    ) {
         this.modelRepository = modelRepository;
+        this.outboxRecorder = outboxRecorder;
+        this.entityManager = entityManager;
     }
 
+    // Writes record their outbox event in the same transaction, joining the caller's when there is one.
     @Override
+    @Transactional
     public void deleteAllInBatch() {
         modelRepository.deleteAllInBatch();
+        outboxRecorder.modelsErased();
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         modelRepository.deleteById(id);
+        outboxRecorder.modelDeleted(id);
     }
 
+    // Reads open their own read-only transaction (joining the caller's when there is one). It lives here,
+    // at the bottom of the port chain, so the connection is checked out only after the bulkhead and
+    // single-flight have let the call through; read-only is also what routes it to a replica.
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         return modelRepository.existsById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Model> findById(Long id) {
         return modelRepository.findById(id);
     }
 
     @Override
+    @Transactional
     public Model save(Model model) {
-        return modelRepository.save(model);
+        Model saved = modelRepository.save(model);
+        outboxRecorder.modelsCreated(List.of(model));
+        return saved;
     }
 
     @Override
+    @Transactional
+    public List<Model> saveAll(List<Model> models) {
+        List<Model> saved = modelRepository.saveAll(models);
+        outboxRecorder.modelsCreated(models);
+        return saved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Model> findAll() {
         return modelRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Model> findAll(Pageable pageable) {
-        return modelRepository.findAll(pageable);
+        return modelRepository.findAll(stable(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Model> findByNamePrefix(String namePrefix, Pageable pageable) {
+        return modelRepository.findByNameStartingWith(namePrefix, stable(pageable));
+    }
+
+    // Names are not unique, so id breaks ties for stable pages. It follows the direction of the last order,
+    // which keeps ORDER BY name, id in the (name, id) index order either way.
+    private static Pageable stable(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (pageable.isUnpaged() || sort.isUnsorted() || sort.getOrderFor("id") != null) {
+            return pageable;
+        }
+        Sort.Direction direction = sort.toList().get(sort.toList().size() - 1).getDirection();
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort.and(Sort.by(direction, "id")));
+    }
+
+    // Rows are detached as they are consumed so the persistence context stays empty during long exports.
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Model> sink) {
+        try (Stream<Model> models = modelRepository.streamAllByOrderByIdAsc()) {
+            models.forEach(model -> {
+                sink.accept(model);
+                entityManager.detach(model);
+            });
+        }
     }
 }
@@ -0,0 +1,97 @@
+package com.hackerrank.sample.resilience;
+
+import com.hackerrank.sample.deadline.Deadline;
+import com.hackerrank.sample.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public class Bulkhead {
+    private final String name;
+    private final int maxConcurrent;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final Counter rejected;
+    private final Timer waitTimer;
+
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait, boolean fair, MeterRegistry registry) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be positive.");
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrent, fair);
+        this.rejected = Counter.builder("bulkhead.rejected")
+                .tag("name", name)
+                .register(registry);
+        this.waitTimer = Timer.builder("bulkhead.wait")
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("bulkhead.available.permits", permits, Semaphore::availablePermits)
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("bulkhead.queue.depth", permits, Semaphore::getQueueLength)
+                .tag("name", name)
+                .register(registry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        return execute(maxWait, call);
+    }
+
+    // The wait is further capped by the current request's deadline; running out of it is a deadline
+    // failure, not a saturation one.
+    public <T> T execute(Duration wait, Supplier<T> call) {
+        Deadline.check("bulkhead");
+        Duration capped = Deadline.cap(wait);
+        acquire(capped, capped.compareTo(wait) < 0);
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire(Duration wait, boolean deadlineBound) {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(Math.max(0L, wait.toNanos()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            throw new ServiceUnavailableException("Interrupted while waiting for " + name + ".");
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            if (deadlineBound) {
+                throw Deadline.current().expired("bulkhead");
+            }
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many concurrent requests to " + name + ".");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.hackerrank.sample.resilience;
+
+import com.hackerrank.sample.port.ForwardingModelRepositoryPort;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import java.util.function.Supplier;
+
+public class BulkheadModelRepositoryPort extends ForwardingModelRepositoryPort {
+    private final Bulkhead bulkhead;
+
+    public BulkheadModelRepositoryPort(ModelRepositoryPort delegate, Bulkhead bulkhead) {
+        super(delegate);
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    protected <T> T invoke(String method, Long id, Supplier<T> call) {
+        return bulkhead.execute(call);
+    }
+}
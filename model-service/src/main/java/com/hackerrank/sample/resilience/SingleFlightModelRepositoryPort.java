@@ -0,0 +1,101 @@
+package com.hackerrank.sample.resilience;
+
+import com.hackerrank.sample.deadline.Deadline;
+import com.hackerrank.sample.exception.DeadlineExceededException;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ForwardingModelRepositoryPort;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Concurrent findById calls for the same id share one storage call and its outcome, including
+// not-found and failures. Nothing is cached: a call arriving after the flight lands starts a new one.
+public class SingleFlightModelRepositoryPort extends ForwardingModelRepositoryPort {
+    private final Map<Long, CompletableFuture<Optional<Model>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    public SingleFlightModelRepositoryPort(ModelRepositoryPort delegate, MeterRegistry registry) {
+        super(delegate);
+        this.leaders = Counter.builder("model.repository.single_flight")
+                .tag("role", "leader")
+                .register(registry);
+        this.coalesced = Counter.builder("model.repository.single_flight")
+                .tag("role", "coalesced")
+                .register(registry);
+        Gauge.builder("model.repository.single_flight.in_flight", inFlight, Map::size).register(registry);
+    }
+
+    @Override
+    public Optional<Model> findById(Long id) {
+        if (id == null) {
+            return super.findById(id);
+        }
+
+        CompletableFuture<Optional<Model>> flight = new CompletableFuture<>();
+        CompletableFuture<Optional<Model>> existing = inFlight.putIfAbsent(id, flight);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return await(existing);
+            } catch (DeadlineExceededException ex) {
+                // The leader ran out of its own budget; a follower with time left does the lookup itself.
+                Deadline own = Deadline.current();
+                if (own != null && own.isExpired()) {
+                    throw ex;
+                }
+                return super.findById(id);
+            }
+        }
+
+        leaders.increment();
+        try {
+            Optional<Model> result = super.findById(id);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(id, flight);
+        }
+    }
+
+    // A follower stops waiting when its own deadline runs out, even if the leader's call continues.
+    private static Optional<Model> await(CompletableFuture<Optional<Model>> flight) {
+        Deadline deadline = Deadline.current();
+        try {
+            return deadline == null
+                    ? flight.join()
+                    : flight.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw deadline.expired("single_flight");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        } catch (ExecutionException ex) {
+            throw rethrow(new CompletionException(ex.getCause()));
+        } catch (CompletionException ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    private static RuntimeException rethrow(CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (ex.getCause() instanceof Error error) {
+            throw error;
+        }
+        return ex;
+    }
+}
@@ -0,0 +1,21 @@
+package com.hackerrank.sample.routing;
+
+// Per-request override that sends read-only work to the primary, for read-your-writes.
+public final class ReadRoutingContext {
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    public static void pinToPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_PINNED.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+}
@@ -0,0 +1,47 @@
+package com.hackerrank.sample.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Must sit behind a LazyConnectionDataSourceProxy: the read-only flag is only bound to the thread
+// after the transaction has begun, so the physical connection has to be fetched on first use.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final ReplicaSet replicas;
+    private final Map<String, Counter> routed = new HashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaSet replicas, MeterRegistry registry) {
+        this.replicas = replicas;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routed.put(PRIMARY, counter(registry, PRIMARY));
+        for (ReplicaSet.Replica replica : replicas.replicas()) {
+            targets.put(replica.name(), replica.dataSource());
+            routed.put(replica.name(), counter(registry, replica.name()));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        Gauge.builder("datasource.replicas.healthy", replicas, ReplicaSet::healthyCount).register(registry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = PRIMARY;
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadRoutingContext.isPinnedToPrimary()) {
+            target = replicas.next().map(ReplicaSet.Replica::name).orElse(PRIMARY);
+        }
+        routed.get(target).increment();
+        return target;
+    }
+
+    private static Counter counter(MeterRegistry registry, String target) {
+        return Counter.builder("datasource.routing.connections").tag("target", target).register(registry);
+    }
+}
@@ -0,0 +1,70 @@
+package com.hackerrank.sample.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// After a client's successful write, its reads go to the primary for a short window,
+// so it never reads a replica that has not caught up with its own write.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final long windowMillis;
+    private final ConcurrentHashMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private volatile long lastPurgeMillis;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String client = clientKey(request);
+        long now = System.currentTimeMillis();
+        Long lastWrite = lastWrites.get(client);
+        if (lastWrite != null && now - lastWrite < windowMillis) {
+            ReadRoutingContext.pinToPrimary();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadRoutingContext.clear();
+            if (isWrite(request.getMethod()) && response.getStatus() < 400) {
+                lastWrites.put(client, System.currentTimeMillis());
+            }
+            purgeExpired(now);
+        }
+    }
+
+    boolean isSticky(String client) {
+        Long lastWrite = lastWrites.get(client);
+        return lastWrite != null && System.currentTimeMillis() - lastWrite < windowMillis;
+    }
+
+    private void purgeExpired(long now) {
+        if (now - lastPurgeMillis < 1000) {
+            return;
+        }
+        lastPurgeMillis = now;
+        lastWrites.values().removeIf(lastWrite -> now - lastWrite >= windowMillis);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String client = request.getHeader(CLIENT_ID_HEADER);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+
+    private static boolean isWrite(String method) {
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+}
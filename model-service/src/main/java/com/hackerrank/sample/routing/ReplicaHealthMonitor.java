@@ -0,0 +1,52 @@
+package com.hackerrank.sample.routing;
+
+import java.time.Duration;
+import org.springframework.context.SmartLifecycle;
+
+public class ReplicaHealthMonitor implements SmartLifecycle {
+    private final ReplicaSet replicas;
+    private final Duration interval;
+    private final Duration timeout;
+    private volatile boolean running;
+    private Thread monitor;
+
+    public ReplicaHealthMonitor(ReplicaSet replicas, Duration interval, Duration timeout) {
+        this.replicas = replicas;
+        this.interval = interval;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        monitor = Thread.ofVirtual().name("replica-health-monitor").start(this::monitorLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        monitor.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void monitorLoop() {
+        while (running) {
+            replicas.checkHealth(timeout);
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException ex) {
+                return;
+            }
+        }
+    }
+}
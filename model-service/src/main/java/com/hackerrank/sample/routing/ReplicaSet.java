@@ -0,0 +1,112 @@
+package com.hackerrank.sample.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Round-robin over the healthy replicas. A replica is ejected after failureThreshold consecutive
+// failed checks and re-admitted on its first successful one.
+public class ReplicaSet implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaSet.class);
+
+    private final List<Replica> replicas;
+    private final int failureThreshold;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private volatile List<Replica> healthy;
+
+    public ReplicaSet(List<Replica> replicas, int failureThreshold) {
+        this.replicas = List.copyOf(replicas);
+        this.failureThreshold = failureThreshold;
+        this.healthy = this.replicas;
+    }
+
+    public Optional<Replica> next() {
+        List<Replica> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.get(Math.floorMod(cursor.getAndIncrement(), candidates.size())));
+    }
+
+    public void checkHealth(Duration timeout) {
+        for (Replica replica : replicas) {
+            boolean valid;
+            try (Connection connection = replica.dataSource().getConnection()) {
+                valid = connection.isValid((int) Math.max(1, timeout.toSeconds()));
+            } catch (SQLException | RuntimeException ex) {
+                valid = false;
+            }
+            replica.record(valid, failureThreshold);
+        }
+
+        List<Replica> nowHealthy = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.isHealthy()) {
+                nowHealthy.add(replica);
+            }
+        }
+        healthy = List.copyOf(nowHealthy);
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    public int healthyCount() {
+        return healthy.size();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private int consecutiveFailures;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        // Only called from the health monitor thread.
+        void record(boolean valid, int failureThreshold) {
+            if (valid) {
+                if (!healthy) {
+                    log.info("Replica {} is healthy again, re-admitting it", name);
+                }
+                consecutiveFailures = 0;
+                healthy = true;
+            } else if (++consecutiveFailures >= failureThreshold && healthy) {
+                log.warn("Replica {} failed {} health checks, ejecting it", name, consecutiveFailures);
+                healthy = false;
+            }
+        }
+    }
+}
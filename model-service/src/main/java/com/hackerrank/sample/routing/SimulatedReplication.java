@@ -0,0 +1,85 @@
+package com.hackerrank.sample.routing;
+
+import com.hackerrank.sample.model.Model;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Local stand-in for asynchronous replication: copies the primary's model table to every replica once per lag period.
+public class SimulatedReplication implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(SimulatedReplication.class);
+
+    private final JdbcTemplate primary;
+    private final ReplicaSet replicas;
+    private final Duration lag;
+    private volatile boolean running;
+    private Thread replicator;
+
+    public SimulatedReplication(DataSource primary, ReplicaSet replicas, Duration lag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas;
+        this.lag = lag;
+    }
+
+    public void replicateOnce() {
+        List<Model> rows = primary.query("SELECT id, name FROM model",
+                (rs, rowNum) -> new Model(rs.getLong("id"), rs.getString("name")));
+        for (ReplicaSet.Replica replica : replicas.replicas()) {
+            JdbcTemplate jdbc = new JdbcTemplate(replica.dataSource());
+            jdbc.execute("CREATE TABLE IF NOT EXISTS model (id BIGINT PRIMARY KEY, name VARCHAR(255))");
+            jdbc.execute("CREATE INDEX IF NOT EXISTS idx_model_name ON model (name, id)");
+            new TransactionTemplate(new DataSourceTransactionManager(replica.dataSource())).executeWithoutResult(status -> {
+                jdbc.update("DELETE FROM model");
+                jdbc.batchUpdate("INSERT INTO model (id, name) VALUES (?, ?)", rows, 500, (ps, model) -> {
+                    ps.setLong(1, model.getId());
+                    ps.setString(2, model.getName());
+                });
+            });
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        replicateOnce();
+        running = true;
+        replicator = Thread.ofVirtual().name("simulated-replication").start(this::replicationLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        replicator.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void replicationLoop() {
+        while (running) {
+            try {
+                Thread.sleep(lag);
+            } catch (InterruptedException ex) {
+                return;
+            }
+            try {
+                replicateOnce();
+            } catch (RuntimeException ex) {
+                log.warn("Simulated replication failed", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.hackerrank.sample.service;
+
+import com.hackerrank.sample.deadline.Deadline;
+import com.hackerrank.sample.exception.BadResourceRequestException;
+import com.hackerrank.sample.model.Model;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GroupCommitCoordinator implements SmartLifecycle {
+    private final ModelBatchWriter batchWriter;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration window;
+    private final BlockingQueue<PendingCreate> queue = new LinkedBlockingQueue<>();
+    private final Counter commits;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public GroupCommitCoordinator(
+            ModelBatchWriter batchWriter,
+            MeterRegistry registry,
+            @Value("${app.group-commit.enabled:false}") boolean enabled,
+            @Value("${app.group-commit.batch-size:256}") int batchSize,
+            @Value("${app.group-commit.window:2ms}") Duration window
+    ) {
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.window = window;
+        this.commits = Counter.builder("model.group_commit.commits").register(registry);
+        this.batchSizes = DistributionSummary.builder("model.group_commit.batch.size").register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled && running;
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    // Blocks the caller (a cheap virtual thread) until the batch holding its model has committed, or until
+    // its deadline runs out; the batch may still commit after the caller has given up.
+    public Model submit(Model model) {
+        Deadline.check("group_commit");
+        PendingCreate pending = new PendingCreate(model, new CompletableFuture<>());
+        queue.add(pending);
+        if (!running && queue.remove(pending)) {
+            complete(pending, batchWriter.writeOne(model));
+        }
+
+        Deadline deadline = Deadline.current();
+        try {
+            return deadline == null
+                    ? pending.result().get()
+                    : pending.result().get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw deadline.expired("group_commit");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for group commit.", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "group-commit-flusher");
+        flusher.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void flushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    flush(collect(first));
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // A lone request is flushed at once; the window is only spent once others are already waiting,
+    // so uncontended POSTs pay no added latency and batches still form while a commit is in flight.
+    private List<PendingCreate> collect(PendingCreate first) throws InterruptedException {
+        List<PendingCreate> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        if (batch.size() == 1) {
+            return batch;
+        }
+
+        long deadline = System.nanoTime() + window.toNanos();
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingCreate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingCreate> batch) {
+        List<Model> models = new ArrayList<>(batch.size());
+        for (PendingCreate pending : batch) {
+            models.add(pending.model());
+        }
+
+        batchSizes.record(batch.size());
+        commits.increment();
+        try {
+            List<ModelBatchWriter.WriteOutcome> outcomes = batchWriter.writeAll(models);
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), outcomes.get(i));
+            }
+        } catch (RuntimeException ex) {
+            for (PendingCreate pending : batch) {
+                pending.result().completeExceptionally(ex);
+            }
+        }
+    }
+
+    private void complete(PendingCreate pending, ModelBatchWriter.WriteOutcome outcome) {
+        switch (outcome.status()) {
+            case PERSISTED -> pending.result().complete(outcome.model());
+            case DUPLICATE -> pending.result().completeExceptionally(
+                    new BadResourceRequestException("Model with same id exists."));
+            case FAILED -> pending.result().completeExceptionally(
+                    new IllegalStateException("Group commit failed: " + outcome.message()));
+        }
+    }
+
+    private record PendingCreate(Model model, CompletableFuture<Model> result) {
+    }
+}
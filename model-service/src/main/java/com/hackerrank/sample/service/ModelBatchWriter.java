@@ -0,0 +1,140 @@
+package com.hackerrank.sample.service;
+
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import com.hackerrank.sample.port.PartialSaveException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ModelBatchWriter {
+    private final ModelRepositoryPort modelRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ModelBatchWriter(ModelRepositoryPort modelRepository, PlatformTransactionManager transactionManager) {
+        this.modelRepository = modelRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Writes the whole batch in one transaction. A batch rejected by a constraint is split in halves and
+    // retried until the offending rows are isolated; any other failure (storage down, no connection) fails
+    // the whole batch at once instead of multiplying transactions against a struggling database.
+    public List<WriteOutcome> writeAll(List<Model> models) {
+        List<Model> unique = new ArrayList<>(models.size());
+        Set<Long> seen = new HashSet<>();
+        for (Model model : models) {
+            if (seen.add(model.getId())) {
+                unique.add(model);
+            }
+        }
+
+        Map<Long, WriteOutcome> byId = new HashMap<>();
+        writeSplitting(unique, byId);
+
+        List<WriteOutcome> outcomes = new ArrayList<>(models.size());
+        Set<Long> written = new HashSet<>();
+        for (Model model : models) {
+            outcomes.add(written.add(model.getId()) ? byId.get(model.getId()) : WriteOutcome.duplicate(model));
+        }
+        return outcomes;
+    }
+
+    // A sharded port commits per shard; what it reports as committed is final and only the rest is retried.
+    private void writeSplitting(List<Model> models, Map<Long, WriteOutcome> outcomes) {
+        List<Model> remaining = models;
+        RuntimeException failure;
+        try {
+            transactionTemplate.executeWithoutResult(status -> modelRepository.saveAll(models));
+            for (Model model : models) {
+                outcomes.put(model.getId(), WriteOutcome.persisted(model));
+            }
+            return;
+        } catch (PartialSaveException ex) {
+            Set<Long> saved = new HashSet<>();
+            for (Model model : ex.saved()) {
+                saved.add(model.getId());
+                outcomes.put(model.getId(), WriteOutcome.persisted(model));
+            }
+            remaining = models.stream().filter(model -> !saved.contains(model.getId())).toList();
+            failure = ex.getCause();
+        } catch (RuntimeException ex) {
+            failure = ex;
+        }
+
+        if (!(failure instanceof DataIntegrityViolationException)) {
+            for (Model model : remaining) {
+                outcomes.put(model.getId(), WriteOutcome.failed(model, failure.getMessage()));
+            }
+            return;
+        }
+        if (remaining.size() <= 1) {
+            remaining.forEach(model -> outcomes.put(model.getId(), WriteOutcome.duplicate(model)));
+            return;
+        }
+
+        // Retry with fresh instances: the rolled-back persistence context may have touched the originals.
+        int middle = remaining.size() / 2;
+        writeSplitting(copies(remaining.subList(0, middle)), outcomes);
+        writeSplitting(copies(remaining.subList(middle, remaining.size())), outcomes);
+    }
+
+    private static List<Model> copies(List<Model> models) {
+        List<Model> copies = new ArrayList<>(models.size());
+        for (Model model : models) {
+            copies.add(new Model(model.getId(), model.getName()));
+        }
+        return copies;
+    }
+
+    public WriteOutcome writeOne(Model model) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> modelRepository.save(model));
+            return WriteOutcome.persisted(model);
+        } catch (RuntimeException ex) {
+            return classify(model, ex);
+        }
+    }
+
+    private WriteOutcome classify(Model model, RuntimeException ex) {
+        if (ex instanceof DataIntegrityViolationException || safeExists(model.getId())) {
+            return WriteOutcome.duplicate(model);
+        }
+        return WriteOutcome.failed(model, ex.getMessage());
+    }
+
+    private boolean safeExists(Long id) {
+        try {
+            return modelRepository.existsById(id);
+        } catch (RuntimeException ex) {
+            return false;
+        }
+    }
+
+    public record WriteOutcome(Model model, Status status, String message) {
+        public enum Status {
+            PERSISTED,
+            DUPLICATE,
+            FAILED
+        }
+
+        static WriteOutcome persisted(Model model) {
+            return new WriteOutcome(model, Status.PERSISTED, null);
+        }
+
+        static WriteOutcome duplicate(Model model) {
+            return new WriteOutcome(model, Status.DUPLICATE, "Model with same id exists.");
+        }
+
+        static WriteOutcome failed(Model model, String message) {
+            return new WriteOutcome(model, Status.FAILED, message);
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.hackerrank.sample.service;
 
+import com.hackerrank.sample.dto.ModelPageQuery;
 import com.hackerrank.sample.model.Model;
 import java.util.List;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 
 public interface ModelService {
     void deleteAllModels();
@@ -15,5 +15,5 @@ public interface ModelService {
 
     List<Model> getAllModels();
 
-    Page<Model> getModelsPage(Pageable pageable);
+    Page<Model> getModelsPage(ModelPageQuery query);
 }
@@ -1,27 +1,45 @@
 package com.hackerrank.sample.service;
 
+import com.hackerrank.sample.deadline.Deadline;
+import com.hackerrank.sample.dto.ModelPageQuery;
+import com.hackerrank.sample.event.ModelChangeEvent;
 import com.hackerrank.sample.exception.BadResourceRequestException;
 import com.hackerrank.sample.exception.NoSuchResourceFoundException;
 import com.hackerrank.sample.model.Model;
 import com.hackerrank.sample.port.ModelRepositoryPort;
+import com.hackerrank.sample.readmodel.ModelReadProjection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 @Service("modelService")
 public class ModelServiceImpl implements ModelService {
 
     private final ModelRepositoryPort modelRepository;
-
-    public ModelServiceImpl(ModelRepositoryPort modelRepository) {
+    private final GroupCommitCoordinator groupCommit;
+    private final ModelReadProjection readModel;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ModelServiceImpl(
+            ModelRepositoryPort modelRepository,
+            GroupCommitCoordinator groupCommit,
+            ModelReadProjection readModel,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.modelRepository = modelRepository;
+        this.groupCommit = groupCommit;
+        this.readModel = readModel;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public void deleteAllModels() {
+        Deadline.check("service");
         modelRepository.deleteAllInBatch();
+        eventPublisher.publishEvent(new ModelChangeEvent.Erased());
     }
 
     @Override
@@ -30,11 +48,13 @@ public class ModelServiceImpl implements ModelService {
             throw new BadResourceRequestException("id is required.");
         }
 
+        Deadline.check("service");
         if (!modelRepository.existsById(id)) {
             throw new NoSuchResourceFoundException("No model with given id found.");
         }
 
         modelRepository.deleteById(id);
+        eventPublisher.publishEvent(new ModelChangeEvent.Deleted(id));
     }
 
     @Override
@@ -43,13 +63,28 @@ public class ModelServiceImpl implements ModelService {
             throw new BadResourceRequestException("id is required.");
         }
 
+        Deadline.check("service");
         Optional<Model> existingModel = modelRepository.findById(model.getId());
 
         if (existingModel.isPresent()) {
             throw new BadResourceRequestException("Model with same id exists.");
         }
 
-        return modelRepository.save(model);
+        Model saved;
+        // Group commit runs on its own thread, so an expired request must not enqueue its insert.
+        Deadline.check("service");
+        if (groupCommit.isEnabled()) {
+            saved = groupCommit.submit(model);
+        } else {
+            try {
+                saved = modelRepository.save(model);
+            } catch (DataIntegrityViolationException ex) {
+                throw new BadResourceRequestException("Model with same id exists.");
+            }
+        }
+
+        eventPublisher.publishEvent(ModelChangeEvent.Created.of(model));
+        return saved;
     }
 
     @Override
@@ -58,7 +93,9 @@ public class ModelServiceImpl implements ModelService {
             throw new BadResourceRequestException("id is required.");
         }
 
-        Optional<Model> model = modelRepository.findById(id);
+        Optional<Model> model = readModel.isReady()
+                ? readModel.findById(id)
+                : modelRepository.findById(id);
 
         if (model.isEmpty()) {
             throw new NoSuchResourceFoundException("No model with given id found.");
@@ -69,11 +106,22 @@ public class ModelServiceImpl implements ModelService {
 
     @Override
     public List<Model> getAllModels() {
+        if (readModel.isReady()) {
+            return readModel.findAll();
+        }
         return modelRepository.findAll();
     }
 
     @Override
-    public Page<Model> getModelsPage(Pageable pageable) {
-        return modelRepository.findAll(pageable);
+    public Page<Model> getModelsPage(ModelPageQuery query) {
+        if (readModel.isReady()) {
+            Optional<Page<Model>> page = readModel.findPage(query.pageable(), query.namePrefix());
+            if (page.isPresent()) {
+                return page.get();
+            }
+        }
+        return query.hasNamePrefix()
+                ? modelRepository.findByNamePrefix(query.namePrefix(), query.pageable())
+                : modelRepository.findAll(query.pageable());
     }
 }
@@ -0,0 +1,208 @@
+package com.hackerrank.sample.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackerrank.sample.model.Model;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Append-only record of accepted-but-unflushed models, split into segment files <path>.<n> of at most
+// segmentEntries lines. Every append is charged to its segment, and a segment is deleted once all of its
+// entries completed, so the journal stays bounded under sustained load and a restart replays only the
+// segments that still held unflushed models (writes are upserts, so re-writing a flushed neighbour is
+// harmless). A torn last line from a crash mid-append is skipped on replay.
+public class WriteBehindJournal implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindJournal.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path path;
+    private final boolean fsync;
+    private final int segmentEntries;
+    private final Pattern segmentName;
+    // A ReentrantLock rather than synchronized: journal I/O inside a monitor would pin virtual threads.
+    private final ReentrantLock lock = new ReentrantLock();
+    // Entries not yet completed per live segment, oldest first.
+    private final NavigableMap<Long, Integer> pendingBySegment = new TreeMap<>();
+    private FileChannel channel;
+    private long segment;
+    private int segmentAppended;
+
+    public WriteBehindJournal(Path path, boolean fsync, int segmentEntries) {
+        this.path = path.toAbsolutePath();
+        this.fsync = fsync;
+        this.segmentEntries = Math.max(1, segmentEntries);
+        this.segmentName = Pattern.compile(Pattern.quote(this.path.getFileName().toString()) + "\\.(\\d+)");
+    }
+
+    // Models left by a previous run, oldest first. They belong to old segments that replayed() removes.
+    public List<Model> open() {
+        lock.lock();
+        try {
+            Files.createDirectories(path.getParent());
+            List<Model> pending = new ArrayList<>();
+            NavigableMap<Long, Path> segments = segments();
+            for (Path file : segments.values()) {
+                read(file, pending);
+            }
+            segment = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+            openSegment();
+            return pending;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open write-behind journal " + path, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Deletes the segments read by open() once their models have been written again.
+    public void replayed() {
+        lock.lock();
+        try {
+            for (Map.Entry<Long, Path> old : segments().headMap(segment, false).entrySet()) {
+                Files.deleteIfExists(old.getValue());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not remove replayed write-behind journal segments " + path, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns the segment the entry went to, to be handed back to completed().
+    public long append(Model model) {
+        lock.lock();
+        try {
+            if (segmentAppended >= segmentEntries) {
+                channel.close();
+                segment++;
+                openSegment();
+            }
+            byte[] line = (OBJECT_MAPPER.writeValueAsString(Map.of("id", model.getId(), "name", model.getName())) + "\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            segmentAppended++;
+            pendingBySegment.merge(segment, 1, Integer::sum);
+            return segment;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not append to write-behind journal " + path, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void completed(List<Long> segments) {
+        lock.lock();
+        try {
+            for (Long completed : segments) {
+                Integer left = pendingBySegment.computeIfPresent(completed, (key, pending) -> pending == 1 ? null : pending - 1);
+                if (left == null && completed < segment) {
+                    Files.deleteIfExists(segmentPath(completed));
+                }
+            }
+            // The active segment is emptied in place once nothing in it is pending.
+            if (!pendingBySegment.containsKey(segment) && segmentAppended > 0) {
+                channel.truncate(0);
+                if (fsync) {
+                    channel.force(false);
+                }
+                segmentAppended = 0;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not compact write-behind journal " + path, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int segmentFiles() {
+        lock.lock();
+        try {
+            return segments().size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void openSegment() throws IOException {
+        channel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segmentAppended = 0;
+    }
+
+    private Path segmentPath(long number) {
+        return path.resolveSibling(path.getFileName() + "." + String.format("%06d", number));
+    }
+
+    // Segment files by number; a journal from before segmenting (the bare path) sorts first as segment 0.
+    private NavigableMap<Long, Path> segments() {
+        NavigableMap<Long, Path> segments = new TreeMap<>();
+        if (Files.exists(path)) {
+            segments.put(0L, path);
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(path.getParent())) {
+            for (Path file : files) {
+                Matcher matcher = segmentName.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.put(Long.parseLong(matcher.group(1)), file);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not list write-behind journal segments " + path, ex);
+        }
+        return segments;
+    }
+
+    private static void read(Path file, List<Model> pending) throws IOException {
+        // Decoded leniently: a torn write may end in the middle of a multi-byte character.
+        String[] lines = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                Map<?, ?> entry = OBJECT_MAPPER.readValue(line, Map.class);
+                pending.add(new Model(((Number) entry.get("id")).longValue(), (String) entry.get("name")));
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Skipping malformed write-behind journal line {} of {}{}", i + 1, file,
+                        i == lines.length - 1 ? " (torn write)" : "");
+            }
+        }
+    }
+}
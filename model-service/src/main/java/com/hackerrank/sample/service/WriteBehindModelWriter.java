@@ -0,0 +1,283 @@
+package com.hackerrank.sample.service;
+
+import com.hackerrank.sample.event.ModelChangeEvent;
+import com.hackerrank.sample.exception.BadResourceRequestException;
+import com.hackerrank.sample.exception.ServiceUnavailableException;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WriteBehindModelWriter implements SmartLifecycle {
+    public static final String WRITE_MODE_HEADER = "X-Write-Mode";
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindModelWriter.class);
+
+    // A queued model and the journal segment holding it (0 without a journal).
+    private record Queued(Model model, long segment) {
+    }
+
+    private final ModelRepositoryPort modelRepository;
+    private final ModelBatchWriter batchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final boolean always;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+    private final Duration statusRetention;
+    private final int maxStatuses;
+    private final Semaphore capacity;
+    private final WriteBehindJournal journal;
+    private final BlockingQueue<Queued> queue = new LinkedBlockingQueue<>();
+    private final ConcurrentHashMap<Long, WriteStatus> statuses = new ConcurrentHashMap<>();
+    // Terminal statuses in the order they were recorded; only touched by the writer thread. Expiry and the
+    // size cap both evict from the head, so at most maxStatuses finished writes are remembered.
+    private final ArrayDeque<WriteStatus> terminal = new ArrayDeque<>();
+    private final Counter accepted;
+    private final Counter rejected;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread writer;
+
+    public WriteBehindModelWriter(
+            ModelRepositoryPort modelRepository,
+            ModelBatchWriter batchWriter,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry registry,
+            @Value("${app.write-behind.enabled:true}") boolean enabled,
+            @Value("${app.write-behind.always:false}") boolean always,
+            @Value("${app.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.write-behind.batch-size:500}") int batchSize,
+            @Value("${app.write-behind.offer-timeout:100ms}") Duration offerTimeout,
+            @Value("${app.write-behind.flush-interval:50ms}") Duration flushInterval,
+            @Value("${app.write-behind.shutdown-timeout:30s}") Duration shutdownTimeout,
+            @Value("${app.write-behind.status-retention:10m}") Duration statusRetention,
+            @Value("${app.write-behind.max-statuses:100000}") int maxStatuses,
+            @Value("${app.write-behind.journal.path:}") String journalPath,
+            @Value("${app.write-behind.journal.fsync:false}") boolean journalFsync,
+            @Value("${app.write-behind.journal.segment-entries:10000}") int journalSegmentEntries
+    ) {
+        this.modelRepository = modelRepository;
+        this.batchWriter = batchWriter;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.always = always;
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        this.statusRetention = statusRetention;
+        this.maxStatuses = maxStatuses;
+        this.capacity = new Semaphore(queueCapacity);
+        this.journal = journalPath.isBlank() ? null : new WriteBehindJournal(Path.of(journalPath), journalFsync, journalSegmentEntries);
+        this.accepted = Counter.builder("model.write_behind.accepted").register(registry);
+        this.rejected = Counter.builder("model.write_behind.rejected").register(registry);
+        this.batchSizes = DistributionSummary.builder("model.write_behind.batch.size").register(registry);
+        Gauge.builder("model.write_behind.queue.depth", queue, BlockingQueue::size).register(registry);
+    }
+
+    public boolean shouldDefer(String writeMode) {
+        if (!enabled) {
+            return false;
+        }
+        if (writeMode == null || writeMode.isBlank()) {
+            return always;
+        }
+        return "async".equalsIgnoreCase(writeMode.trim());
+    }
+
+    public WriteStatus enqueue(Model model) {
+        if (!accepting) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Write-behind queue is not accepting writes.");
+        }
+
+        Long id = model.getId();
+        WriteStatus pending = WriteStatus.pending(id);
+        WriteStatus previous = statuses.putIfAbsent(id, pending);
+        if (previous != null && !(previous.state() == WriteStatus.State.FAILED && statuses.replace(id, previous, pending))) {
+            throw new BadResourceRequestException("Model with same id exists.");
+        }
+
+        boolean queued = false;
+        try {
+            if (modelRepository.existsById(id)) {
+                throw new BadResourceRequestException("Model with same id exists.");
+            }
+            if (!capacity.tryAcquire(offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new ServiceUnavailableException("Write-behind queue is full.");
+            }
+            try {
+                long segment = journal != null ? journal.append(model) : 0;
+                queue.add(new Queued(model, segment));
+                queued = true;
+            } finally {
+                if (!queued) {
+                    capacity.release();
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for write-behind queue.");
+        } finally {
+            if (!queued) {
+                statuses.remove(id, pending);
+            }
+        }
+
+        accepted.increment();
+        return pending;
+    }
+
+    public Optional<WriteStatus> status(Long id) {
+        WriteStatus status = statuses.get(id);
+        if (status != null) {
+            return Optional.of(status);
+        }
+        return modelRepository.existsById(id) ? Optional.of(WriteStatus.persisted(id)) : Optional.empty();
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        if (journal != null) {
+            List<Model> pending = journal.open();
+            if (!pending.isEmpty()) {
+                log.info("Replaying {} write-behind journal entries", pending.size());
+                for (int from = 0; from < pending.size(); from += batchSize) {
+                    batchWriter.writeAll(pending.subList(from, Math.min(pending.size(), from + batchSize)));
+                }
+            }
+            journal.replayed();
+        }
+
+        running = true;
+        accepting = true;
+        writer = new Thread(this::drainLoop, "write-behind-writer");
+        writer.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+
+        accepting = false;
+        running = false;
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.error("Write-behind writer did not drain within {}; {} models left{}",
+                    shutdownTimeout, queue.size(), journal == null ? " and will be lost" : " in the journal");
+        }
+        if (journal != null && !writer.isAlive()) {
+            journal.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stop after the web server has stopped accepting requests, and before the datasource is closed.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            Queued first;
+            try {
+                first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first != null) {
+                List<Queued> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            }
+            evictStatuses();
+        }
+    }
+
+    private void flush(List<Queued> queued) {
+        List<Model> batch = queued.stream().map(Queued::model).toList();
+        batchSizes.record(batch.size());
+        try {
+            for (ModelBatchWriter.WriteOutcome outcome : batchWriter.writeAll(batch)) {
+                finished(WriteStatus.of(outcome));
+                if (outcome.status() == ModelBatchWriter.WriteOutcome.Status.PERSISTED) {
+                    eventPublisher.publishEvent(ModelChangeEvent.Created.of(outcome.model()));
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.error("Write-behind flush of {} models failed", batch.size(), ex);
+            for (Model model : batch) {
+                finished(new WriteStatus(
+                        model.getId(), WriteStatus.State.FAILED, ex.getMessage(), System.currentTimeMillis()));
+            }
+        } finally {
+            capacity.release(batch.size());
+            if (journal != null) {
+                journal.completed(queued.stream().map(Queued::segment).toList());
+            }
+        }
+        evictStatuses();
+    }
+
+    private void finished(WriteStatus status) {
+        statuses.put(status.id(), status);
+        terminal.addLast(status);
+    }
+
+    // A status is only removed if it is still the one recorded; a retried id has a newer entry further back.
+    private void evictStatuses() {
+        long cutoff = System.currentTimeMillis() - statusRetention.toMillis();
+        while (!terminal.isEmpty()
+                && (terminal.size() > maxStatuses || terminal.peekFirst().updatedAtMillis() < cutoff)) {
+            WriteStatus oldest = terminal.pollFirst();
+            statuses.remove(oldest.id(), oldest);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.hackerrank.sample.service;
+
+public record WriteStatus(Long id, State state, String message, long updatedAtMillis) {
+    public enum State {
+        PENDING,
+        PERSISTED,
+        DUPLICATE,
+        FAILED
+    }
+
+    static WriteStatus pending(Long id) {
+        return new WriteStatus(id, State.PENDING, null, System.currentTimeMillis());
+    }
+
+    static WriteStatus persisted(Long id) {
+        return new WriteStatus(id, State.PERSISTED, null, System.currentTimeMillis());
+    }
+
+    static WriteStatus of(ModelBatchWriter.WriteOutcome outcome) {
+        State state = switch (outcome.status()) {
+            case PERSISTED -> State.PERSISTED;
+            case DUPLICATE -> State.DUPLICATE;
+            case FAILED -> State.FAILED;
+        };
+        return new WriteStatus(outcome.model().getId(), state, outcome.message(), System.currentTimeMillis());
+    }
+
+    boolean isTerminal() {
+        return state != State.PENDING;
+    }
+}
@@ -0,0 +1,374 @@
+package com.hackerrank.sample.shard;
+
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import com.hackerrank.sample.port.PartialSaveException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Partitions models across independent datasources by id hash. Point operations touch one shard;
+// listings scatter to every shard on virtual threads and k-way merge the per-shard sorted results.
+// Writes are atomic per shard only: a saveAll spanning shards can partially commit.
+public class ShardedModelRepositoryPort implements ModelRepositoryPort, AutoCloseable {
+    private static final String SCHEMA =
+            "CREATE TABLE IF NOT EXISTS model (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL)";
+    private static final String NAME_INDEX = "CREATE INDEX IF NOT EXISTS idx_model_name ON model (name, id)";
+    private static final RowMapper<Model> MODEL_ROW_MAPPER = (rs, rowNum) -> {
+        Model model = new Model(rs.getLong("id"), rs.getString("name"));
+        model.markNotNew();
+        return model;
+    };
+
+    private final List<DataSource> dataSources;
+    private final List<Shard> shards;
+
+    public ShardedModelRepositoryPort(List<DataSource> dataSources) {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard datasource is required.");
+        }
+        this.dataSources = List.copyOf(dataSources);
+        this.shards = new ArrayList<>(dataSources.size());
+        for (DataSource dataSource : dataSources) {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute(SCHEMA);
+            jdbc.execute(NAME_INDEX);
+            shards.add(new Shard(jdbc, new TransactionTemplate(new DataSourceTransactionManager(dataSource))));
+        }
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    // Ids are often sequential; mixing the bits keeps consecutive ids from clustering on one shard.
+    public int shardOf(Long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) Math.floorMod(h, (long) shards.size());
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        scatter(shard -> shard.jdbc.update("DELETE FROM model"));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        shardFor(id).jdbc.update("DELETE FROM model WHERE id = ?", id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        Integer found = shardFor(id).jdbc.queryForObject("SELECT COUNT(*) FROM model WHERE id = ?", Integer.class, id);
+        return found != null && found > 0;
+    }
+
+    @Override
+    public Optional<Model> findById(Long id) {
+        return shardFor(id).jdbc.query("SELECT id, name FROM model WHERE id = ?", MODEL_ROW_MAPPER, id)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Model save(Model model) {
+        shardFor(model.getId()).jdbc.update("INSERT INTO model (id, name) VALUES (?, ?)", model.getId(), model.getName());
+        model.markNotNew();
+        return model;
+    }
+
+    // Each shard commits its part in its own transaction, so the call is not atomic. Every shard is waited
+    // for, and if any failed, PartialSaveException reports the models the other shards committed.
+    @Override
+    public List<Model> saveAll(List<Model> models) {
+        List<List<Model>> byShard = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            byShard.add(new ArrayList<>());
+        }
+        for (Model model : models) {
+            byShard.get(shardOf(model.getId())).add(model);
+        }
+
+        List<Model> saved = new ArrayList<>(models.size());
+        RuntimeException failure = null;
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(shards.size());
+            for (int i = 0; i < shards.size(); i++) {
+                Shard shard = shards.get(i);
+                List<Model> batch = byShard.get(i);
+                futures.add(batch.isEmpty() ? null : scope.submit(() -> shard.tx.executeWithoutResult(status ->
+                        shard.jdbc.batchUpdate(
+                                "INSERT INTO model (id, name) VALUES (?, ?)",
+                                batch,
+                                batch.size(),
+                                (ps, model) -> {
+                                    ps.setLong(1, model.getId());
+                                    ps.setString(2, model.getName());
+                                }))));
+            }
+            // Writes are not cancelled on interrupt: every outcome is needed to report what was committed.
+            boolean interrupted = false;
+            for (int i = 0; i < futures.size(); i++) {
+                while (futures.get(i) != null) {
+                    try {
+                        futures.get(i).get();
+                        saved.addAll(byShard.get(i));
+                        break;
+                    } catch (ExecutionException ex) {
+                        if (failure == null) {
+                            failure = ex.getCause() instanceof RuntimeException runtime
+                                    ? runtime
+                                    : new IllegalStateException("Shard write failed", ex.getCause());
+                        }
+                        break;
+                    } catch (InterruptedException ex) {
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        saved.forEach(Model::markNotNew);
+        if (failure != null) {
+            throw new PartialSaveException(saved, failure);
+        }
+        return models;
+    }
+
+    @Override
+    public List<Model> findAll() {
+        List<List<Model>> perShard = scatter(shard -> shard.jdbc.query("SELECT id, name FROM model ORDER BY id", MODEL_ROW_MAPPER));
+        return merge(perShard, Comparator.comparing(Model::getId), 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Page<Model> findAll(Pageable pageable) {
+        return page("", new Object[0], pageable);
+    }
+
+    @Override
+    public Page<Model> findByNamePrefix(String namePrefix, Pageable pageable) {
+        return page(" WHERE name LIKE ? ESCAPE '\\'", new Object[]{likePrefix(namePrefix)}, pageable);
+    }
+
+    // Each shard returns its first offset+size rows in the requested order; merging those is enough for the page.
+    private Page<Model> page(String where, Object[] args, Pageable pageable) {
+        Comparator<Model> order = comparator(pageable.getSort());
+        String orderBy = orderBy(pageable.getSort());
+        if (pageable.isUnpaged()) {
+            List<List<Model>> perShard = scatter(shard -> shard.jdbc.query(
+                    "SELECT id, name FROM model" + where + " ORDER BY " + orderBy, MODEL_ROW_MAPPER, args));
+            return new PageImpl<>(merge(perShard, order, 0, Integer.MAX_VALUE), pageable, perShard.stream().mapToLong(List::size).sum());
+        }
+
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        Object[] limitArgs = Arrays.copyOf(args, args.length + 1);
+        limitArgs[args.length] = limit;
+        List<ShardPage> perShard = scatter(shard -> new ShardPage(
+                shard.jdbc.query("SELECT id, name FROM model" + where + " ORDER BY " + orderBy + " LIMIT ?",
+                        MODEL_ROW_MAPPER, limitArgs),
+                shard.jdbc.queryForObject("SELECT COUNT(*) FROM model" + where, Long.class, args)));
+
+        List<List<Model>> rows = new ArrayList<>(perShard.size());
+        long total = 0;
+        for (ShardPage page : perShard) {
+            rows.add(page.rows());
+            total += page.total();
+        }
+        List<Model> content = merge(rows, order, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // Shard by shard, each in id order; memory stays flat because rows are never collected.
+    @Override
+    public void streamAll(Consumer<Model> sink) {
+        for (Shard shard : shards) {
+            shard.jdbc.query(connection -> {
+                var statement = connection.prepareStatement("SELECT id, name FROM model ORDER BY id");
+                statement.setFetchSize(1000);
+                return statement;
+            }, (RowCallbackHandler) rs -> sink.accept(MODEL_ROW_MAPPER.mapRow(rs, rs.getRow())));
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    // Escapes LIKE wildcards, with backslash as the escape character, so the prefix matches literally.
+    static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private Shard shardFor(Long id) {
+        return shards.get(shardOf(id));
+    }
+
+    private <T> List<T> scatter(Function<Shard, T> query) {
+        List<Callable<T>> tasks = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            tasks.add(() -> query.apply(shard));
+        }
+        return runAll(tasks);
+    }
+
+    // Scoped fork/join on virtual threads: the executor never outlives the call, and the first failure cancels the rest.
+    // Stands in for StructuredTaskScope.ShutdownOnFailure, which is still a preview API on Java 21.
+    private static <T> List<T> runAll(List<Callable<T>> tasks) {
+        if (tasks.size() == 1) {
+            try {
+                return List.of(tasks.get(0).call());
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                futures.add(scope.submit(task));
+            }
+            List<T> results = new ArrayList<>(tasks.size());
+            try {
+                for (Future<T> future : futures) {
+                    results.add(future.get());
+                }
+            } catch (ExecutionException ex) {
+                futures.forEach(future -> future.cancel(true));
+                if (ex.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException("Shard query failed", ex.getCause());
+            } catch (InterruptedException ex) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while querying shards", ex);
+            }
+            return results;
+        }
+    }
+
+    static List<Model> merge(List<List<Model>> sortedRuns, Comparator<Model> order, long skip, int limit) {
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, sortedRuns.size()),
+                (a, b) -> order.compare(a.current(), b.current()));
+        for (List<Model> run : sortedRuns) {
+            if (!run.isEmpty()) {
+                heap.add(new Cursor(run));
+            }
+        }
+
+        List<Model> merged = new ArrayList<>(Math.min(limit, 1024));
+        long skipped = 0;
+        while (!heap.isEmpty() && merged.size() < limit) {
+            Cursor cursor = heap.poll();
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                merged.add(cursor.current());
+            }
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static Comparator<Model> comparator(Sort sort) {
+        Comparator<Model> order = null;
+        for (Sort.Order property : sort) {
+            Comparator<Model> next = switch (property.getProperty()) {
+                case "id" -> Comparator.comparing(Model::getId);
+                case "name" -> Comparator.comparing(Model::getName);
+                default -> throw new IllegalArgumentException("Unsupported sort property: " + property.getProperty());
+            };
+            if (property.isDescending()) {
+                next = next.reversed();
+            }
+            order = order == null ? next : order.thenComparing(next);
+        }
+        if (sort.getOrderFor("id") != null) {
+            return order;
+        }
+        Comparator<Model> byId = Comparator.comparing(Model::getId);
+        if (tieBreakDirection(sort).isDescending()) {
+            byId = byId.reversed();
+        }
+        return order == null ? byId : order.thenComparing(byId);
+    }
+
+    private static String orderBy(Sort sort) {
+        List<String> columns = new ArrayList<>();
+        for (Sort.Order property : sort) {
+            if (!property.getProperty().equals("id") && !property.getProperty().equals("name")) {
+                throw new IllegalArgumentException("Unsupported sort property: " + property.getProperty());
+            }
+            columns.add(property.getProperty() + (property.isDescending() ? " DESC" : " ASC"));
+        }
+        if (sort.getOrderFor("id") == null) {
+            columns.add("id " + tieBreakDirection(sort).name());
+        }
+        return String.join(", ", columns);
+    }
+
+    // id breaks ties so every shard and the merge agree on one total order. Like ModelRepositoryAdapter it
+    // follows the direction of the last order, which keeps ORDER BY name, id in the (name, id) index order.
+    private static Sort.Direction tieBreakDirection(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.isEmpty() ? Sort.Direction.ASC : orders.get(orders.size() - 1).getDirection();
+    }
+
+    private record Shard(JdbcTemplate jdbc, TransactionTemplate tx) {
+    }
+
+    private record ShardPage(List<Model> rows, long total) {
+    }
+
+    private static final class Cursor {
+        private final List<Model> run;
+        private int index;
+
+        private Cursor(List<Model> run) {
+            this.run = run;
+        }
+
+        Model current() {
+            return run.get(index);
+        }
+
+        boolean advance() {
+            return ++index < run.size();
+        }
+    }
+}
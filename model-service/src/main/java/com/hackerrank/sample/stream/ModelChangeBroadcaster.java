@@ -0,0 +1,207 @@
+package com.hackerrank.sample.stream;
+
+import com.hackerrank.sample.dto.ModelChangeNotification;
+import com.hackerrank.sample.event.ModelChangeEvent;
+import com.hackerrank.sample.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class ModelChangeBroadcaster {
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        DISCONNECT
+    }
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration heartbeat;
+    private final Duration emitterTimeout;
+    private final ModelChangeNotification[] history;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter dropped;
+    private final Counter disconnected;
+    private long lastSequence;
+
+    public ModelChangeBroadcaster(
+            MeterRegistry registry,
+            @Value("${app.changes.history-size:1024}") int historySize,
+            @Value("${app.changes.buffer-size:256}") int bufferSize,
+            @Value("${app.changes.max-subscribers:1000}") int maxSubscribers,
+            @Value("${app.changes.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            @Value("${app.changes.heartbeat:15s}") Duration heartbeat,
+            @Value("${app.changes.emitter-timeout:30m}") Duration emitterTimeout
+    ) {
+        this.history = new ModelChangeNotification[historySize];
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.overflowPolicy = overflowPolicy;
+        this.heartbeat = heartbeat;
+        this.emitterTimeout = emitterTimeout;
+        this.dropped = Counter.builder("model.changes.dropped").register(registry);
+        this.disconnected = Counter.builder("model.changes.disconnected").register(registry);
+        Gauge.builder("model.changes.subscribers", subscribers, Set::size).register(registry);
+    }
+
+    // After commit, so subscribers are never told about a write that was rolled back.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(ModelChangeEvent event) {
+        List<? extends ModelChangeEvent> changes = event instanceof ModelChangeEvent.BatchCreated batch
+                ? batch.models()
+                : List.of(event);
+        lock.lock();
+        try {
+            for (ModelChangeEvent change : changes) {
+                ModelChangeNotification notification = toNotification(++lastSequence, change);
+                history[(int) (notification.sequence() % history.length)] = notification;
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.offer(notification);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Replay and registration happen under the publish lock, so a resumed stream has neither gaps nor duplicates.
+    public SseEmitter subscribe(Long lastEventId) {
+        return subscribe(new SseEmitter(emitterTimeout.toMillis()), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Too many change stream subscribers.");
+        }
+
+        Subscriber subscriber = new Subscriber(emitter);
+        lock.lock();
+        try {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        Thread.ofVirtual().name("model-changes-subscriber").start(subscriber::run);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // Missed events are written by the subscriber thread before it starts draining its buffer, so they never
+    // compete with live events for buffer space. A backlog larger than the buffer gets a reset instead: the
+    // client would fall behind again right away, and reloading is cheaper than replaying.
+    private void replay(Subscriber subscriber, long lastEventId) {
+        long oldest = Math.max(1, lastSequence - history.length + 1);
+        if (lastEventId < oldest - 1 || lastEventId > lastSequence || lastSequence - lastEventId > bufferSize) {
+            subscriber.reset = true;
+            return;
+        }
+        for (long sequence = lastEventId + 1; sequence <= lastSequence; sequence++) {
+            subscriber.missed.add(history[(int) (sequence % history.length)]);
+        }
+    }
+
+    private static ModelChangeNotification toNotification(long sequence, ModelChangeEvent event) {
+        long now = System.currentTimeMillis();
+        return switch (event) {
+            case ModelChangeEvent.Created created ->
+                    new ModelChangeNotification(sequence, "created", created.id(), created.name(), now);
+            case ModelChangeEvent.Deleted deleted ->
+                    new ModelChangeNotification(sequence, "deleted", deleted.id(), null, now);
+            case ModelChangeEvent.BatchCreated ignored ->
+                    throw new IllegalArgumentException("Batch events are split by onChange.");
+            case ModelChangeEvent.Erased ignored ->
+                    new ModelChangeNotification(sequence, "erased", null, null, now);
+        };
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<ModelChangeNotification> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final List<ModelChangeNotification> missed = new ArrayList<>();
+        private volatile boolean closed;
+        private boolean reset;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // Called on the publishing thread; never blocks.
+        void offer(ModelChangeNotification notification) {
+            while (!buffer.offer(notification)) {
+                if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    disconnected.increment();
+                    close();
+                    emitter.complete();
+                    return;
+                }
+                buffer.poll();
+                dropped.increment();
+            }
+        }
+
+        void run() {
+            try {
+                if (reset) {
+                    emitter.send(SseEmitter.event().name("reset").data("history unavailable, reload the catalog"));
+                }
+                for (ModelChangeNotification notification : missed) {
+                    send(notification);
+                }
+                missed.clear();
+                while (!closed) {
+                    ModelChangeNotification notification = buffer.poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                    if (notification == null) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                        continue;
+                    }
+                    send(notification);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                close();
+            }
+        }
+
+        private void send(ModelChangeNotification notification) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(notification.sequence()))
+                    .name(notification.type())
+                    .data(notification, MediaType.APPLICATION_JSON));
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.hackerrank.sample.accesslog;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.util.unit.DataSize;
+
+public class AccessLogWriterTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void recordsRoundTripThroughRollingFiles() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        AccessLogWriter writer = new AccessLogWriter(
+                new SimpleMeterRegistry(), true, directory.toString(), 1024, DataSize.ofBytes(1), 100, Duration.ofMillis(5)
+        );
+        writer.start();
+        for (int i = 0; i < 50; i++) {
+            writer.log(1_700_000_000_000L + i, "GET", "/model/{id}", 200, 150 + i, "trace-" + i, (long) i);
+        }
+        writer.log(1_700_000_000_100L, "DELETE", "/erase", 200, 900, null, null);
+        writer.stop();
+
+        List<AccessLogRecord> records = new ArrayList<>();
+        for (Path file : AccessLogReader.resolve(new String[]{directory.toString()})) {
+            AccessLogReader.read(file, records::add);
+        }
+
+        assertEquals(51, records.size());
+        AccessLogRecord first = records.get(0);
+        assertEquals(1_700_000_000_000L, first.timestampMillis());
+        assertEquals("GET", first.method());
+        assertEquals("/model/{id}", first.route());
+        assertEquals(200, first.status());
+        assertEquals(150L, first.latencyMicros());
+        assertEquals("trace-0", first.traceId());
+        assertEquals(Long.valueOf(0), first.modelId());
+        AccessLogRecord last = records.get(50);
+        assertEquals("DELETE", last.method());
+        assertEquals("", last.traceId());
+        assertNull(last.modelId());
+    }
+
+    @Test
+    public void writeErrorsDoNotStopTheDrainer() throws Exception {
+        Path directory = folder.getRoot().toPath().resolve("access");
+        // A regular file where the directory should be makes every roll fail.
+        Files.writeString(directory, "");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AccessLogWriter writer = new AccessLogWriter(
+                registry, true, directory.toString(), 1024, DataSize.ofMegabytes(1), 10, Duration.ofMillis(5)
+        );
+        writer.start();
+        writer.log(1_700_000_000_000L, "GET", "/model", 200, 10, "lost", null);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.counter("access.log.errors").count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(writer.isRunning());
+
+        Files.delete(directory);
+        writer.log(1_700_000_000_001L, "GET", "/model", 200, 10, "kept", null);
+        writer.stop();
+
+        List<AccessLogRecord> records = new ArrayList<>();
+        for (Path file : AccessLogReader.resolve(new String[]{directory.toString()})) {
+            AccessLogReader.read(file, records::add);
+        }
+        assertEquals(1, records.size());
+        assertEquals("kept", records.get(0).traceId());
+        assertEquals(1.0, registry.counter("access.log.errors").count(), 0);
+    }
+
+    @Test
+    public void fullRingRejectsInsteadOfBlocking() {
+        AccessLogRing ring = new AccessLogRing(2);
+        assertTrue(ring.offer(1, "GET", "/model", 200, 1, "a", 1));
+        assertTrue(ring.offer(2, "GET", "/model", 200, 1, "b", 2));
+        assertFalse(ring.offer(3, "GET", "/model", 200, 1, "c", 3));
+
+        List<Long> drained = new ArrayList<>();
+        ring.drain((timestamp, method, route, status, latency, traceId, modelId) -> drained.add(timestamp), 10);
+
+        assertEquals(List.of(1L, 2L), drained);
+        assertTrue(ring.offer(4, "GET", "/model", 200, 1, "d", 4));
+    }
+}
@@ -0,0 +1,104 @@
+package com.hackerrank.sample.chaos;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+public class ChaosModelRepositoryPortTest {
+    private final ModelRepositoryPort delegate = mock(ModelRepositoryPort.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ChaosInjector injector = new ChaosInjector(true, ChaosProfile.NONE, registry);
+    private final ChaosModelRepositoryPort port = new ChaosModelRepositoryPort(delegate, injector);
+
+    private static ChaosProfile profile(ChaosProfile.Distribution distribution, long latencyMs, long stddevMs, long p99Ms,
+                                        double errorRate) {
+        return new ChaosProfile(distribution, Duration.ofMillis(latencyMs), Duration.ofMillis(stddevMs),
+                Duration.ofMillis(p99Ms), errorRate, 0, Duration.ZERO);
+    }
+
+    @Test
+    public void injectedErrorsNeverReachTheDelegate() {
+        injector.setProfile("findById", profile(ChaosProfile.Distribution.NONE, 0, 0, 0, 1.0));
+
+        try {
+            port.findById(1L);
+            fail("expected an injected failure");
+        } catch (DataAccessResourceFailureException expected) {
+            // expected
+        }
+        verify(delegate, never()).findById(1L);
+        assertEquals(1.0, registry.counter("chaos.injections", "method", "findById", "fault", "error").count(), 0.0);
+    }
+
+    @Test
+    public void inactiveInjectorOnlyForwards() {
+        injector.setProfile(ChaosInjector.ANY_METHOD, profile(ChaosProfile.Distribution.NONE, 0, 0, 0, 1.0));
+        injector.setActive(false);
+        when(delegate.findById(1L)).thenReturn(Optional.of(new Model(1L, "a")));
+
+        assertTrue(port.findById(1L).isPresent());
+    }
+
+    @Test
+    public void methodProfileOverridesTheDefault() {
+        injector.setProfile(ChaosInjector.ANY_METHOD, profile(ChaosProfile.Distribution.NONE, 0, 0, 0, 1.0));
+        injector.setProfile("existsById", ChaosProfile.NONE);
+        when(delegate.existsById(1L)).thenReturn(true);
+
+        assertTrue(port.existsById(1L));
+    }
+
+    @Test
+    public void fixedLatencyDelaysTheCall() {
+        injector.setProfile("existsById", profile(ChaosProfile.Distribution.FIXED, 30, 0, 0, 0));
+
+        long started = System.nanoTime();
+        port.existsById(1L);
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() >= 30);
+    }
+
+    @Test
+    public void longTailMatchesMedianAndP99() {
+        ChaosProfile longTail = profile(ChaosProfile.Distribution.LONG_TAIL, 2, 0, 80, 0);
+        Random random = new Random(42);
+        long[] samples = new long[100_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = longTail.sampleLatencyNanos(random);
+        }
+        Arrays.sort(samples);
+
+        double medianMs = samples[samples.length / 2] / 1e6;
+        double p99Ms = samples[(int) (samples.length * 0.99)] / 1e6;
+        assertEquals(2.0, medianMs, 0.2);
+        assertEquals(80.0, p99Ms, 8.0);
+    }
+
+    @Test
+    public void normalNeverGoesNegative() {
+        ChaosProfile normal = profile(ChaosProfile.Distribution.NORMAL, 1, 5, 0, 0);
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(normal.sampleLatencyNanos(random) >= 0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsRatesAboveOne() {
+        profile(ChaosProfile.Distribution.FIXED, 1, 0, 0, 1.5);
+    }
+}
@@ -0,0 +1,102 @@
+package com.hackerrank.sample.deadline;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackerrank.sample.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class DeadlineFilterTest {
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DeadlineFilter filter = new DeadlineFilter(new ObjectMapper(), registry, true, Duration.ZERO);
+
+    @Test
+    public void parsesGrpcTimeoutUnits() {
+        assertEquals(Duration.ofMillis(250), DeadlineFilter.timeout(null, "250m", NOW));
+        assertEquals(Duration.ofSeconds(5), DeadlineFilter.timeout(null, "5S", NOW));
+        assertEquals(Duration.ofMinutes(1), DeadlineFilter.timeout(null, "1M", NOW));
+        assertEquals(Duration.ofNanos(900), DeadlineFilter.timeout(null, "900n", NOW));
+    }
+
+    @Test
+    public void parsesAbsoluteDeadlinesAndKeepsTheEarlier() {
+        String inTwoSeconds = String.valueOf(NOW.plusSeconds(2).toEpochMilli());
+
+        assertEquals(Duration.ofSeconds(2), DeadlineFilter.timeout(inTwoSeconds, null, NOW));
+        assertEquals(Duration.ofSeconds(3), DeadlineFilter.timeout(NOW.plusSeconds(3).toString(), null, NOW));
+        assertEquals(Duration.ofMillis(500), DeadlineFilter.timeout(inTwoSeconds, "500m", NOW));
+        assertEquals(Duration.ofSeconds(2), DeadlineFilter.timeout(inTwoSeconds, "10S", NOW));
+        assertNull(DeadlineFilter.timeout(null, null, NOW));
+    }
+
+    @Test
+    public void rejectsMalformedHeaders() {
+        for (String grpcTimeout : new String[]{"5", "123456789S", "5s", "-1S"}) {
+            try {
+                DeadlineFilter.timeout(null, grpcTimeout, NOW);
+                fail("Expected rejection of " + grpcTimeout);
+            } catch (IllegalArgumentException expected) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void expiredRequestIsRejectedBeforeTheHandler() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/model/1");
+        request.addHeader(DeadlineFilter.DEADLINE_HEADER, String.valueOf(System.currentTimeMillis() - 1000));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(504, response.getStatus());
+        assertTrue(response.getContentAsString().contains("DEADLINE_EXCEEDED"));
+        assertNull(chain.getRequest());
+        assertEquals(1.0, registry.counter("request.deadline.expired", "stage", "arrival").count(), 0.0);
+    }
+
+    @Test
+    public void deadlineIsVisibleToTheHandlerAndCleared() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/model/1");
+        request.addHeader(DeadlineFilter.GRPC_TIMEOUT_HEADER, "5S");
+        AtomicReference<Deadline> seen = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> seen.set(Deadline.current()));
+
+        assertTrue(seen.get().remaining().compareTo(Duration.ofSeconds(4)) > 0);
+        assertNull(Deadline.current());
+    }
+
+    @Test
+    public void abandonedWorkIsCountedByStage() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/model/1");
+        request.addHeader(DeadlineFilter.GRPC_TIMEOUT_HEADER, "1m");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            try {
+                Thread.sleep(5);
+                Deadline.check("service");
+                fail("Expected DeadlineExceededException");
+            } catch (DeadlineExceededException expected) {
+                // expected
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertEquals(1.0, registry.counter("request.deadline.expired", "stage", "service").count(), 0.0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.hackerrank.sample.decoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackerrank.sample.dto.ModelRequest;
+import com.hackerrank.sample.mapper.ModelMapper;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.validation.ValidationGroups;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// POST /model body decoding: Jackson binding + Hibernate Validator + ModelMapper against the fused decoder.
+// Not a unit test; run main() with the test classpath (see README).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelRequestDecodeBenchmark {
+    private byte[] body;
+    private ObjectMapper objectMapper;
+    private Validator validator;
+    private ModelMapper modelMapper;
+    private ModelRequestDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        body = "{\"id\":123456,\"name\":\"Samsung Galaxy S24 Ultra 256GB\"}".getBytes(StandardCharsets.UTF_8);
+        objectMapper = new ObjectMapper();
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        modelMapper = new ModelMapper();
+        decoder = new ModelRequestDecoder();
+    }
+
+    @Benchmark
+    public Model currentPath() throws IOException {
+        ModelRequest request = objectMapper.readValue(new ByteArrayInputStream(body), ModelRequest.class);
+        Set<ConstraintViolation<ModelRequest>> violations = validator.validate(request, ValidationGroups.Create.class);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("unexpected violations");
+        }
+        return modelMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public Model fusedDecoder() throws IOException {
+        return decoder.decode(new ByteArrayInputStream(body)).toModel();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ModelRequestDecodeBenchmark.class.getSimpleName()).build()).run();
+    }
+}
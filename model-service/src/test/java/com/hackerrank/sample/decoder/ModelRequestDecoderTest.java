@@ -0,0 +1,84 @@
+package com.hackerrank.sample.decoder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import com.hackerrank.sample.exception.RequestValidationException;
+import com.hackerrank.sample.model.Model;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+public class ModelRequestDecoderTest {
+    private final ModelRequestDecoder decoder = new ModelRequestDecoder();
+
+    private DecodedModelRequest decode(String json) throws IOException {
+        return decoder.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String violation(String json) throws IOException {
+        try {
+            decode(json);
+            fail("expected validation error for " + json);
+            return null;
+        } catch (RequestValidationException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private void assertUnreadable(String json) {
+        try {
+            decode(json);
+            fail("expected unreadable body for " + json);
+        } catch (IOException expected) {
+            // mapped to INVALID_JSON by the converter
+        }
+    }
+
+    @Test
+    public void decodesValidBodyIntoModel() throws IOException {
+        Model model = decode("{\"name\":\"Model 1\",\"extra\":{\"a\":[1,2]},\"id\":1}").toModel();
+
+        assertEquals(Long.valueOf(1), model.getId());
+        assertEquals("Model 1", model.getName());
+    }
+
+    @Test
+    public void coercesScalarsLikeJacksonBinding() throws IOException {
+        assertEquals(Long.valueOf(12), decode("{\"id\":\"12\",\"name\":\"a\"}").getId());
+        assertEquals(Long.valueOf(3), decode("{\"id\":3.7,\"name\":\"a\"}").getId());
+        assertEquals("42", decode("{\"id\":1,\"name\":42}").getName());
+    }
+
+    @Test
+    public void reportsViolationsWithHandleValidationMessages() throws IOException {
+        assertEquals("id: id is required", violation("{\"name\":\"a\"}"));
+        assertEquals("id: id is required", violation("{\"id\":\"\",\"name\":\"a\"}"));
+        assertEquals("name: name is required", violation("{\"id\":1,\"name\":\"   \"}"));
+        assertEquals("id: id is required; name: name is required", violation("{\"id\":null}"));
+    }
+
+    @Test
+    public void rejectsMalformedBodies() {
+        assertUnreadable("");
+        assertUnreadable("[]");
+        assertUnreadable("{\"id\":1,\"name\":\"a\"");
+        assertUnreadable("{\"id\":\"abc\",\"name\":\"a\"}");
+        assertUnreadable("{\"id\":99999999999999999999,\"name\":\"a\"}");
+        assertUnreadable("{\"id\":1,\"name\":[\"a\"]}");
+    }
+
+    @Test
+    public void skippingValidatorIgnoresDecodedRequestsOnly() throws IOException {
+        DecodedModelRequest decoded = decode("{\"id\":1,\"name\":\"a\"}");
+        DecodedRequestSkippingValidator validator = new DecodedRequestSkippingValidator(null);
+
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(decoded, "request");
+        validator.validate(decoded, errors);
+
+        assertNull(errors.getFieldError());
+    }
+}
@@ -0,0 +1,50 @@
+package com.hackerrank.sample.diagnostics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hackerrank.sample.jfr.JfrEventStream;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.Test;
+
+public class ConcurrencyDiagnosticsTest {
+    private final JfrEventStream eventStream = mock(JfrEventStream.class);
+
+    @Test
+    public void virtualThreadEventsAreOptIn() {
+        ConcurrencyDiagnostics diagnostics = new ConcurrencyDiagnostics(eventStream, Duration.ofMillis(10), false);
+
+        verify(eventStream, never()).subscribe(eq("jdk.VirtualThreadStart"), any(), anyBoolean(), any());
+        verify(eventStream, never()).subscribe(eq("jdk.VirtualThreadEnd"), any(), anyBoolean(), any());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> virtualThreads = (Map<String, Object>) diagnostics.report().get("virtualThreads");
+        assertEquals(false, virtualThreads.get("startEvents"));
+        assertFalse(virtualThreads.containsKey("startRate"));
+        assertTrue(virtualThreads.containsKey("platformThreads"));
+    }
+
+    @Test
+    public void samplingTracksOnlyLiveCarriers() throws Exception {
+        ConcurrencyDiagnostics diagnostics = new ConcurrencyDiagnostics(eventStream, Duration.ofMillis(10), false);
+        Thread.ofVirtual().start(() -> { }).join();
+
+        diagnostics.sampleCarrierUtilization();
+        diagnostics.sampleCarrierUtilization();
+
+        long liveCarriers = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getThreadGroup() != null
+                        && "CarrierThreads".equals(thread.getThreadGroup().getName()))
+                .count();
+        assertTrue(diagnostics.trackedCarriers() > 0);
+        assertTrue(diagnostics.trackedCarriers() <= liveCarriers);
+    }
+}
@@ -0,0 +1,35 @@
+package com.hackerrank.sample.diagnostics;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class RollingWindowTest {
+    @Test
+    public void summarizeOnlyCountsBucketsInsideWindow() {
+        RollingWindow window = new RollingWindow(60);
+        window.record(100, 5);
+        window.record(100, 7);
+        window.record(95, 3);
+        window.record(80, 50);
+
+        RollingWindow.Summary summary = window.summarize(100, 10);
+
+        assertEquals(3, summary.count());
+        assertEquals(15, summary.sum());
+        assertEquals(7, summary.max());
+        assertEquals(0.3, summary.ratePerSecond(), 0.0001);
+    }
+
+    @Test
+    public void recordOverwritesExpiredBucket() {
+        RollingWindow window = new RollingWindow(10);
+        window.record(1, 100);
+        window.record(11, 2);
+
+        RollingWindow.Summary summary = window.summarize(11, 10);
+
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.max());
+    }
+}
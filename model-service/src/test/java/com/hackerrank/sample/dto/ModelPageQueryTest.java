@@ -0,0 +1,54 @@
+package com.hackerrank.sample.dto;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.hackerrank.sample.exception.BadResourceRequestException;
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+public class ModelPageQueryTest {
+    @Test
+    public void acceptsWhitelistedSorts() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name").and(Sort.by("id")));
+
+        ModelPageQuery query = ModelPageQuery.of(pageable, "mo");
+
+        assertEquals(pageable, query.pageable());
+        assertEquals("mo", query.namePrefix());
+        assertTrue(query.hasNamePrefix());
+    }
+
+    @Test
+    public void emptyPrefixMeansNoFilter() {
+        ModelPageQuery query = ModelPageQuery.of(PageRequest.of(0, 10), "");
+
+        assertNull(query.namePrefix());
+        assertFalse(query.hasNamePrefix());
+    }
+
+    @Test
+    public void rejectsUnsupportedSortProperty() {
+        try {
+            ModelPageQuery.of(PageRequest.of(0, 10, Sort.by("createdAt")), null);
+            fail("Expected BadResourceRequestException");
+        } catch (BadResourceRequestException ex) {
+            assertEquals("Unsupported sort property: createdAt. Sortable fields: id, name.", ex.getMessage());
+        }
+    }
+
+    @Test(expected = BadResourceRequestException.class)
+    public void rejectsCaseInsensitiveSort() {
+        ModelPageQuery.of(PageRequest.of(0, 10, Sort.by(Sort.Order.asc("name").ignoreCase())), null);
+    }
+
+    @Test(expected = BadResourceRequestException.class)
+    public void rejectsOverlongPrefix() {
+        ModelPageQuery.of(PageRequest.of(0, 10), "x".repeat(ModelPageQuery.MAX_NAME_PREFIX_LENGTH + 1));
+    }
+}
@@ -7,13 +7,17 @@ import static org.mockito.Mockito.when;
 import com.hackerrank.sample.model.Model;
 import jakarta.servlet.http.HttpServletRequest;
 import java.lang.reflect.Method;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
 import org.junit.Test;
 import org.slf4j.MDC;
 import org.springframework.core.MethodParameter;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -108,6 +112,99 @@ public class GlobalExceptionHandlerTest {
         assertEquals("INVALID_JSON", response.getBody().code());
     }
 
+    @Test
+    public void handleServiceUnavailableReturnsExpectedResponse() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRequestURI()).thenReturn("/model/1");
+
+        ResponseEntity<ErrorResponse> response = handler.handleServiceUnavailable(
+                new ServiceUnavailableException("Too many concurrent requests to model-repository."),
+                request
+        );
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(503, response.getBody().status());
+        assertEquals("SERVICE_UNAVAILABLE", response.getBody().code());
+        assertEquals("Too many concurrent requests to model-repository.", response.getBody().message());
+    }
+
+    @Test
+    public void connectionCheckoutFailuresAreDeadlineOrUnavailable() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRequestURI()).thenReturn("/model/1");
+
+        ResponseEntity<ErrorResponse> expired = handler.handleConnectionUnavailable(
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                        new RuntimeException(new SQLTimeoutException("Request deadline exceeded."))),
+                request
+        );
+        ResponseEntity<ErrorResponse> unavailable = handler.handleConnectionUnavailable(
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                        new SQLTransientConnectionException("Connection is not available.")),
+                request
+        );
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, expired.getStatusCode());
+        assertEquals("DEADLINE_EXCEEDED", expired.getBody().code());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, unavailable.getStatusCode());
+        assertEquals("SERVICE_UNAVAILABLE", unavailable.getBody().code());
+    }
+
+    @Test
+    public void handleDeadlineExceededCoversQueryTimeouts() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRequestURI()).thenReturn("/model/1");
+
+        ResponseEntity<ErrorResponse> expired = handler.handleDeadlineExceeded(
+                new DeadlineExceededException("Request deadline exceeded."),
+                request
+        );
+        ResponseEntity<ErrorResponse> queryTimeout = handler.handleDeadlineExceeded(
+                new QueryTimeoutException("Query timed out"),
+                request
+        );
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, expired.getStatusCode());
+        assertEquals("DEADLINE_EXCEEDED", expired.getBody().code());
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, queryTimeout.getStatusCode());
+        assertEquals("Request deadline exceeded.", queryTimeout.getBody().message());
+    }
+
+    @Test
+    public void handleConflictAndUnprocessableReturnExpectedCodes() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRequestURI()).thenReturn("/model");
+
+        ResponseEntity<ErrorResponse> conflict = handler.handleConflict(
+                new ConflictException("A request with the same Idempotency-Key is in progress."),
+                request
+        );
+        ResponseEntity<ErrorResponse> unprocessable = handler.handleUnprocessable(
+                new UnprocessableRequestException("Idempotency-Key was already used for a different request."),
+                request
+        );
+
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+        assertEquals("CONFLICT", conflict.getBody().code());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, unprocessable.getStatusCode());
+        assertEquals("UNPROCESSABLE_ENTITY", unprocessable.getBody().code());
+    }
+
+    @Test
+    public void handleRequestValidationMatchesBeanValidationResponse() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRequestURI()).thenReturn("/model");
+
+        ResponseEntity<ErrorResponse> response = handler.handleRequestValidation(
+                new RequestValidationException("id: id is required; name: name is required"),
+                request
+        );
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("VALIDATION_ERROR", response.getBody().code());
+        assertEquals("id: id is required; name: name is required", response.getBody().message());
+    }
+
     @Test
     public void handleUnexpectedReturnsExpectedMessage() {
         HttpServletRequest request = mock(HttpServletRequest.class);
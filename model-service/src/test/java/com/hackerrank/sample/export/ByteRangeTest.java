@@ -0,0 +1,38 @@
+package com.hackerrank.sample.export;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ByteRangeTest {
+    @Test
+    public void parsesClosedRange() {
+        assertEquals(new ByteRange(10, 19), ByteRange.parse("bytes=10-19", 100).orElseThrow());
+    }
+
+    @Test
+    public void parsesOpenEndedRangeAndClampsEnd() {
+        assertEquals(new ByteRange(90, 99), ByteRange.parse("bytes=90-", 100).orElseThrow());
+        assertEquals(new ByteRange(90, 99), ByteRange.parse("bytes=90-500", 100).orElseThrow());
+    }
+
+    @Test
+    public void parsesSuffixRange() {
+        assertEquals(new ByteRange(80, 99), ByteRange.parse("bytes=-20", 100).orElseThrow());
+        assertEquals(new ByteRange(0, 99), ByteRange.parse("bytes=-500", 100).orElseThrow());
+    }
+
+    @Test
+    public void ignoresMissingMalformedAndMultiRangeHeaders() {
+        assertTrue(ByteRange.parse(null, 100).isEmpty());
+        assertTrue(ByteRange.parse("items=0-1", 100).isEmpty());
+        assertTrue(ByteRange.parse("bytes=a-b", 100).isEmpty());
+        assertTrue(ByteRange.parse("bytes=0-1,5-6", 100).isEmpty());
+    }
+
+    @Test(expected = ByteRange.UnsatisfiableRangeException.class)
+    public void rejectsRangeStartingPastEnd() {
+        ByteRange.parse("bytes=100-", 100);
+    }
+}
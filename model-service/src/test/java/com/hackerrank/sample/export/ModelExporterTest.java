@@ -0,0 +1,69 @@
+package com.hackerrank.sample.export;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ModelExporterTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ModelRepositoryPort modelRepository = mock(ModelRepositoryPort.class);
+
+    @Test
+    public void writesGzipNdjsonSnapshotAndPublishesIt() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Model> sink = invocation.getArgument(0);
+            sink.accept(new Model(1L, "a"));
+            sink.accept(new Model(2L, "quote \" b"));
+            return null;
+        }).when(modelRepository).streamAll(any());
+        ModelExporter exporter = exporter(2);
+
+        ExportSnapshot snapshot = exporter.writeSnapshot();
+
+        assertEquals(2, snapshot.models());
+        assertEquals(snapshot, exporter.latest().orElseThrow());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(snapshot.path())), StandardCharsets.UTF_8))) {
+            assertEquals(List.of("{\"id\":1,\"name\":\"a\"}", "{\"id\":2,\"name\":\"quote \\\" b\"}"), reader.lines().toList());
+        }
+    }
+
+    @Test
+    public void keepsOnlyRetainedSnapshots() throws Exception {
+        ModelExporter exporter = exporter(1);
+
+        exporter.writeSnapshot();
+        Thread.sleep(2);
+        ExportSnapshot newest = exporter.writeSnapshot();
+
+        try (var files = Files.list(folder.getRoot().toPath())) {
+            assertEquals(List.of(newest.path()), files.toList());
+        }
+        assertTrue(Files.size(newest.path()) > 0);
+    }
+
+    private ModelExporter exporter(int retained) {
+        Path directory = folder.getRoot().toPath();
+        return new ModelExporter(modelRepository, new SimpleMeterRegistry(), directory.toString(), Duration.ZERO, retained);
+    }
+}
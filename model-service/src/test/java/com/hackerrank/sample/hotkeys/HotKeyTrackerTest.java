@@ -0,0 +1,56 @@
+package com.hackerrank.sample.hotkeys;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.hackerrank.sample.hotkeys.HotKeyTracker.HotKey;
+import com.hackerrank.sample.hotkeys.HotKeyTracker.Operation;
+import java.time.Duration;
+import java.util.List;
+import org.junit.Test;
+
+public class HotKeyTrackerTest {
+    @Test
+    public void heavyHittersRankAboveBackgroundTraffic() {
+        HotKeyTracker tracker = new HotKeyTracker(true, Duration.ofSeconds(10), 4, 1024, 5);
+        for (long id = 1; id <= 5000; id++) {
+            tracker.record(Operation.READ, id);
+        }
+        for (int i = 0; i < 1000; i++) {
+            tracker.record(Operation.READ, 42L);
+        }
+        for (int i = 0; i < 500; i++) {
+            tracker.record(Operation.READ, 7L);
+        }
+
+        List<HotKey> hotKeys = tracker.hotKeys(Operation.READ);
+
+        assertEquals(42L, hotKeys.get(0).id());
+        assertEquals(7L, hotKeys.get(1).id());
+        assertTrue(hotKeys.get(0).estimatedCount() >= 1001);
+        assertTrue(tracker.hotKeys(Operation.DELETE).isEmpty());
+    }
+
+    @Test
+    public void decayHalvesCountsEachWindow() {
+        HotKeyTracker tracker = new HotKeyTracker(true, Duration.ofSeconds(10), 4, 1024, 5);
+        for (int i = 0; i < 400; i++) {
+            tracker.record(Operation.CREATE, 9L);
+        }
+
+        tracker.decay();
+        tracker.decay();
+
+        HotKey hotKey = tracker.hotKeys(Operation.CREATE).get(0);
+        assertEquals(100L, hotKey.estimatedCount());
+        assertEquals(5.0, hotKey.estimatedPerSecond(), 0.001);
+    }
+
+    @Test
+    public void disabledTrackerRecordsNothing() {
+        HotKeyTracker tracker = new HotKeyTracker(false, Duration.ofSeconds(10), 4, 1024, 5);
+        tracker.record(Operation.READ, 1L);
+
+        assertTrue(tracker.hotKeys(Operation.READ).isEmpty());
+    }
+}
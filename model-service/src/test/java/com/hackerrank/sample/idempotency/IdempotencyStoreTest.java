@@ -0,0 +1,140 @@
+package com.hackerrank.sample.idempotency;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.hackerrank.sample.exception.ConflictException;
+import com.hackerrank.sample.exception.ServiceUnavailableException;
+import com.hackerrank.sample.exception.UnprocessableRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public class IdempotencyStoreTest {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private IdempotencyStore store(Duration ttl, int capacity) {
+        return new IdempotencyStore(new SimpleMeterRegistry(), true, ttl, capacity, 1);
+    }
+
+    private ResponseEntity<?> created() {
+        return ResponseEntity.status(HttpStatus.CREATED).body("model-" + calls.incrementAndGet());
+    }
+
+    @Test
+    public void replayReturnsOriginalResponseWithoutCallingAgain() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 10);
+
+        ResponseEntity<?> first = store.execute("POST /model", "k1", "1:a", this::created);
+        ResponseEntity<?> replay = store.execute("POST /model", "k1", "1:a", this::created);
+
+        assertEquals(1, calls.get());
+        assertEquals(HttpStatus.CREATED, replay.getStatusCode());
+        assertEquals(first.getBody(), replay.getBody());
+        assertEquals("true", replay.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+    }
+
+    @Test
+    public void keyReusedForDifferentRequestIsRejected() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 10);
+        store.execute("POST /model", "k1", "1:a", this::created);
+
+        try {
+            store.execute("POST /model", "k1", "2:b", this::created);
+            fail("expected mismatch");
+        } catch (UnprocessableRequestException expected) {
+            assertEquals(1, calls.get());
+        }
+    }
+
+    @Test
+    public void sameKeyWhileInFlightIsAConflict() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 10);
+
+        store.execute("POST /model", "k1", "1:a", () -> {
+            try {
+                store.execute("POST /model", "k1", "1:a", this::created);
+                fail("expected conflict");
+            } catch (ConflictException expected) {
+                // the nested retry is rejected while the first is running
+            }
+            return created();
+        });
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void failuresAndErrorResponsesAreNotRemembered() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 10);
+        try {
+            store.execute("POST /model", "k1", "1:a", () -> {
+                throw new IllegalStateException("boom");
+            });
+            fail("expected failure");
+        } catch (IllegalStateException expected) {
+            // the key is released so the retry runs
+        }
+        store.execute("POST /model", "k2", "1:a", () -> ResponseEntity.badRequest().build());
+
+        store.execute("POST /model", "k1", "1:a", this::created);
+        store.execute("POST /model", "k2", "1:a", this::created);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void expiredAndEvictedKeysRunAgain() throws InterruptedException {
+        IdempotencyStore expiring = store(Duration.ofMillis(20), 10);
+        expiring.execute("POST /model", "k1", "1:a", this::created);
+        Thread.sleep(40);
+        expiring.execute("POST /model", "k1", "1:a", this::created);
+        assertEquals(2, calls.get());
+
+        IdempotencyStore bounded = store(Duration.ofMinutes(1), 2);
+        bounded.execute("POST /model", "a", "x", this::created);
+        bounded.execute("POST /model", "b", "x", this::created);
+        bounded.execute("POST /model", "c", "x", this::created);
+        assertEquals(2, bounded.size());
+        bounded.execute("POST /model", "a", "x", this::created);
+        assertEquals(6, calls.get());
+    }
+
+    @Test
+    public void inFlightReservationsAreNeverEvicted() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 2);
+        store.execute("POST /model", "done", "x", this::created);
+
+        // "a" fills the stripe; "b" is admitted by evicting the completed "done"; "c" finds only in-flight entries.
+        store.execute("POST /model", "a", "x", () -> store.execute("POST /model", "b", "x", () -> {
+            try {
+                store.execute("POST /model", "c", "x", this::created);
+                fail("expected saturation");
+            } catch (ServiceUnavailableException expected) {
+                assertEquals(1, calls.get());
+            }
+            try {
+                store.execute("POST /model", "a", "x", this::created);
+                fail("expected conflict");
+            } catch (ConflictException expected) {
+                // the running reservation survived
+            }
+            return created();
+        }));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void requestsWithoutKeyBypassTheStore() {
+        IdempotencyStore store = store(Duration.ofMinutes(1), 10);
+
+        store.execute("POST /model", null, "1:a", this::created);
+        store.execute("POST /model", null, "1:a", this::created);
+
+        assertEquals(2, calls.get());
+    }
+}
@@ -0,0 +1,134 @@
+package com.hackerrank.sample.importer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hackerrank.sample.event.ModelChangeEvent;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.service.ModelBatchWriter;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ImportJobTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final ModelBatchWriter batchWriter = mock(ModelBatchWriter.class);
+    private final List<Model> written = Collections.synchronizedList(new ArrayList<>());
+    private final List<Object> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void setUp() {
+        when(batchWriter.writeAll(anyList())).thenAnswer(invocation -> {
+            List<Model> batch = invocation.getArgument(0);
+            written.addAll(batch);
+            return batch.stream()
+                    .map(model -> new ModelBatchWriter.WriteOutcome(model, ModelBatchWriter.WriteOutcome.Status.PERSISTED, null))
+                    .toList();
+        });
+    }
+
+    @Test
+    public void importsNdjsonAndRejectsInvalidLines() throws Exception {
+        Path file = write("models.ndjson",
+                "{\"id\":1,\"name\":\"a\"}\n{\"id\":2}\nnot json\n\n{\"id\":3,\"name\":\"c\"}\n");
+
+        ImportStatus status = run(file, 2, false);
+
+        assertEquals(ImportStatus.State.COMPLETED, status.state());
+        assertEquals(2, status.persisted());
+        assertEquals(2, status.rejected());
+        assertEquals("line 2: name: name is required", status.errors().get(0));
+        assertEquals(Files.size(file), ImportCheckpoint.load(ImportCheckpoint.pathFor(file)).offset());
+    }
+
+    @Test
+    public void importsCsvWithHeaderAndQuotedNames() throws Exception {
+        Path file = write("models.csv", "id,name\r\n1,plain\r\n2,\"with, comma and \"\"quotes\"\"\"\r\nx,bad\r\n");
+
+        ImportStatus status = run(file, 10, false);
+
+        assertEquals(2, status.persisted());
+        assertEquals(1, status.rejected());
+        assertEquals("with, comma and \"quotes\"", written.get(1).getName());
+    }
+
+    @Test
+    public void resumesFromCheckpoint() throws Exception {
+        String first = "{\"id\":1,\"name\":\"a\"}\n";
+        Path file = write("models.ndjson", first + "{\"id\":2,\"name\":\"b\"}\n");
+        new ImportCheckpoint(first.getBytes(StandardCharsets.UTF_8).length, 1, 1, 0, 0, 0)
+                .save(ImportCheckpoint.pathFor(file));
+
+        ImportStatus status = run(file, 10, true);
+
+        assertEquals(1, written.size());
+        assertEquals(Long.valueOf(2), written.get(0).getId());
+        assertEquals(2, status.persisted());
+        assertEquals(2, status.lines());
+    }
+
+    @Test
+    public void publishesOneBatchEventPerCommittedChunk() throws Exception {
+        Path file = write("models.ndjson",
+                "{\"id\":1,\"name\":\"a\"}\n{\"id\":2,\"name\":\"b\"}\n{\"id\":3,\"name\":\"c\"}\n");
+
+        run(file, 2, false);
+
+        assertEquals(2, events.size());
+        List<Long> ids = events.stream()
+                .flatMap(event -> ((ModelChangeEvent.BatchCreated) event).models().stream())
+                .map(ModelChangeEvent.Created::id)
+                .sorted()
+                .toList();
+        assertEquals(List.of(1L, 2L, 3L), ids);
+    }
+
+    @Test
+    public void failedBatchStopsTheJobAndHoldsTheCheckpointBeforeIt() throws Exception {
+        String first = "{\"id\":1,\"name\":\"a\"}\n";
+        Path file = write("models.ndjson", first + "{\"id\":2,\"name\":\"b\"}\n{\"id\":3,\"name\":\"c\"}\n");
+        when(batchWriter.writeAll(anyList())).thenAnswer(invocation -> {
+            List<Model> batch = invocation.getArgument(0);
+            ModelBatchWriter.WriteOutcome.Status status = batch.get(0).getId() == 2
+                    ? ModelBatchWriter.WriteOutcome.Status.FAILED
+                    : ModelBatchWriter.WriteOutcome.Status.PERSISTED;
+            return batch.stream()
+                    .map(model -> new ModelBatchWriter.WriteOutcome(model, status, "connection refused"))
+                    .toList();
+        });
+
+        ImportStatus status = run(file, 1, false);
+
+        assertEquals(ImportStatus.State.FAILED, status.state());
+        assertEquals(first.getBytes(StandardCharsets.UTF_8).length,
+                ImportCheckpoint.load(ImportCheckpoint.pathFor(file)).offset());
+    }
+
+    private ImportStatus run(Path file, int batchSize, boolean resume) throws Exception {
+        ModelRecordParser parser = new ModelRecordParser(ImportFormat.detect(file), new ObjectMapper(), validator);
+        ImportJob job = new ImportJob(file, parser, batchWriter, events::add, batchSize, 2, 8, resume);
+        job.run();
+        return job.status();
+    }
+
+    private Path write(String name, String content) throws Exception {
+        Path file = folder.getRoot().toPath().resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+}
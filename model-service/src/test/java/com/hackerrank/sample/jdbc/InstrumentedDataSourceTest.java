@@ -0,0 +1,160 @@
+package com.hackerrank.sample.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hackerrank.sample.deadline.Deadline;
+import com.hackerrank.sample.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.Test;
+
+public class InstrumentedDataSourceTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Timer holdTimer = Timer.builder("db.connection.hold").register(registry);
+
+    @Test
+    public void closeRecordsHoldTimeOnceAndClosesTarget() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(target, () -> holdTimer);
+
+        Connection tracked = dataSource.getConnection();
+        tracked.close();
+        tracked.close();
+
+        assertEquals(1, holdTimer.count());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    public void unwrapReturnsTheWrapperOrDelegatesToTarget() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(target, () -> holdTimer);
+
+        Connection tracked = dataSource.getConnection();
+
+        assertSame(tracked, tracked.unwrap(Connection.class));
+        assertTrue(tracked.isWrapperFor(Connection.class));
+        verify(connection, never()).unwrap(Connection.class);
+    }
+
+    @Test
+    public void holdTimeIsAttributedToTheCurrentRequest() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(target, () -> holdTimer);
+
+        RequestConnectionStats stats = RequestConnectionStats.begin();
+        try {
+            dataSource.getConnection().close();
+            dataSource.getConnection().close();
+        } finally {
+            RequestConnectionStats.end();
+        }
+        dataSource.getConnection().close();
+
+        assertEquals(2, stats.acquisitions());
+        assertTrue(stats.heldNanos() > 0);
+        assertEquals(3, holdTimer.count());
+    }
+
+    @Test
+    public void statementsGetTheRemainingDeadlineAsQueryTimeout() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(statement);
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(target, () -> holdTimer);
+
+        Deadline.begin(Duration.ofMillis(2500));
+        try (Connection tracked = dataSource.getConnection()) {
+            tracked.prepareStatement("select 1");
+        } finally {
+            Deadline.end();
+        }
+
+        verify(statement).setQueryTimeout(3);
+    }
+
+    @Test
+    public void expiredDeadlineFailsStatementCreation() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(target, () -> holdTimer);
+
+        try (Connection tracked = dataSource.getConnection()) {
+            Deadline.begin(Duration.ZERO);
+            tracked.createStatement();
+            fail("Expected SQLTimeoutException");
+        } catch (SQLTimeoutException expected) {
+            verify(statement).close();
+        } finally {
+            Deadline.end();
+        }
+    }
+
+    @Test
+    public void expiredDeadlineFailsCheckoutBeforeThePool() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(target, () -> holdTimer, 2, Duration.ofSeconds(30));
+
+        Deadline.begin(Duration.ZERO);
+        try {
+            dataSource.getConnection();
+            fail("Expected DeadlineExceededException");
+        } catch (DeadlineExceededException expected) {
+            verify(target, never()).getConnection();
+            assertEquals(2, dataSource.availablePermits());
+        } finally {
+            Deadline.end();
+        }
+    }
+
+    @Test
+    public void checkoutWaitIsCappedByTheDeadlineAndPermitsComeBackOnClose() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(target, () -> holdTimer, 1, Duration.ofSeconds(30));
+        Connection held = dataSource.getConnection();
+        assertEquals(0, dataSource.availablePermits());
+
+        long start = System.nanoTime();
+        Deadline.begin(Duration.ofMillis(50));
+        try {
+            dataSource.getConnection();
+            fail("Expected SQLTimeoutException");
+        } catch (SQLTimeoutException expected) {
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(5).toNanos());
+        } finally {
+            Deadline.end();
+        }
+
+        held.close();
+        held.close();
+        assertEquals(1, dataSource.availablePermits());
+        dataSource.getConnection().close();
+        verify(target, times(2)).getConnection();
+    }
+}
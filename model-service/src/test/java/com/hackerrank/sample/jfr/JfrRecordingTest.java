@@ -0,0 +1,21 @@
+package com.hackerrank.sample.jfr;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import jdk.jfr.Configuration;
+import org.junit.Test;
+
+public class JfrRecordingTest {
+    @Test
+    public void bundledConfigurationEnablesDomainEvents() throws Exception {
+        Configuration configuration = JfrRecording.bundledConfiguration();
+        Map<String, String> settings = configuration.getSettings();
+
+        assertEquals("Model Service", configuration.getLabel());
+        assertEquals("true", settings.get("com.hackerrank.sample.ControllerRequest#enabled"));
+        assertEquals("true", settings.get("com.hackerrank.sample.ServiceOperation#enabled"));
+        assertEquals("true", settings.get("com.hackerrank.sample.RepositoryCall#enabled"));
+        assertEquals("1 ms", settings.get("com.hackerrank.sample.RepositoryCall#threshold"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.hackerrank.sample.latency;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class RouteLatencyRecorderTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private RouteLatencyRecorder recorder(int maxRoutes, List<String> slo) {
+        return new RouteLatencyRecorder(
+                registry,
+                true,
+                Duration.ofSeconds(10),
+                List.of(Duration.ofSeconds(10), Duration.ofMinutes(1)),
+                Duration.ofSeconds(60),
+                1,
+                maxRoutes,
+                slo
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> window(Map<String, Object> report, int route, String window) {
+        List<Map<String, Object>> routes = (List<Map<String, Object>>) report.get("routes");
+        return (Map<String, Object>) ((Map<String, Object>) routes.get(route).get("windows")).get(window);
+    }
+
+    @Test
+    public void windowsCoverOnlyTheirMostRecentSlots() {
+        RouteLatencyRecorder recorder = recorder(16, List.of());
+        for (int i = 0; i < 100; i++) {
+            recorder.record("GET", "/model/{id}", 200, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        recorder.rotate();
+        for (int i = 0; i < 10; i++) {
+            recorder.record("GET", "/model/{id}", 200, TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        recorder.rotate();
+
+        Map<String, Object> report = recorder.report();
+
+        assertEquals(10L, window(report, 0, "PT10S").get("count"));
+        assertEquals(110L, window(report, 0, "PT1M").get("count"));
+        assertEquals(5.0, (double) window(report, 0, "PT10S").get("p99Millis"), 0.5);
+        assertTrue((double) window(report, 0, "PT1M").get("p99Millis") >= 99.0);
+    }
+
+    @Test
+    public void sloBreachesAreCountedPerWindowAndAsAMetric() {
+        RouteLatencyRecorder recorder = recorder(16, List.of("POST /model=50ms"));
+        recorder.record("POST", "/model", 201, TimeUnit.MILLISECONDS.toNanos(10));
+        recorder.record("POST", "/model", 201, TimeUnit.MILLISECONDS.toNanos(80));
+        recorder.record("POST", "/model", 201, TimeUnit.MILLISECONDS.toNanos(120));
+        recorder.rotate();
+
+        assertEquals(2L, window(recorder.report(), 0, "PT10S").get("sloBreaches"));
+        assertEquals(2.0, registry.get("http.server.slo.breaches").tag("uri", "/model").counter().count(), 0.0);
+    }
+
+    @Test
+    public void routesBeyondTheLimitShareOneKey() {
+        RouteLatencyRecorder recorder = recorder(2, List.of());
+        recorder.record("GET", "/model", 200, 1_000);
+        recorder.record("GET", "/model/page", 200, 1_000);
+        recorder.record("POST", "/model/export", 500, 1_000);
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> routes = (List<Map<String, Object>>) recorder.report().get("routes");
+        assertEquals(2, routes.size());
+        assertEquals("2xx", routes.get(0).get("status"));
+        assertEquals(RouteLatencyRecorder.OVERFLOW_ROUTE, routes.get(1).get("route"));
+    }
+
+    @Test
+    public void clientControlledMethodsAndStatusesCannotExceedTheKeyCapOrMemoryBudget() {
+        RouteLatencyRecorder recorder = new RouteLatencyRecorder(
+                registry,
+                true,
+                Duration.ofSeconds(10),
+                List.of(Duration.ofSeconds(10), Duration.ofMinutes(1), Duration.ofMinutes(5)),
+                Duration.ofSeconds(60),
+                1,
+                64,
+                List.of()
+        );
+        for (int i = 0; i < 10_000; i++) {
+            recorder.record("X-METHOD-" + i, "/model/{id}", 100 + i % 500, 1_000);
+        }
+        recorder.record("GET", "/model/{id}", 200, 1_000);
+        recorder.record("GET", "/model/{id}", 204, 1_000);
+
+        // Every unknown method folds into OTHER and every status into its class.
+        assertEquals(6, recorder.routeCount());
+        assertTrue(recorder.maxFootprintBytes() < 10L * 1024 * 1024);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void malformedSloEntryIsRejected() {
+        RouteLatencyRecorder.parseSlo(List.of("GET /model"));
+    }
+}
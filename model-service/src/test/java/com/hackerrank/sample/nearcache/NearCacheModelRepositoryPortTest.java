@@ -0,0 +1,77 @@
+package com.hackerrank.sample.nearcache;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class NearCacheModelRepositoryPortTest {
+    private final ModelRepositoryPort delegate = mock(ModelRepositoryPort.class);
+    private final PeerInvalidationTransport transport = mock(PeerInvalidationTransport.class);
+    private final NearCacheModelRepositoryPort port =
+            new NearCacheModelRepositoryPort(delegate, transport, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @Test
+    public void hitsAreServedLocallyUntilInvalidated() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(new Model(1L, "a")));
+
+        port.findById(1L);
+        port.findById(1L);
+        verify(delegate, times(1)).findById(1L);
+
+        port.invalidate(List.of(1L));
+        assertEquals("a", port.findById(1L).orElseThrow().getName());
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    public void localWritesInvalidateAndBroadcast() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(new Model(1L, "a")));
+        port.findById(1L);
+
+        port.deleteById(1L);
+        port.findById(1L);
+        port.deleteAllInBatch();
+
+        verify(delegate, times(2)).findById(1L);
+        verify(transport).publish(List.of(1L));
+        verify(transport).publishFlush();
+    }
+
+    @Test
+    public void broadcastWaitsForCommitAndSkipsRollbacks() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            port.deleteById(1L);
+            verify(transport, never()).publish(any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(transport).publish(List.of(1L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            port.deleteById(2L);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            verify(transport, never()).publish(List.of(2L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
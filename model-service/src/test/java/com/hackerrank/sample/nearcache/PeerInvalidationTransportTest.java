@@ -0,0 +1,132 @@
+package com.hackerrank.sample.nearcache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class PeerInvalidationTransportTest {
+    private static final class RecordingListener implements InvalidationListener {
+        private final List<Long> invalidated = new ArrayList<>();
+        private final CountDownLatch received = new CountDownLatch(1);
+        private int flushes;
+
+        @Override
+        public synchronized void invalidate(Collection<Long> ids) {
+            invalidated.addAll(ids);
+            received.countDown();
+        }
+
+        @Override
+        public synchronized void invalidateAll() {
+            flushes++;
+            received.countDown();
+        }
+    }
+
+    private static PeerInvalidationTransport transport(int port, List<InetSocketAddress> peers) {
+        return new PeerInvalidationTransport(port, peers, Duration.ofMillis(5), Duration.ofSeconds(1), 100, new SimpleMeterRegistry());
+    }
+
+    private static InvalidationMessage message(InvalidationMessage.Type type, long sequence, long... ids) {
+        return message(42L, type, sequence, ids);
+    }
+
+    private static InvalidationMessage message(long sender, InvalidationMessage.Type type, long sequence, long... ids) {
+        return new InvalidationMessage(type, sender, sequence, ids);
+    }
+
+    @Test
+    public void sequenceGapsAndHeartbeatsAheadTriggerAFullFlush() {
+        PeerInvalidationTransport transport = transport(0, List.of());
+        RecordingListener listener = new RecordingListener();
+        transport.addListener(listener);
+
+        transport.handle(message(InvalidationMessage.Type.INVALIDATE, 1, 10L));
+        transport.handle(message(InvalidationMessage.Type.INVALIDATE, 2, 11L));
+        transport.handle(message(InvalidationMessage.Type.INVALIDATE, 2, 11L));
+        assertEquals(List.of(10L, 11L), listener.invalidated);
+        assertEquals(0, listener.flushes);
+
+        transport.handle(message(InvalidationMessage.Type.INVALIDATE, 4, 13L));
+        assertEquals(1, listener.flushes);
+
+        transport.handle(message(InvalidationMessage.Type.HEARTBEAT, 4));
+        assertEquals(1, listener.flushes);
+        transport.handle(message(InvalidationMessage.Type.HEARTBEAT, 5));
+        assertEquals(2, listener.flushes);
+    }
+
+    @Test
+    public void silentSendersAreForgottenAndFlushWhenTheyReturn() throws InterruptedException {
+        PeerInvalidationTransport transport =
+                new PeerInvalidationTransport(0, List.of(), Duration.ofMillis(5), Duration.ofMillis(2), 100, new SimpleMeterRegistry());
+        RecordingListener listener = new RecordingListener();
+        transport.addListener(listener);
+        Thread.sleep(20);
+
+        transport.handle(message(42L, InvalidationMessage.Type.INVALIDATE, 1, 10L));
+        transport.handle(message(43L, InvalidationMessage.Type.HEARTBEAT, 0));
+        assertEquals(2, transport.trackedSenders());
+        assertEquals(0, listener.flushes);
+
+        Thread.sleep(20);
+        transport.handle(message(43L, InvalidationMessage.Type.HEARTBEAT, 0));
+        assertEquals(1, transport.trackedSenders());
+
+        transport.handle(message(42L, InvalidationMessage.Type.HEARTBEAT, 3));
+        assertEquals(1, listener.flushes);
+        assertEquals(2, transport.trackedSenders());
+    }
+
+    @Test
+    public void invalidationsReachPeersOverUdp() throws IOException, InterruptedException {
+        int receiverPort;
+        try (DatagramSocket probe = new DatagramSocket(0)) {
+            receiverPort = probe.getLocalPort();
+        }
+        PeerInvalidationTransport receiver = transport(receiverPort, List.of());
+        PeerInvalidationTransport sender = transport(0, List.of(new InetSocketAddress("127.0.0.1", receiverPort)));
+        RecordingListener listener = new RecordingListener();
+        receiver.addListener(listener);
+        receiver.start();
+        sender.start();
+        try {
+            sender.publish(List.of(7L, 8L, 7L));
+
+            assertTrue(listener.received.await(5, TimeUnit.SECONDS));
+            synchronized (listener) {
+                assertEquals(List.of(7L, 8L), listener.invalidated);
+            }
+        } finally {
+            sender.stop();
+            receiver.stop();
+        }
+    }
+
+    @Test
+    public void messagesRoundTripThroughTheWireFormat() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        message(InvalidationMessage.Type.INVALIDATE, 9, 1L, 2L, 3L).encode(buffer);
+        buffer.flip();
+
+        InvalidationMessage decoded = InvalidationMessage.decode(buffer);
+
+        assertNotNull(decoded);
+        assertEquals(InvalidationMessage.Type.INVALIDATE, decoded.type());
+        assertEquals(9L, decoded.sequence());
+        assertEquals(3, decoded.ids().length);
+    }
+}
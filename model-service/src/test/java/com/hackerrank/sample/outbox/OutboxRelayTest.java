@@ -0,0 +1,76 @@
+package com.hackerrank.sample.outbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class OutboxRelayTest {
+    private final OutboxEventRepository outboxRepository = mock(OutboxEventRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void relayOncePublishesBatchThenDeletesIt() {
+        InMemoryOutboxPublisher publisher = new InMemoryOutboxPublisher(10);
+        when(outboxRepository.findAllByOrderByIdAsc(any(Pageable.class)))
+                .thenReturn(List.of(event(1L, "ModelCreated"), event(2L, "ModelDeleted")));
+
+        assertEquals(2, relay(publisher).relayOnce());
+
+        List<OutboxMessage> recent = publisher.recent();
+        assertEquals(2, recent.size());
+        assertEquals(1L, recent.get(0).sequence());
+        assertEquals("ModelDeleted", recent.get(1).type());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertEquals(2.0, registry.get("outbox.relay.published").counter().count(), 0.0);
+        assertEquals(1L, registry.get("outbox.relay.batch.size").summary().count());
+    }
+
+    @Test
+    public void relayOnceKeepsEventsWhenPublishFails() {
+        OutboxPublisher failing = batch -> {
+            throw new IllegalStateException("broker down");
+        };
+        when(outboxRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of(event(1L, "ModelCreated")));
+
+        try {
+            relay(failing).relayOnce();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            verify(outboxRepository, never()).deleteAllByIdInBatch(anyList());
+        }
+    }
+
+    @Test
+    public void relayOnceIsNoopWhenOutboxIsEmpty() {
+        InMemoryOutboxPublisher publisher = new InMemoryOutboxPublisher(10);
+        when(outboxRepository.findAllByOrderByIdAsc(any(Pageable.class))).thenReturn(List.of());
+
+        assertEquals(0, relay(publisher).relayOnce());
+        assertTrue(publisher.recent().isEmpty());
+    }
+
+    private OutboxRelay relay(OutboxPublisher publisher) {
+        return new OutboxRelay(outboxRepository, publisher, mock(PlatformTransactionManager.class), registry,
+                true, 100, Duration.ofMillis(10), Duration.ofMillis(10), Duration.ofSeconds(1));
+    }
+
+    private static OutboxEvent event(Long id, String type) {
+        OutboxEvent event = new OutboxEvent(type, id, "{}", Instant.now());
+        event.setId(id);
+        return event;
+    }
+}
@@ -0,0 +1,105 @@
+package com.hackerrank.sample.readmodel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.hackerrank.sample.event.ModelChangeEvent;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ModelReadProjectionTest {
+    @Mock
+    private ModelRepositoryPort modelRepository;
+
+    private ModelReadProjection projection;
+
+    @Before
+    public void setUp() {
+        when(modelRepository.findAll()).thenReturn(List.of(
+                new Model(3L, "c"),
+                new Model(1L, "b"),
+                new Model(2L, "a")
+        ));
+        projection = new ModelReadProjection(modelRepository, true, "sync", Duration.ZERO);
+        projection.start();
+    }
+
+    @Test
+    public void startLoadsSortedSnapshot() {
+        assertTrue(projection.isReady());
+        assertEquals(List.of(1L, 2L, 3L), ids(projection.findAll()));
+    }
+
+    @Test
+    public void eventsAreAppliedInPlace() {
+        projection.onChange(new ModelChangeEvent.Created(5L, "e"));
+        projection.onChange(new ModelChangeEvent.Deleted(2L));
+        projection.onChange(new ModelChangeEvent.Created(0L, "z"));
+
+        assertEquals(List.of(0L, 1L, 3L, 5L), ids(projection.findAll()));
+        assertFalse(projection.findById(2L).isPresent());
+        assertEquals(4, projection.size());
+    }
+
+    @Test
+    public void replacingAModelMovesItsNameEntry() {
+        projection.onChange(new ModelChangeEvent.Created(1L, "z"));
+
+        Page<Model> page = projection.findPage(PageRequest.of(0, 10, Sort.by("name"))).get();
+
+        assertEquals(List.of(2L, 3L, 1L), ids(page.getContent()));
+        assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    public void eraseClearsSnapshot() {
+        projection.onChange(new ModelChangeEvent.Erased());
+
+        assertTrue(projection.findAll().isEmpty());
+    }
+
+    @Test
+    public void findPageSortsByNameDescending() {
+        Page<Model> page = projection.findPage(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "name"))).get();
+
+        assertEquals(List.of(3L, 1L), ids(page.getContent()));
+        assertEquals(3, page.getTotalElements());
+    }
+
+    @Test
+    public void findPageFiltersByNamePrefix() {
+        projection.onChange(new ModelChangeEvent.Created(4L, "ab"));
+        projection.onChange(new ModelChangeEvent.Created(5L, "abc"));
+
+        Page<Model> byName = projection.findPage(PageRequest.of(0, 10, Sort.by("name").and(Sort.by("id"))), "ab").get();
+        Page<Model> unsorted = projection.findPage(PageRequest.of(0, 10), "a").get();
+
+        assertEquals(List.of(4L, 5L), ids(byName.getContent()));
+        assertEquals(List.of(2L, 4L, 5L), ids(unsorted.getContent()));
+        assertFalse(projection.findPage(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")), "a").isPresent());
+        assertEquals(0, projection.findPage(PageRequest.of(0, 10), "zz").get().getTotalElements());
+    }
+
+    @Test
+    public void findPageDefersUnsupportedSortToStorage() {
+        assertFalse(projection.findPage(PageRequest.of(0, 2, Sort.by("unknown"))).isPresent());
+    }
+
+    private static List<Long> ids(List<Model> models) {
+        return models.stream().map(Model::getId).collect(Collectors.toList());
+    }
+}
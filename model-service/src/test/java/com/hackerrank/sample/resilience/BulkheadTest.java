@@ -0,0 +1,102 @@
+package com.hackerrank.sample.resilience;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.hackerrank.sample.deadline.Deadline;
+import com.hackerrank.sample.exception.DeadlineExceededException;
+import com.hackerrank.sample.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class BulkheadTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void executeReleasesPermitAfterCall() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(10), true, registry);
+
+        assertEquals("a", bulkhead.execute(() -> "a"));
+        assertEquals("b", bulkhead.execute(() -> "b"));
+        assertEquals(1, bulkhead.availablePermits());
+    }
+
+    @Test
+    public void executeReleasesPermitWhenCallFails() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(10), true, registry);
+
+        try {
+            bulkhead.execute(() -> {
+                throw new IllegalStateException("boom");
+            });
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            assertEquals(1, bulkhead.availablePermits());
+        }
+    }
+
+    @Test
+    public void executeRejectsWhenQueueTimeoutElapses() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofMillis(20), true, registry);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = Thread.ofVirtual().start(() -> bulkhead.execute(() -> {
+            holding.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+
+        try {
+            holding.await(5, TimeUnit.SECONDS);
+            bulkhead.execute(() -> "never");
+            fail("Expected ServiceUnavailableException");
+        } catch (ServiceUnavailableException ex) {
+            assertEquals("Too many concurrent requests to test.", ex.getMessage());
+            assertEquals(1.0, registry.get("bulkhead.rejected").tag("name", "test").counter().count(), 0.0);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    @Test
+    public void waitIsCappedByTheRequestDeadline() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ofSeconds(5), true, registry);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = Thread.ofVirtual().start(() -> bulkhead.execute(() -> {
+            holding.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+
+        holding.await(5, TimeUnit.SECONDS);
+        Deadline.begin(Duration.ofMillis(20));
+        long started = System.nanoTime();
+        try {
+            bulkhead.execute(() -> "never");
+            fail("Expected DeadlineExceededException");
+        } catch (DeadlineExceededException ex) {
+            assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(1)) < 0);
+            assertEquals(0.0, registry.get("bulkhead.rejected").tag("name", "test").counter().count(), 0.0);
+        } finally {
+            Deadline.end();
+            release.countDown();
+            holder.join();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.hackerrank.sample.resilience;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class SingleFlightModelRepositoryPortTest {
+    private final ModelRepositoryPort delegate = mock(ModelRepositoryPort.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlightModelRepositoryPort port = new SingleFlightModelRepositoryPort(delegate, registry);
+
+    @Test
+    public void concurrentLookupsShareOneStorageCall() throws Exception {
+        Model model = new Model(1L, "hot");
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(model);
+        });
+
+        List<Future<Optional<Model>>> results = runConcurrently(20, release);
+
+        for (Future<Optional<Model>> result : results) {
+            assertSame(model, result.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(19.0, registry.get("model.repository.single_flight").tag("role", "coalesced").counter().count(), 0.0);
+    }
+
+    @Test
+    public void followersShareFailures() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("db down");
+        });
+
+        List<Future<Optional<Model>>> results = runConcurrently(5, release);
+
+        for (Future<Optional<Model>> result : results) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                fail("expected failure");
+            } catch (ExecutionException ex) {
+                assertTrue(ex.getCause() instanceof IllegalStateException);
+            }
+        }
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    public void followersShareNotFound() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findById(1L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        List<Future<Optional<Model>>> results = runConcurrently(5, release);
+
+        for (Future<Optional<Model>> result : results) {
+            assertTrue(result.get(5, TimeUnit.SECONDS).isEmpty());
+        }
+        verify(delegate, times(1)).findById(1L);
+    }
+
+    @Test
+    public void sequentialLookupsAreNotCached() {
+        when(delegate.findById(2L)).thenReturn(Optional.empty());
+
+        assertTrue(port.findById(2L).isEmpty());
+        assertTrue(port.findById(2L).isEmpty());
+
+        verify(delegate, times(2)).findById(2L);
+    }
+
+    // Starts every caller, waits until the followers are parked on the leader's flight, then lets the leader finish.
+    private List<Future<Optional<Model>>> runConcurrently(int callers, CountDownLatch release) throws Exception {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<Optional<Model>>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> port.findById(1L)));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("model.repository.single_flight").tag("role", "coalesced").counter().count() < callers - 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        executor.shutdown();
+        return results;
+    }
+}
@@ -0,0 +1,95 @@
+package com.hackerrank.sample.routing;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSourceTest {
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replicaA = mock(DataSource.class);
+    private final DataSource replicaB = mock(DataSource.class);
+
+    @After
+    public void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadRoutingContext.clear();
+    }
+
+    @Test
+    public void writesGoToPrimary() {
+        ReadWriteRoutingDataSource routing = routing(replicas(1));
+
+        assertEquals("primary", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void readOnlyTransactionsRoundRobinOverReplicas() {
+        ReadWriteRoutingDataSource routing = routing(replicas(1));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-a", routing.determineCurrentLookupKey());
+        assertEquals("replica-b", routing.determineCurrentLookupKey());
+        assertEquals("replica-a", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void pinnedReadsGoToPrimary() {
+        ReadWriteRoutingDataSource routing = routing(replicas(1));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadRoutingContext.pinToPrimary();
+
+        assertEquals("primary", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void unhealthyReplicaIsEjectedAfterThreshold() throws SQLException {
+        ReplicaSet replicas = replicas(2);
+        Connection healthy = mock(Connection.class);
+        when(healthy.isValid(1)).thenReturn(true);
+        when(replicaA.getConnection()).thenThrow(new SQLException("down"));
+        when(replicaB.getConnection()).thenReturn(healthy);
+        ReadWriteRoutingDataSource routing = routing(replicas);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        replicas.checkHealth(Duration.ofSeconds(1));
+        assertEquals(2, replicas.healthyCount());
+        replicas.checkHealth(Duration.ofSeconds(1));
+        assertEquals(1, replicas.healthyCount());
+
+        assertEquals("replica-b", routing.determineCurrentLookupKey());
+        assertEquals("replica-b", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void readsFallBackToPrimaryWhenNoReplicaIsHealthy() throws SQLException {
+        ReplicaSet replicas = replicas(1);
+        when(replicaA.getConnection()).thenThrow(new SQLException("down"));
+        when(replicaB.getConnection()).thenThrow(new SQLException("down"));
+        ReadWriteRoutingDataSource routing = routing(replicas);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        replicas.checkHealth(Duration.ofSeconds(1));
+
+        assertEquals("primary", routing.determineCurrentLookupKey());
+    }
+
+    private ReplicaSet replicas(int failureThreshold) {
+        return new ReplicaSet(List.of(
+                new ReplicaSet.Replica("replica-a", replicaA),
+                new ReplicaSet.Replica("replica-b", replicaB)), failureThreshold);
+    }
+
+    private ReadWriteRoutingDataSource routing(ReplicaSet replicas) {
+        return new ReadWriteRoutingDataSource(primary, replicas, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,116 @@
+package com.hackerrank.sample.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hackerrank.sample.exception.BadResourceRequestException;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.service.ModelBatchWriter.WriteOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GroupCommitCoordinatorTest {
+    @Mock
+    private ModelBatchWriter batchWriter;
+
+    private GroupCommitCoordinator coordinator;
+
+    @Before
+    public void setUp() {
+        coordinator = new GroupCommitCoordinator(
+                batchWriter,
+                new SimpleMeterRegistry(),
+                true,
+                64,
+                Duration.ofMillis(500)
+        );
+        coordinator.start();
+    }
+
+    @After
+    public void tearDown() {
+        coordinator.stop();
+    }
+
+    @Test
+    public void loneSubmitIsFlushedWithoutWaitingForTheWindow() {
+        when(batchWriter.writeAll(anyList())).thenAnswer(invocation -> {
+            List<Model> models = invocation.getArgument(0);
+            return models.stream().map(model -> new WriteOutcome(model, WriteOutcome.Status.PERSISTED, null)).toList();
+        });
+
+        long start = System.nanoTime();
+        Model created = coordinator.submit(new Model(1L, "a"));
+
+        assertEquals(Long.valueOf(1L), created.getId());
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(400)) < 0);
+    }
+
+    @Test
+    public void submitsQueuedDuringACommitShareOneBatchAndKeepTheirOwnOutcome() throws Exception {
+        CountDownLatch firstFlushStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstFlush = new CountDownLatch(1);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        when(batchWriter.writeAll(anyList())).thenAnswer(invocation -> {
+            List<Model> models = invocation.getArgument(0);
+            batchSizes.add(models.size());
+            if (batchSizes.size() == 1) {
+                firstFlushStarted.countDown();
+                releaseFirstFlush.await(5, TimeUnit.SECONDS);
+            }
+            List<WriteOutcome> outcomes = new ArrayList<>();
+            for (Model model : models) {
+                WriteOutcome.Status status = model.getId() == 2L
+                        ? WriteOutcome.Status.DUPLICATE
+                        : WriteOutcome.Status.PERSISTED;
+                outcomes.add(new WriteOutcome(model, status, null));
+            }
+            return outcomes;
+        });
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Model> first = executor.submit(() -> coordinator.submit(new Model(1L, "a")));
+            assertTrue(firstFlushStarted.await(5, TimeUnit.SECONDS));
+            Future<Model> second = executor.submit(() -> coordinator.submit(new Model(2L, "b")));
+            Future<Model> third = executor.submit(() -> coordinator.submit(new Model(3L, "c")));
+            while (coordinator.pending() < 2) {
+                Thread.sleep(1);
+            }
+            releaseFirstFlush.countDown();
+
+            assertEquals(Long.valueOf(1L), first.get().getId());
+            assertEquals(Long.valueOf(3L), third.get().getId());
+            try {
+                second.get();
+                fail("Expected duplicate failure");
+            } catch (ExecutionException ex) {
+                assertTrue(ex.getCause() instanceof BadResourceRequestException);
+                assertEquals("Model with same id exists.", ex.getCause().getMessage());
+            }
+        }
+
+        assertEquals(List.of(1, 2), batchSizes);
+        verify(batchWriter, times(2)).writeAll(anyList());
+    }
+}
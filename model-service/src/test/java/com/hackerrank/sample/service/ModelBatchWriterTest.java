@@ -0,0 +1,119 @@
+package com.hackerrank.sample.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import com.hackerrank.sample.port.PartialSaveException;
+import com.hackerrank.sample.service.ModelBatchWriter.WriteOutcome;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ModelBatchWriterTest {
+    @Mock
+    private ModelRepositoryPort modelRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ModelBatchWriter batchWriter;
+
+    @Before
+    public void setUp() {
+        batchWriter = new ModelBatchWriter(modelRepository, transactionManager);
+    }
+
+    @Test
+    public void writeAllPersistsBatchInOneCall() {
+        List<Model> models = List.of(new Model(1L, "a"), new Model(2L, "b"));
+
+        List<WriteOutcome> outcomes = batchWriter.writeAll(models);
+
+        verify(modelRepository).saveAll(models);
+        verify(modelRepository, never()).save(any(Model.class));
+        assertEquals(WriteOutcome.Status.PERSISTED, outcomes.get(0).status());
+        assertEquals(WriteOutcome.Status.PERSISTED, outcomes.get(1).status());
+    }
+
+    @Test
+    public void writeAllMarksRepeatedIdsInBatchAsDuplicates() {
+        List<WriteOutcome> outcomes = batchWriter.writeAll(List.of(new Model(1L, "a"), new Model(1L, "b")));
+
+        assertEquals(WriteOutcome.Status.PERSISTED, outcomes.get(0).status());
+        assertEquals(WriteOutcome.Status.DUPLICATE, outcomes.get(1).status());
+        assertEquals("Model with same id exists.", outcomes.get(1).message());
+    }
+
+    @Test
+    public void writeAllSplitsFailingBatchInHalvesUntilTheDuplicateIsIsolated() {
+        when(modelRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Model> models = invocation.getArgument(0);
+            if (models.stream().anyMatch(model -> model.getId() == 2L)) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return models;
+        });
+
+        List<WriteOutcome> outcomes = batchWriter.writeAll(List.of(
+                new Model(1L, "a"), new Model(2L, "b"), new Model(3L, "c"), new Model(4L, "d")));
+
+        assertEquals(WriteOutcome.Status.PERSISTED, outcomes.get(0).status());
+        assertEquals(WriteOutcome.Status.DUPLICATE, outcomes.get(1).status());
+        assertEquals(WriteOutcome.Status.PERSISTED, outcomes.get(2).status());
+        assertEquals(WriteOutcome.Status.PERSISTED, outcomes.get(3).status());
+        // [1,2,3,4] -> [1,2] + [3,4] -> [1] + [2]
+        verify(modelRepository, times(5)).saveAll(anyList());
+        verify(modelRepository, never()).save(any(Model.class));
+    }
+
+    @Test
+    public void storageFailuresFailTheWholeBatchWithoutSplitting() {
+        when(modelRepository.saveAll(anyList())).thenThrow(new CannotGetJdbcConnectionException("pool exhausted"));
+
+        List<WriteOutcome> outcomes = batchWriter.writeAll(List.of(
+                new Model(1L, "a"), new Model(2L, "b"), new Model(3L, "c"), new Model(4L, "d")));
+
+        outcomes.forEach(outcome -> assertEquals(WriteOutcome.Status.FAILED, outcome.status()));
+        verify(modelRepository, times(1)).saveAll(anyList());
+        verify(modelRepository, never()).existsById(any());
+    }
+
+    @Test
+    public void rowsCommittedByAPartialSaveArePersistedAndNotRetried() {
+        when(modelRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Model> models = invocation.getArgument(0);
+            if (models.size() == 4) {
+                throw new PartialSaveException(List.of(models.get(0), models.get(2)),
+                        new DataIntegrityViolationException("duplicate"));
+            }
+            if (models.stream().anyMatch(model -> model.getId() == 2L)) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return models;
+        });
+
+        List<WriteOutcome> outcomes = batchWriter.writeAll(List.of(
+                new Model(1L, "a"), new Model(2L, "b"), new Model(3L, "c"), new Model(4L, "d")));
+
+        assertEquals(WriteOutcome.Status.PERSISTED, outcomes.get(0).status());
+        assertEquals(WriteOutcome.Status.DUPLICATE, outcomes.get(1).status());
+        assertEquals(WriteOutcome.Status.PERSISTED, outcomes.get(2).status());
+        assertEquals(WriteOutcome.Status.PERSISTED, outcomes.get(3).status());
+        // [1,2,3,4] commits 1 and 3 -> [2] + [4]
+        verify(modelRepository, times(3)).saveAll(anyList());
+    }
+}
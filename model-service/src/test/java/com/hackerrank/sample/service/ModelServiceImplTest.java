@@ -8,10 +8,13 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.hackerrank.sample.dto.ModelPageQuery;
+import com.hackerrank.sample.event.ModelChangeEvent;
 import com.hackerrank.sample.exception.BadResourceRequestException;
 import com.hackerrank.sample.exception.NoSuchResourceFoundException;
 import com.hackerrank.sample.model.Model;
 import com.hackerrank.sample.port.ModelRepositoryPort;
+import com.hackerrank.sample.readmodel.ModelReadProjection;
 import java.util.List;
 import java.util.Optional;
 import org.junit.Before;
@@ -20,16 +23,28 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ModelServiceImplTest {
     @Mock
     private ModelRepositoryPort modelRepository;
 
+    @Mock
+    private GroupCommitCoordinator groupCommit;
+
+    @Mock
+    private ModelReadProjection readModel;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ModelServiceImpl modelService;
 
@@ -86,6 +101,41 @@ public class ModelServiceImplTest {
         verify(modelRepository).save(model);
     }
 
+    @Test
+    public void createModelPublishesCreatedEvent() {
+        when(modelRepository.findById(1L)).thenReturn(Optional.empty());
+        when(modelRepository.save(model)).thenReturn(model);
+
+        modelService.createModel(model);
+
+        verify(eventPublisher).publishEvent(new ModelChangeEvent.Created(1L, "Item name"));
+    }
+
+    @Test
+    public void createModelUsesGroupCommitWhenEnabled() {
+        when(modelRepository.findById(1L)).thenReturn(Optional.empty());
+        when(groupCommit.isEnabled()).thenReturn(true);
+        when(groupCommit.submit(model)).thenReturn(model);
+
+        Model created = modelService.createModel(model);
+
+        assertSame(model, created);
+        verify(modelRepository, never()).save(any(Model.class));
+    }
+
+    @Test
+    public void createModelMapsConcurrentInsertToDuplicate() {
+        when(modelRepository.findById(1L)).thenReturn(Optional.empty());
+        when(modelRepository.save(model)).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        try {
+            modelService.createModel(model);
+            fail("Expected BadResourceRequestException");
+        } catch (BadResourceRequestException ex) {
+            assertEquals("Model with same id exists.", ex.getMessage());
+        }
+    }
+
     @Test
     public void deleteModelByIdRejectsNull() {
         try {
@@ -116,6 +166,7 @@ public class ModelServiceImplTest {
         modelService.deleteModelById(1L);
 
         verify(modelRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new ModelChangeEvent.Deleted(1L));
     }
 
     @Test
@@ -140,6 +191,17 @@ public class ModelServiceImplTest {
         }
     }
 
+    @Test
+    public void getModelByIdUsesReadModelWhenReady() {
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.findById(1L)).thenReturn(Optional.of(model));
+
+        Model found = modelService.getModelById(1L);
+
+        assertSame(model, found);
+        verify(modelRepository, never()).findById(1L);
+    }
+
     @Test
     public void getModelByIdReturnsModel() {
         when(modelRepository.findById(1L)).thenReturn(Optional.of(model));
@@ -172,7 +234,18 @@ public class ModelServiceImplTest {
         Page<Model> page = new PageImpl<>(List.of(model), pageable, 1);
         when(modelRepository.findAll(pageable)).thenReturn(page);
 
-        Page<Model> result = modelService.getModelsPage(pageable);
+        Page<Model> result = modelService.getModelsPage(ModelPageQuery.of(pageable, null));
+
+        assertEquals(page, result);
+    }
+
+    @Test
+    public void getModelsPageWithNamePrefixUsesPrefixQuery() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("name"));
+        Page<Model> page = new PageImpl<>(List.of(model), pageable, 1);
+        when(modelRepository.findByNamePrefix("mo", pageable)).thenReturn(page);
+
+        Page<Model> result = modelService.getModelsPage(ModelPageQuery.of(pageable, "mo"));
 
         assertEquals(page, result);
     }
@@ -0,0 +1,59 @@
+package com.hackerrank.sample.service;
+
+import static org.junit.Assert.assertEquals;
+
+import com.hackerrank.sample.model.Model;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WriteBehindJournalTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void drainedSegmentsAreDeletedAndOnlyUnflushedModelsReplay() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("write-behind.journal");
+        List<Long> segments = new ArrayList<>();
+        try (WriteBehindJournal journal = new WriteBehindJournal(path, false, 2)) {
+            journal.open();
+            for (long id = 1; id <= 5; id++) {
+                segments.add(journal.append(new Model(id, "m" + id)));
+            }
+            assertEquals(3, journal.segmentFiles());
+
+            journal.completed(segments.subList(0, 4));
+            assertEquals(1, journal.segmentFiles());
+        }
+
+        try (WriteBehindJournal journal = new WriteBehindJournal(path, false, 2)) {
+            List<Model> pending = journal.open();
+            assertEquals(List.of(5L), pending.stream().map(Model::getId).toList());
+
+            journal.replayed();
+            assertEquals(1, journal.segmentFiles());
+        }
+    }
+
+    @Test
+    public void tornLastLineIsSkipped() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("write-behind.journal");
+        try (WriteBehindJournal journal = new WriteBehindJournal(path, false, 100)) {
+            journal.open();
+            journal.append(new Model(1L, "a"));
+        }
+        Files.writeString(path.resolveSibling("write-behind.journal.000001"), "{\"id\":2,\"na",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (WriteBehindJournal journal = new WriteBehindJournal(path, false, 100)) {
+            assertEquals(List.of(1L), journal.open().stream().map(Model::getId).toList());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.hackerrank.sample.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hackerrank.sample.event.ModelChangeEvent;
+import com.hackerrank.sample.exception.BadResourceRequestException;
+import com.hackerrank.sample.exception.ServiceUnavailableException;
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.ModelRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WriteBehindModelWriterTest {
+    @Mock
+    private ModelRepositoryPort modelRepository;
+
+    @Mock
+    private ModelBatchWriter batchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private WriteBehindModelWriter writer;
+
+    @Before
+    public void setUp() {
+        writer = writer(100);
+    }
+
+    private WriteBehindModelWriter writer(int maxStatuses) {
+        return new WriteBehindModelWriter(
+                modelRepository,
+                batchWriter,
+                eventPublisher,
+                new SimpleMeterRegistry(),
+                true,
+                false,
+                1,
+                100,
+                Duration.ofMillis(10),
+                Duration.ofMillis(10),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(1),
+                maxStatuses,
+                "",
+                false,
+                100
+        );
+    }
+
+    @After
+    public void tearDown() {
+        writer.stop();
+    }
+
+    @Test
+    public void shouldDeferHonoursHeaderWhenNotGloballyEnabled() {
+        assertTrue(writer.shouldDefer("async"));
+        assertFalse(writer.shouldDefer("sync"));
+        assertFalse(writer.shouldDefer(null));
+    }
+
+    @Test
+    public void enqueueRejectsBeforeStart() {
+        try {
+            writer.enqueue(new Model(1L, "a"));
+            fail("Expected ServiceUnavailableException");
+        } catch (ServiceUnavailableException ex) {
+            assertEquals("Write-behind queue is not accepting writes.", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void enqueueRejectsIdsAlreadyStored() {
+        when(modelRepository.existsById(1L)).thenReturn(true);
+        writer.start();
+
+        try {
+            writer.enqueue(new Model(1L, "a"));
+            fail("Expected BadResourceRequestException");
+        } catch (BadResourceRequestException ex) {
+            assertEquals("Model with same id exists.", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void stopDrainsAcceptedModels() {
+        Model model = new Model(1L, "a");
+        when(batchWriter.writeAll(anyList())).thenReturn(List.of(
+                new ModelBatchWriter.WriteOutcome(model, ModelBatchWriter.WriteOutcome.Status.PERSISTED, null)
+        ));
+        writer.start();
+
+        WriteStatus status = writer.enqueue(model);
+        writer.stop();
+
+        assertEquals(WriteStatus.State.PENDING, status.state());
+        verify(batchWriter).writeAll(List.of(model));
+        assertEquals(WriteStatus.State.PERSISTED, writer.status(1L).get().state());
+        verify(eventPublisher).publishEvent(new ModelChangeEvent.Created(1L, "a"));
+        assertEquals(0, writer.queueDepth());
+    }
+
+    @Test
+    public void finishedStatusesAreCapped() {
+        writer = writer(1);
+        when(batchWriter.writeAll(anyList())).thenAnswer(invocation -> {
+            List<Model> models = invocation.getArgument(0);
+            return models.stream()
+                    .map(model -> new ModelBatchWriter.WriteOutcome(model, ModelBatchWriter.WriteOutcome.Status.PERSISTED, null))
+                    .toList();
+        });
+        writer.start();
+
+        writer.enqueue(new Model(1L, "a"));
+        writer.enqueue(new Model(2L, "b"));
+        writer.stop();
+
+        assertFalse(writer.status(1L).isPresent());
+        assertEquals(WriteStatus.State.PERSISTED, writer.status(2L).get().state());
+    }
+}
@@ -0,0 +1,172 @@
+package com.hackerrank.sample.shard;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.hackerrank.sample.model.Model;
+import com.hackerrank.sample.port.PartialSaveException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+public class ShardedModelRepositoryPortTest {
+    private final List<DataSource> dataSources = new ArrayList<>();
+    private ShardedModelRepositoryPort port;
+
+    @Before
+    public void setUp() {
+        String run = UUID.randomUUID().toString();
+        for (int i = 0; i < 3; i++) {
+            dataSources.add(new DriverManagerDataSource("jdbc:h2:mem:" + run + "-" + i + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        }
+        port = new ShardedModelRepositoryPort(dataSources);
+    }
+
+    @After
+    public void tearDown() {
+        for (DataSource dataSource : dataSources) {
+            new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        }
+    }
+
+    @Test
+    public void pointOperationsAreRoutedToOneShard() {
+        port.save(new Model(42L, "answer"));
+
+        int owner = port.shardOf(42L);
+        for (int i = 0; i < dataSources.size(); i++) {
+            assertEquals(i == owner ? 1 : 0, rowCount(i));
+        }
+        assertEquals("answer", port.findById(42L).orElseThrow().getName());
+        assertTrue(port.existsById(42L));
+
+        port.deleteById(42L);
+        assertFalse(port.existsById(42L));
+    }
+
+    @Test
+    public void saveRejectsDuplicateIds() {
+        port.save(new Model(1L, "a"));
+        try {
+            port.save(new Model(1L, "b"));
+            fail("Expected DataIntegrityViolationException");
+        } catch (DataIntegrityViolationException ex) {
+            assertEquals("a", port.findById(1L).orElseThrow().getName());
+        }
+    }
+
+    @Test
+    public void saveAllReportsWhatOtherShardsCommitted() {
+        port.save(new Model(1L, "taken"));
+        List<Model> batch = models(1, 30);
+
+        try {
+            port.saveAll(batch);
+            fail("expected a partial save");
+        } catch (PartialSaveException ex) {
+            assertTrue(ex.getCause() instanceof DataIntegrityViolationException);
+            int failedShard = port.shardOf(1L);
+            List<Long> expected = batch.stream()
+                    .map(Model::getId)
+                    .filter(id -> port.shardOf(id) != failedShard)
+                    .toList();
+            assertEquals(expected, ex.saved().stream().map(Model::getId).sorted().toList());
+            assertEquals(expected.size() + 1, port.findAll().size());
+        }
+    }
+
+    @Test
+    public void findAllMergesShardsInIdOrder() {
+        port.saveAll(models(1, 30));
+
+        List<Model> all = port.findAll();
+        assertEquals(30, all.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals(Long.valueOf(i + 1), all.get(i).getId());
+        }
+        for (int i = 0; i < dataSources.size(); i++) {
+            assertTrue("every shard should hold some rows", rowCount(i) > 0);
+        }
+    }
+
+    @Test
+    public void findAllPagedMergesAcrossShards() {
+        port.saveAll(models(1, 25));
+
+        Page<Model> page = port.findAll(PageRequest.of(2, 10));
+        assertEquals(25, page.getTotalElements());
+        assertEquals(5, page.getContent().size());
+        assertEquals(Long.valueOf(21), page.getContent().get(0).getId());
+
+        Page<Model> descending = port.findAll(PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "id")));
+        assertEquals(Long.valueOf(25), descending.getContent().get(0).getId());
+        assertEquals(Long.valueOf(23), descending.getContent().get(2).getId());
+    }
+
+    @Test
+    public void nameTiesFollowTheDirectionOfTheSort() {
+        port.saveAll(List.of(
+                new Model(1L, "same"),
+                new Model(2L, "same"),
+                new Model(3L, "same"),
+                new Model(4L, "other")
+        ));
+
+        Page<Model> descending = port.findAll(PageRequest.of(0, 4, Sort.by(Sort.Direction.DESC, "name")));
+        assertEquals(List.of(3L, 2L, 1L, 4L), descending.getContent().stream().map(Model::getId).toList());
+
+        Page<Model> ascending = port.findAll(PageRequest.of(0, 4, Sort.by("name")));
+        assertEquals(List.of(4L, 1L, 2L, 3L), ascending.getContent().stream().map(Model::getId).toList());
+    }
+
+    @Test
+    public void findByNamePrefixFiltersEveryShardAndEscapesWildcards() {
+        port.saveAll(List.of(
+                new Model(1L, "alpha"),
+                new Model(2L, "alps"),
+                new Model(3L, "beta"),
+                new Model(4L, "al_x"),
+                new Model(5L, "alt")
+        ));
+
+        Page<Model> page = port.findByNamePrefix("al", PageRequest.of(0, 2, Sort.by("name")));
+        assertEquals(4, page.getTotalElements());
+        assertEquals(List.of("al_x", "alpha"), page.getContent().stream().map(Model::getName).toList());
+
+        Page<Model> literal = port.findByNamePrefix("al_", PageRequest.of(0, 10));
+        assertEquals(List.of(4L), literal.getContent().stream().map(Model::getId).toList());
+    }
+
+    @Test
+    public void deleteAllInBatchClearsEveryShard() {
+        port.saveAll(models(1, 10));
+
+        port.deleteAllInBatch();
+
+        assertTrue(port.findAll().isEmpty());
+    }
+
+    private int rowCount(int shard) {
+        return new JdbcTemplate(dataSources.get(shard)).queryForObject("SELECT COUNT(*) FROM model", Integer.class);
+    }
+
+    private static List<Model> models(long from, long to) {
+        List<Model> models = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            models.add(new Model(id, "model-" + id));
+        }
+        return models;
+    }
+}
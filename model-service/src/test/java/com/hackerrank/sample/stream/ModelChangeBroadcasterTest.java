@@ -0,0 +1,145 @@
+package com.hackerrank.sample.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.hackerrank.sample.event.ModelChangeEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public class ModelChangeBroadcasterTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void resumeReplaysEventsAfterLastEventId() throws Exception {
+        ModelChangeBroadcaster broadcaster = broadcaster(16, 16, ModelChangeBroadcaster.OverflowPolicy.DROP_OLDEST);
+        broadcaster.onChange(new ModelChangeEvent.Created(1L, "a"));
+        broadcaster.onChange(new ModelChangeEvent.Deleted(1L));
+        broadcaster.onChange(new ModelChangeEvent.Erased());
+
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        broadcaster.subscribe(emitter, 1L);
+
+        assertTrue(emitter.next().contains("id:2\nevent:deleted\n"));
+        assertTrue(emitter.next().contains("id:3\nevent:erased\n"));
+    }
+
+    @Test
+    public void liveEventsFollowReplay() throws Exception {
+        ModelChangeBroadcaster broadcaster = broadcaster(16, 16, ModelChangeBroadcaster.OverflowPolicy.DROP_OLDEST);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        broadcaster.subscribe(emitter, null);
+
+        broadcaster.onChange(new ModelChangeEvent.Created(7L, "x"));
+
+        String event = emitter.next();
+        assertTrue(event.contains("id:1\nevent:created\n"));
+        assertTrue(event.contains("name=x"));
+    }
+
+    @Test
+    public void resumeOutsideHistorySendsReset() throws Exception {
+        ModelChangeBroadcaster broadcaster = broadcaster(2, 16, ModelChangeBroadcaster.OverflowPolicy.DROP_OLDEST);
+        for (long id = 1; id <= 5; id++) {
+            broadcaster.onChange(new ModelChangeEvent.Deleted(id));
+        }
+
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        broadcaster.subscribe(emitter, 1L);
+
+        assertTrue(emitter.next().startsWith("event:reset\n"));
+    }
+
+    @Test
+    public void replayLargerThanTheBufferIsNotDroppedOrDisconnected() throws Exception {
+        ModelChangeBroadcaster broadcaster = broadcaster(16, 4, ModelChangeBroadcaster.OverflowPolicy.DISCONNECT);
+        for (long id = 1; id <= 6; id++) {
+            broadcaster.onChange(new ModelChangeEvent.Deleted(id));
+        }
+
+        RecordingEmitter resumed = new RecordingEmitter(null);
+        broadcaster.subscribe(resumed, 2L);
+        for (long sequence = 3; sequence <= 6; sequence++) {
+            assertTrue(resumed.next().startsWith("id:" + sequence + "\n"));
+        }
+        assertEquals(1, broadcaster.subscriberCount());
+        assertEquals(0.0, registry.get("model.changes.disconnected").counter().count(), 0.0);
+
+        RecordingEmitter tooFarBehind = new RecordingEmitter(null);
+        broadcaster.subscribe(tooFarBehind, 1L);
+        assertTrue(tooFarBehind.next().startsWith("event:reset\n"));
+    }
+
+    @Test
+    public void disconnectPolicyRemovesSlowSubscriber() throws Exception {
+        ModelChangeBroadcaster broadcaster = broadcaster(16, 1, ModelChangeBroadcaster.OverflowPolicy.DISCONNECT);
+        CountDownLatch release = new CountDownLatch(1);
+        broadcaster.subscribe(new RecordingEmitter(release), null);
+
+        for (long id = 1; id <= 4; id++) {
+            broadcaster.onChange(new ModelChangeEvent.Deleted(id));
+        }
+
+        assertEquals(0, broadcaster.subscriberCount());
+        assertEquals(1.0, registry.get("model.changes.disconnected").counter().count(), 0.0);
+        release.countDown();
+    }
+
+    @Test
+    public void dropOldestPolicyKeepsSubscriber() throws Exception {
+        ModelChangeBroadcaster broadcaster = broadcaster(16, 1, ModelChangeBroadcaster.OverflowPolicy.DROP_OLDEST);
+        CountDownLatch release = new CountDownLatch(1);
+        broadcaster.subscribe(new RecordingEmitter(release), null);
+
+        for (long id = 1; id <= 4; id++) {
+            broadcaster.onChange(new ModelChangeEvent.Deleted(id));
+        }
+
+        assertEquals(1, broadcaster.subscriberCount());
+        assertTrue(registry.get("model.changes.dropped").counter().count() >= 1.0);
+        release.countDown();
+    }
+
+    private ModelChangeBroadcaster broadcaster(int history, int buffer, ModelChangeBroadcaster.OverflowPolicy policy) {
+        return new ModelChangeBroadcaster(registry, history, buffer, 10, policy,
+                Duration.ofSeconds(30), Duration.ofMinutes(1));
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch release;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+            }
+            events.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        String next() throws InterruptedException {
+            String event = events.poll(5, TimeUnit.SECONDS);
+            assertTrue("Expected an event", event != null);
+            return event;
+        }
+    }
+}